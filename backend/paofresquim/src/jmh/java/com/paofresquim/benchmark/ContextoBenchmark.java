@@ -0,0 +1,50 @@
+package com.paofresquim.benchmark;
+
+import com.paofresquim.PaofresquimApplication;
+import com.paofresquim.service.AgregadoVendas;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+final class ContextoBenchmark {
+
+    private ContextoBenchmark() {}
+
+    static ConfigurableApplicationContext iniciar(int totalVendas) {
+        Path base = Path.of("target", "jmh", "base-" + totalVendas + ".db");
+        Path execucao = Path.of("target", "jmh", "execucao-" + totalVendas + ".db");
+        try {
+            Files.createDirectories(base.getParent());
+            try (ConfigurableApplicationContext contexto = criarContexto(base)) {
+                VendasSinteticas.popular(contexto.getBean(JdbcTemplate.class),
+                        contexto.getBean(PlatformTransactionManager.class),
+                        contexto.getBeansOfType(AgregadoVendas.class).values(), totalVendas);
+            }
+            Files.copy(base, execucao, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao preparar base de benchmark com " + totalVendas + " vendas", e);
+        }
+        return criarContexto(execucao);
+    }
+
+    private static ConfigurableApplicationContext criarContexto(Path arquivo) {
+        return new SpringApplicationBuilder(PaofresquimApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                    "--spring.datasource.url=jdbc:sqlite:" + arquivo,
+                    "--paofresquim.dashboard.timeout-secao-ms=600000",
+                    "--logging.file.name=",
+                    "--logging.level.root=WARN",
+                    "--logging.level.com.paofresquim=WARN",
+                    "--logging.level.org.hibernate.SQL=WARN"
+                );
+    }
+}
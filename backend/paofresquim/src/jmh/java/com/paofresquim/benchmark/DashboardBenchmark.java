@@ -0,0 +1,86 @@
+package com.paofresquim.benchmark;
+
+import com.paofresquim.dto.AlertasEstoqueDTO;
+import com.paofresquim.dto.ClienteTopDTO;
+import com.paofresquim.dto.DashboardResponseDTO;
+import com.paofresquim.dto.MetricasFuncionariosDTO;
+import com.paofresquim.dto.MetricasVendasDTO;
+import com.paofresquim.dto.PendenciasDTO;
+import com.paofresquim.dto.ProdutoMaisVendidoDTO;
+import com.paofresquim.service.DashboardCache;
+import com.paofresquim.service.DashboardService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DashboardBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int vendas;
+
+    private ConfigurableApplicationContext contexto;
+    private DashboardService dashboardService;
+    private DashboardCache dashboardCache;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        contexto = ContextoBenchmark.iniciar(vendas);
+        dashboardService = contexto.getBean(DashboardService.class);
+        dashboardCache = contexto.getBean(DashboardCache.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public DashboardResponseDTO obterDashboard() {
+        dashboardCache.invalidarTudo();
+        return dashboardService.obterDashboard();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public DashboardResponseDTO obterDashboardEmCache() {
+        return dashboardService.obterDashboard();
+    }
+
+    @Benchmark
+    public MetricasVendasDTO obterMetricasVendas() {
+        return dashboardService.obterMetricasVendas();
+    }
+
+    @Benchmark
+    public List<ProdutoMaisVendidoDTO> obterProdutosMaisVendidos() {
+        return dashboardService.obterProdutosMaisVendidos();
+    }
+
+    @Benchmark
+    public List<ClienteTopDTO> obterClientesTop() {
+        return dashboardService.obterClientesTop();
+    }
+
+    @Benchmark
+    public MetricasFuncionariosDTO obterMetricasFuncionarios() {
+        return dashboardService.obterMetricasFuncionarios();
+    }
+
+    @Benchmark
+    public AlertasEstoqueDTO obterAlertasEstoque() {
+        return dashboardService.obterAlertasEstoque();
+    }
+
+    @Benchmark
+    public PendenciasDTO obterPendencias() {
+        return dashboardService.obterPendencias();
+    }
+}
@@ -0,0 +1,55 @@
+package com.paofresquim.benchmark;
+
+import com.paofresquim.dto.VendaRequestDTO;
+import com.paofresquim.dto.VendaResponseDTO;
+import com.paofresquim.service.VendaService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VendaServiceBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int vendas;
+
+    private ConfigurableApplicationContext contexto;
+    private VendaService vendaService;
+    private VendaRequestDTO novaVenda;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        contexto = ContextoBenchmark.iniciar(vendas);
+        vendaService = contexto.getBean(VendaService.class);
+        novaVenda = new VendaRequestDTO(1L, 1L, 0.5, null, "pix", "pago");
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public VendaResponseDTO criar() {
+        return vendaService.criar(novaVenda);
+    }
+
+    @Benchmark
+    public List<VendaResponseDTO> listarTodos() {
+        return vendaService.listarTodos();
+    }
+
+    @Benchmark
+    public List<VendaResponseDTO> buscarPorPeriodo() {
+        LocalDateTime agora = LocalDateTime.now();
+        return vendaService.buscarPorPeriodo(agora.minusDays(7), agora);
+    }
+}
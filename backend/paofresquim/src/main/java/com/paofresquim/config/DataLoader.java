@@ -1,5 +1,11 @@
 package com.paofresquim.config;
 
+import com.paofresquim.service.ContasReceberService;
+import com.paofresquim.service.MovimentacaoEstoqueService;
+import com.paofresquim.service.PlanoProducaoService;
+import com.paofresquim.service.PrevisaoReposicaoService;
+import com.paofresquim.service.ResumoVendasPeriodoService;
+import com.paofresquim.service.ResumoVendasService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,15 +19,37 @@ import org.springframework.util.FileCopyUtils;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.Arrays;
 
 @Component
 public class DataLoader implements CommandLineRunner {
 
     private static final Logger logger = LoggerFactory.getLogger(DataLoader.class);
 
+    private static final String ARG_RECONSTRUIR_ROLLUPS = "--reconstruir-rollups";
+
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
+    @Autowired
+    private ResumoVendasService resumoVendasService;
+
+    @Autowired
+    private ResumoVendasPeriodoService resumoVendasPeriodoService;
+
+    @Autowired
+    private ContasReceberService contasReceberService;
+
+    @Autowired
+    private MovimentacaoEstoqueService movimentacaoEstoqueService;
+
+    @Autowired
+    private PrevisaoReposicaoService previsaoReposicaoService;
+
+    @Autowired
+    private PlanoProducaoService planoProducaoService;
+
     @Override
     @Transactional
     public void run(String... args) throws Exception {
@@ -40,6 +68,17 @@ public class DataLoader implements CommandLineRunner {
                 loadCsvData("estoque_ingredientes", "database/seeding-csv/estoque_ingredientes.csv");
             }
             
+            normalizarDatasEstoque();
+            
+            if (isTableEmpty("movimentacoes_estoque")) {
+                int saldos = movimentacaoEstoqueService.registrarSaldosIniciais();
+                logger.info("movimentacoes_estoque: {} saldos iniciais registrados", saldos);
+            }
+            
+            if (isTableEmpty("receitas_produto")) {
+                loadCsvData("receitas_produto", "database/seeding-csv/receitas_produto.csv");
+            }
+            
             if (isTableEmpty("funcionarios")) {
                 loadCsvData("funcionarios", "database/seeding-csv/funcionarios.csv");
             }
@@ -48,6 +87,8 @@ public class DataLoader implements CommandLineRunner {
                 loadCsvData("vendas", "database/seeding-csv/vendas.csv");
             }
             
+            normalizarDatasVenda();
+            
             if (isTableEmpty("expediente_funcionarios")) {
                 loadCsvData("expediente_funcionarios", "database/seeding-csv/expediente_funcionarios.csv");
             }
@@ -56,6 +97,26 @@ public class DataLoader implements CommandLineRunner {
                 loadCsvData("ferias_funcionarios", "database/seeding-csv/ferias_funcionarios.csv");
             }
             
+            if (isTableEmpty("resumo_vendas_produtos")) {
+                resumoVendasService.reconstruir();
+            }
+            
+            if (isTableEmpty("resumo_vendas_hora") || Arrays.asList(args).contains(ARG_RECONSTRUIR_ROLLUPS)) {
+                resumoVendasPeriodoService.reconstruir();
+            }
+            
+            if (isTableEmpty("saldos_receber_clientes")) {
+                contasReceberService.reconstruir();
+            }
+            
+            if (isTableEmpty("previsoes_reposicao")) {
+                previsaoReposicaoService.recalcular();
+            }
+            
+            if (isTableEmpty("planos_producao")) {
+                planoProducaoService.gerarPlanoDoDia();
+            }
+            
             logger.info("=== CARGA DE DADOS CONCLUÍDA COM SUCESSO ===");
             
         } catch (Exception e) {
@@ -64,6 +125,30 @@ public class DataLoader implements CommandLineRunner {
         }
     }
 
+    private void normalizarDatasVenda() {
+        int convertidas = jdbcTemplate.update(
+            "UPDATE vendas SET data_venda = CAST(strftime('%s', data_venda, 'utc') AS INTEGER) * 1000 " +
+            "WHERE typeof(data_venda) = 'text'");
+        if (convertidas > 0) {
+            logger.info("vendas: {} datas de venda convertidas de texto para timestamp", convertidas);
+        }
+        int vencimentos = jdbcTemplate.update(
+            "UPDATE vendas SET data_vencimento = CAST(strftime('%s', data_vencimento, 'utc') AS INTEGER) * 1000 " +
+            "WHERE typeof(data_vencimento) = 'text'");
+        if (vencimentos > 0) {
+            logger.info("vendas: {} datas de vencimento convertidas de texto para timestamp", vencimentos);
+        }
+    }
+
+    private void normalizarDatasEstoque() {
+        int convertidas = jdbcTemplate.update(
+            "UPDATE estoque_ingredientes SET data_atualizacao = CAST(strftime('%s', data_atualizacao, 'utc') AS INTEGER) * 1000 " +
+            "WHERE typeof(data_atualizacao) = 'text'");
+        if (convertidas > 0) {
+            logger.info("estoque_ingredientes: {} datas de atualização convertidas de texto para timestamp", convertidas);
+        }
+    }
+
     private boolean isTableEmpty(String tableName) {
         try {
             Integer count = jdbcTemplate.queryForObject(
@@ -131,6 +216,10 @@ public class DataLoader implements CommandLineRunner {
                         Long.parseLong(values[0]), values[1], Double.parseDouble(values[2]), values[3], 
                         Double.parseDouble(values[4]), Double.parseDouble(values[5]), values[6]);
                     break;
+                case "receitas_produto":
+                    jdbcTemplate.update("INSERT INTO receitas_produto (id_produto, id_ingrediente, quantidade_por_kg) VALUES (?, ?, ?)",
+                        Long.parseLong(values[0]), Long.parseLong(values[1]), Double.parseDouble(values[2]));
+                    break;
                 case "funcionarios":
                     jdbcTemplate.update("INSERT INTO funcionarios (id_funcionario, nome, telefone, email, cargo, salario_base, data_admissao, ativo) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
                         Long.parseLong(values[0]), values[1], values[2], values[3], values[4],
@@ -142,8 +231,8 @@ public class DataLoader implements CommandLineRunner {
                         values[1].isEmpty() ? null : Long.parseLong(values[1]),
                         Long.parseLong(values[2]), Double.parseDouble(values[3]), 
                         Double.parseDouble(values[4]), Double.parseDouble(values[5]),
-                        values[6], values[7], values[8],
-                        values.length > 9 && !values[9].isEmpty() ? values[9] : null);
+                        values[6], values[7], Timestamp.valueOf(values[8]),
+                        values.length > 9 && !values[9].isEmpty() ? Timestamp.valueOf(values[9]) : null);
                     break;
                 case "expediente_funcionarios":
                     jdbcTemplate.update("INSERT INTO expediente_funcionarios (id_expediente, id_funcionario, dia_semana, hora_entrada, hora_saida, turno) VALUES (?, ?, ?, ?, ?, ?)",
@@ -0,0 +1,61 @@
+package com.paofresquim.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+@Configuration
+@Profile("producao")
+public class DataSourceConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataSourceConfig.class);
+
+    private static final int TAMANHO_POOL_ESCRITA = 1;
+
+    @Bean
+    public HikariDataSource dataSourceEscrita(DataSourceProperties properties, Environment environment) {
+        HikariDataSource dataSource = criarPool(properties, environment, "sqlite-escrita");
+        dataSource.setMaximumPoolSize(TAMANHO_POOL_ESCRITA);
+        dataSource.setMinimumIdle(TAMANHO_POOL_ESCRITA);
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource dataSourceLeitura(DataSourceProperties properties, Environment environment,
+                                              @Value("${paofresquim.datasource.leitura.tamanho-pool:4}") int tamanhoPool) {
+        HikariDataSource dataSource = criarPool(properties, environment, "sqlite-leitura");
+        dataSource.setMaximumPoolSize(tamanhoPool);
+        dataSource.setMinimumIdle(tamanhoPool);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("dataSourceEscrita") DataSource dataSourceEscrita,
+                                 @Qualifier("dataSourceLeitura") DataSource dataSourceLeitura) {
+        logger.info("Datasource de produção: transações readOnly no pool de leitura, gravações no pool de escrita");
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(dataSourceEscrita);
+        dataSource.setReadOnlyDataSource(dataSourceLeitura);
+        return dataSource;
+    }
+
+    private HikariDataSource criarPool(DataSourceProperties properties, Environment environment, String nome) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+        dataSource.setPoolName(nome);
+        return dataSource;
+    }
+}
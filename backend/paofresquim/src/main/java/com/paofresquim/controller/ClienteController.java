@@ -2,6 +2,7 @@ package com.paofresquim.controller;
 
 import com.paofresquim.dto.ClienteRequestDTO;
 import com.paofresquim.dto.ClienteResponseDTO;
+import com.paofresquim.dto.PaginaRequestDTO;
 import com.paofresquim.service.ClienteService;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
@@ -26,18 +27,8 @@ public class ClienteController {
     private ClienteService clienteService;
 
     @GetMapping
-    public ResponseEntity<List<ClienteResponseDTO>> listarTodos() {
-        String traceId = UUID.randomUUID().toString().substring(0, 8);
-        MDC.put("traceId", traceId);
-        
-        try {
-            logger.info("Iniciando listagem de todos os clientes");
-            List<ClienteResponseDTO> clientes = clienteService.listarTodos();
-            logger.info("Listagem concluída. Total de clientes: {}", clientes.size());
-            return ResponseEntity.ok(clientes);
-        } finally {
-            MDC.clear();
-        }
+    public ResponseEntity<?> listar(PaginaRequestDTO pagina) {
+        return ListagemPaginada.listar(logger, "clientes", clienteService, pagina);
     }
 
     @GetMapping("/{id}")
@@ -0,0 +1,89 @@
+package com.paofresquim.controller;
+
+import com.paofresquim.dto.ClienteInadimplenteDTO;
+import com.paofresquim.dto.FaixaVencimentoDTO;
+import com.paofresquim.service.ContasReceberService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/contas-receber")
+public class ContasReceberController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContasReceberController.class);
+
+    private static final int LIMITE_MAXIMO_DEVEDORES = 100;
+
+    @Autowired
+    private ContasReceberService contasReceberService;
+
+    @GetMapping("/faixas-vencimento")
+    public ResponseEntity<?> obterFaixasVencimento() {
+        String traceId = UUID.randomUUID().toString().substring(0, 8);
+        MDC.put("traceId", traceId);
+
+        try {
+            logger.info("Calculando faixas de vencimento das contas a receber");
+            List<FaixaVencimentoDTO> faixas = contasReceberService.obterFaixasVencimento();
+            return ResponseEntity.ok(faixas);
+        } catch (Exception e) {
+            logger.error("Erro ao calcular faixas de vencimento: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().body("Erro ao calcular faixas de vencimento: " + e.getMessage());
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    @GetMapping("/devedores")
+    public ResponseEntity<?> obterMaioresDevedores(@RequestParam(defaultValue = "10") int limite) {
+        String traceId = UUID.randomUUID().toString().substring(0, 8);
+        MDC.put("traceId", traceId);
+
+        try {
+            if (limite < 1 || limite > LIMITE_MAXIMO_DEVEDORES) {
+                logger.warn("Limite de devedores inválido: {}", limite);
+                return ResponseEntity.badRequest().body("O limite deve estar entre 1 e " + LIMITE_MAXIMO_DEVEDORES);
+            }
+            logger.info("Buscando os {} maiores devedores", limite);
+            List<ClienteInadimplenteDTO> devedores = contasReceberService.obterMaioresDevedores(limite);
+            logger.info("Encontrados {} clientes com saldo pendente", devedores.size());
+            return ResponseEntity.ok(devedores);
+        } catch (Exception e) {
+            logger.error("Erro ao buscar maiores devedores: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().body("Erro ao buscar maiores devedores: " + e.getMessage());
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    @GetMapping("/clientes/{idCliente}")
+    public ResponseEntity<ClienteInadimplenteDTO> obterSaldoCliente(@PathVariable Long idCliente) {
+        String traceId = UUID.randomUUID().toString().substring(0, 8);
+        MDC.put("traceId", traceId);
+
+        try {
+            logger.info("Buscando saldo a receber do cliente ID: {}", idCliente);
+            Optional<ClienteInadimplenteDTO> saldo = contasReceberService.obterSaldoCliente(idCliente);
+            if (saldo.isPresent()) {
+                return ResponseEntity.ok(saldo.get());
+            } else {
+                logger.info("Cliente ID {} sem saldo pendente", idCliente);
+                return ResponseEntity.notFound().build();
+            }
+        } finally {
+            MDC.clear();
+        }
+    }
+}
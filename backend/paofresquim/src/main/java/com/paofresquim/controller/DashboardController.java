@@ -1,6 +1,17 @@
 package com.paofresquim.controller;
 
+import com.paofresquim.dto.AlertasEstoqueDTO;
+import com.paofresquim.dto.ClienteTopDTO;
+import com.paofresquim.dto.CrescimentoVendasDTO;
 import com.paofresquim.dto.DashboardResponseDTO;
+import com.paofresquim.dto.MetricasFuncionariosDTO;
+import com.paofresquim.dto.MetricasVendasDTO;
+import com.paofresquim.dto.PendenciasDTO;
+import com.paofresquim.dto.ProdutoMaisVendidoDTO;
+import com.paofresquim.dto.ResumoDashboardDTO;
+import com.paofresquim.dto.SecaoDashboard;
+import com.paofresquim.exception.ValidacaoException;
+import com.paofresquim.service.CrescimentoVendasService;
 import com.paofresquim.service.DashboardService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -9,8 +20,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @RestController
@@ -22,16 +37,23 @@ public class DashboardController {
     @Autowired
     private DashboardService dashboardService;
 
+    @Autowired
+    private CrescimentoVendasService crescimentoVendasService;
+
     @GetMapping
-    public ResponseEntity<?> obterDashboard() {
+    public ResponseEntity<?> obterDashboard(@RequestParam(name = "sections", required = false) List<String> sections) {
         String traceId = UUID.randomUUID().toString().substring(0, 8);
         MDC.put("traceId", traceId);
         
         try {
-            logger.info("Solicitando dados do dashboard");
-            DashboardResponseDTO dashboard = dashboardService.obterDashboard();
+            Set<SecaoDashboard> secoes = SecaoDashboard.fromCodigos(sections);
+            logger.info("Solicitando dados do dashboard. Seções: {}", secoes);
+            DashboardResponseDTO dashboard = dashboardService.obterDashboard(secoes);
             logger.info("Dashboard gerado com sucesso");
             return ResponseEntity.ok(dashboard);
+        } catch (ValidacaoException e) {
+            logger.warn("Seções de dashboard inválidas: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
         } catch (Exception e) {
             logger.error("Erro ao obter dashboard: {}", e.getMessage(), e);
             return ResponseEntity.internalServerError().body("Erro interno ao gerar dashboard: " + e.getMessage());
@@ -40,6 +62,58 @@ public class DashboardController {
         }
     }
 
+    @GetMapping("/resumo")
+    public ResponseEntity<?> obterResumo() {
+        String traceId = UUID.randomUUID().toString().substring(0, 8);
+        MDC.put("traceId", traceId);
+        
+        try {
+            logger.info("Gerando resumo do dashboard");
+            ResumoDashboardDTO resumo = dashboardService.obterResumo();
+            return ResponseEntity.ok(resumo);
+        } catch (Exception e) {
+            logger.error("Erro ao obter resumo do dashboard: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().body("Erro ao gerar resumo do dashboard: " + e.getMessage());
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    @GetMapping("/pendencias")
+    public ResponseEntity<?> obterPendencias() {
+        String traceId = UUID.randomUUID().toString().substring(0, 8);
+        MDC.put("traceId", traceId);
+        
+        try {
+            logger.info("Buscando pendências de pagamento");
+            PendenciasDTO pendencias = dashboardService.obterDashboard(EnumSet.of(SecaoDashboard.PENDENCIAS)).pendencias();
+            logger.info("Encontradas {} vendas pendentes", pendencias.vendasPendentes());
+            return ResponseEntity.ok(pendencias);
+        } catch (Exception e) {
+            logger.error("Erro ao obter pendências: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().body("Erro ao buscar pendências: " + e.getMessage());
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    @GetMapping("/crescimento")
+    public ResponseEntity<?> obterCrescimento() {
+        String traceId = UUID.randomUUID().toString().substring(0, 8);
+        MDC.put("traceId", traceId);
+        
+        try {
+            logger.info("Calculando crescimento de vendas");
+            CrescimentoVendasDTO crescimento = crescimentoVendasService.obterCrescimento();
+            return ResponseEntity.ok(crescimento);
+        } catch (Exception e) {
+            logger.error("Erro ao obter crescimento de vendas: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().body("Erro ao calcular crescimento de vendas: " + e.getMessage());
+        } finally {
+            MDC.clear();
+        }
+    }
+
     @GetMapping("/vendas-hoje")
     public ResponseEntity<?> obterVendasHoje() {
         String traceId = UUID.randomUUID().toString().substring(0, 8);
@@ -47,8 +121,8 @@ public class DashboardController {
         
         try {
             logger.info("Calculando vendas de hoje");
-            DashboardResponseDTO dashboard = dashboardService.obterDashboard();
-            Double vendasHoje = dashboard.metricasVendas().vendasHoje();
+            MetricasVendasDTO metricasVendas = dashboardService.obterDashboard(EnumSet.of(SecaoDashboard.METRICAS_VENDAS)).metricasVendas();
+            Double vendasHoje = metricasVendas.vendasHoje();
             logger.info("Vendas de hoje: R$ {}", vendasHoje);
             return ResponseEntity.ok(vendasHoje);
         } catch (Exception e) {
@@ -66,8 +140,8 @@ public class DashboardController {
         
         try {
             logger.info("Calculando vendas do mês");
-            DashboardResponseDTO dashboard = dashboardService.obterDashboard();
-            Double vendasMes = dashboard.metricasVendas().vendasMes();
+            MetricasVendasDTO metricasVendas = dashboardService.obterDashboard(EnumSet.of(SecaoDashboard.METRICAS_VENDAS)).metricasVendas();
+            Double vendasMes = metricasVendas.vendasMes();
             logger.info("Vendas do mês: R$ {}", vendasMes);
             return ResponseEntity.ok(vendasMes);
         } catch (Exception e) {
@@ -85,9 +159,9 @@ public class DashboardController {
         
         try {
             logger.info("Buscando produtos mais vendidos");
-            DashboardResponseDTO dashboard = dashboardService.obterDashboard();
-            logger.info("Encontrados {} produtos mais vendidos", dashboard.produtosMaisVendidos().size());
-            return ResponseEntity.ok(dashboard.produtosMaisVendidos());
+            List<ProdutoMaisVendidoDTO> produtosMaisVendidos = dashboardService.obterDashboard(EnumSet.of(SecaoDashboard.PRODUTOS_MAIS_VENDIDOS)).produtosMaisVendidos();
+            logger.info("Encontrados {} produtos mais vendidos", produtosMaisVendidos.size());
+            return ResponseEntity.ok(produtosMaisVendidos);
         } catch (Exception e) {
             logger.error("Erro ao obter produtos mais vendidos: {}", e.getMessage(), e);
             return ResponseEntity.internalServerError().body("Erro ao buscar produtos mais vendidos: " + e.getMessage());
@@ -103,9 +177,9 @@ public class DashboardController {
         
         try {
             logger.info("Buscando clientes top");
-            DashboardResponseDTO dashboard = dashboardService.obterDashboard();
-            logger.info("Encontrados {} clientes top", dashboard.clientesTop().size());
-            return ResponseEntity.ok(dashboard.clientesTop());
+            List<ClienteTopDTO> clientesTop = dashboardService.obterDashboard(EnumSet.of(SecaoDashboard.CLIENTES_TOP)).clientesTop();
+            logger.info("Encontrados {} clientes top", clientesTop.size());
+            return ResponseEntity.ok(clientesTop);
         } catch (Exception e) {
             logger.error("Erro ao obter clientes top: {}", e.getMessage(), e);
             return ResponseEntity.internalServerError().body("Erro ao buscar clientes top: " + e.getMessage());
@@ -121,8 +195,8 @@ public class DashboardController {
         
         try {
             logger.info("Buscando métricas de funcionários");
-            DashboardResponseDTO dashboard = dashboardService.obterDashboard();
-            return ResponseEntity.ok(dashboard.metricasFuncionarios());
+            MetricasFuncionariosDTO metricasFuncionarios = dashboardService.obterDashboard(EnumSet.of(SecaoDashboard.METRICAS_FUNCIONARIOS)).metricasFuncionarios();
+            return ResponseEntity.ok(metricasFuncionarios);
         } catch (Exception e) {
             logger.error("Erro ao obter métricas de funcionários: {}", e.getMessage(), e);
             return ResponseEntity.internalServerError().body("Erro ao buscar métricas de funcionários: " + e.getMessage());
@@ -138,9 +212,9 @@ public class DashboardController {
         
         try {
             logger.info("Buscando alertas de estoque");
-            DashboardResponseDTO dashboard = dashboardService.obterDashboard();
-            logger.info("Encontrados {} alertas de estoque", dashboard.alertasEstoque().ingredientesParaRepor());
-            return ResponseEntity.ok(dashboard.alertasEstoque());
+            AlertasEstoqueDTO alertasEstoque = dashboardService.obterDashboard(EnumSet.of(SecaoDashboard.ALERTAS_ESTOQUE)).alertasEstoque();
+            logger.info("Encontrados {} alertas de estoque", alertasEstoque.ingredientesParaRepor());
+            return ResponseEntity.ok(alertasEstoque);
         } catch (Exception e) {
             logger.error("Erro ao obter alertas de estoque: {}", e.getMessage(), e);
             return ResponseEntity.internalServerError().body("Erro ao buscar alertas de estoque: " + e.getMessage());
@@ -1,17 +1,29 @@
 package com.paofresquim.controller;
 
+import com.paofresquim.dto.ContagemEstoqueRequestDTO;
+import com.paofresquim.dto.ContagemEstoqueResponseDTO;
 import com.paofresquim.dto.EstoqueIngredienteRequestDTO;
 import com.paofresquim.dto.EstoqueIngredienteResponseDTO;
+import com.paofresquim.dto.EstoqueNaDataDTO;
+import com.paofresquim.dto.LoteIngredienteDTO;
+import com.paofresquim.dto.MovimentacaoEstoqueRequestDTO;
+import com.paofresquim.dto.MovimentacaoEstoqueResponseDTO;
+import com.paofresquim.dto.PaginaRequestDTO;
+import com.paofresquim.dto.PrevisaoReposicaoDTO;
 import com.paofresquim.service.EstoqueIngredienteService;
+import com.paofresquim.service.MovimentacaoEstoqueService;
+import com.paofresquim.service.PrevisaoReposicaoService;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -22,22 +34,21 @@ public class EstoqueIngredienteController {
 
     private static final Logger logger = LoggerFactory.getLogger(EstoqueIngredienteController.class);
 
+    private static final int LIMITE_MAXIMO_MOVIMENTACOES = 500;
+    private static final int DIAS_MAXIMO_VENCIMENTO = 365;
+
     @Autowired
     private EstoqueIngredienteService estoqueIngredienteService;
 
+    @Autowired
+    private MovimentacaoEstoqueService movimentacaoEstoqueService;
+
+    @Autowired
+    private PrevisaoReposicaoService previsaoReposicaoService;
+
     @GetMapping
-    public ResponseEntity<List<EstoqueIngredienteResponseDTO>> listarTodos() {
-        String traceId = UUID.randomUUID().toString().substring(0, 8);
-        MDC.put("traceId", traceId);
-        
-        try {
-            logger.info("Listando todos os ingredientes em estoque");
-            List<EstoqueIngredienteResponseDTO> ingredientes = estoqueIngredienteService.listarTodos();
-            logger.info("Listagem concluída. Total de ingredientes: {}", ingredientes.size());
-            return ResponseEntity.ok(ingredientes);
-        } finally {
-            MDC.clear();
-        }
+    public ResponseEntity<?> listar(PaginaRequestDTO pagina) {
+        return ListagemPaginada.listar(logger, "ingredientes em estoque", estoqueIngredienteService, pagina);
     }
 
     @GetMapping("/{id}")
@@ -105,6 +116,22 @@ public class EstoqueIngredienteController {
         }
     }
 
+    @GetMapping("/previsao-reposicao")
+    public ResponseEntity<List<PrevisaoReposicaoDTO>> listarPrevisaoReposicao(
+            @RequestParam(defaultValue = "false") boolean apenasRepor) {
+        String traceId = UUID.randomUUID().toString().substring(0, 8);
+        MDC.put("traceId", traceId);
+        
+        try {
+            logger.info("Buscando previsão de reposição. Apenas para repor: {}", apenasRepor);
+            List<PrevisaoReposicaoDTO> previsoes = previsaoReposicaoService.listar(apenasRepor);
+            logger.info("Encontradas {} previsões de reposição", previsoes.size());
+            return ResponseEntity.ok(previsoes);
+        } finally {
+            MDC.clear();
+        }
+    }
+
     @PostMapping
     public ResponseEntity<?> criarIngrediente(@Valid @RequestBody EstoqueIngredienteRequestDTO ingredienteRequest) {
         String traceId = UUID.randomUUID().toString().substring(0, 8);
@@ -218,4 +245,126 @@ public class EstoqueIngredienteController {
             MDC.clear();
         }
     }
+
+    @PostMapping("/contagem")
+    public ResponseEntity<ContagemEstoqueResponseDTO> registrarContagem(@Valid @RequestBody ContagemEstoqueRequestDTO contagemRequest) {
+        String traceId = UUID.randomUUID().toString().substring(0, 8);
+        MDC.put("traceId", traceId);
+        
+        try {
+            logger.info("Registrando contagem de estoque com {} itens", contagemRequest.itens().size());
+            ContagemEstoqueResponseDTO contagem = estoqueIngredienteService.registrarContagem(contagemRequest);
+            logger.info("Contagem registrada: {} ajustados, {} sem alteração, {} rejeitados",
+                       contagem.ajustados(), contagem.semAlteracao(), contagem.rejeitados());
+            return ResponseEntity.ok(contagem);
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    @GetMapping("/lotes/vencendo")
+    public ResponseEntity<?> listarLotesVencendo(@RequestParam(defaultValue = "7") int dias) {
+        String traceId = UUID.randomUUID().toString().substring(0, 8);
+        MDC.put("traceId", traceId);
+        
+        try {
+            if (dias < 0 || dias > DIAS_MAXIMO_VENCIMENTO) {
+                logger.warn("Prazo de vencimento inválido: {}", dias);
+                return ResponseEntity.badRequest().body("O prazo deve estar entre 0 e " + DIAS_MAXIMO_VENCIMENTO + " dias");
+            }
+            logger.info("Buscando lotes que vencem nos próximos {} dias", dias);
+            List<LoteIngredienteDTO> lotes = movimentacaoEstoqueService.listarLotesVencendo(dias);
+            logger.info("Encontrados {} lotes vencendo em até {} dias", lotes.size(), dias);
+            return ResponseEntity.ok(lotes);
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    @GetMapping("/{id}/lotes")
+    public ResponseEntity<List<LoteIngredienteDTO>> listarLotes(@PathVariable Long id) {
+        String traceId = UUID.randomUUID().toString().substring(0, 8);
+        MDC.put("traceId", traceId);
+        
+        try {
+            logger.info("Listando lotes com saldo do ingrediente ID: {}", id);
+            Optional<List<LoteIngredienteDTO>> lotes = movimentacaoEstoqueService.listarLotes(id);
+            if (lotes.isPresent()) {
+                return ResponseEntity.ok(lotes.get());
+            } else {
+                logger.warn("Ingrediente não encontrado com ID: {}", id);
+                return ResponseEntity.notFound().build();
+            }
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    @GetMapping("/{id}/movimentacoes")
+    public ResponseEntity<?> listarMovimentacoes(@PathVariable Long id,
+                                                 @RequestParam(defaultValue = "50") int limite) {
+        String traceId = UUID.randomUUID().toString().substring(0, 8);
+        MDC.put("traceId", traceId);
+        
+        try {
+            if (limite < 1 || limite > LIMITE_MAXIMO_MOVIMENTACOES) {
+                logger.warn("Limite de movimentações inválido: {}", limite);
+                return ResponseEntity.badRequest().body("O limite deve estar entre 1 e " + LIMITE_MAXIMO_MOVIMENTACOES);
+            }
+            logger.info("Listando as últimas {} movimentações do ingrediente ID: {}", limite, id);
+            List<MovimentacaoEstoqueResponseDTO> movimentacoes = movimentacaoEstoqueService.listarMovimentacoes(id, limite);
+            logger.info("Encontradas {} movimentações para o ingrediente ID: {}", movimentacoes.size(), id);
+            return ResponseEntity.ok(movimentacoes);
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    @PostMapping("/{id}/movimentacoes")
+    public ResponseEntity<?> registrarMovimentacao(@PathVariable Long id,
+                                                   @Valid @RequestBody MovimentacaoEstoqueRequestDTO movimentacaoRequest) {
+        String traceId = UUID.randomUUID().toString().substring(0, 8);
+        MDC.put("traceId", traceId);
+        
+        try {
+            logger.info("Registrando movimentação '{}' no ingrediente ID: {}", movimentacaoRequest.tipo(), id);
+            Optional<MovimentacaoEstoqueResponseDTO> movimentacao = 
+                movimentacaoEstoqueService.registrarManual(id, movimentacaoRequest);
+            if (movimentacao.isPresent()) {
+                logger.info("Movimentação registrada com ID: {}", movimentacao.get().idMovimentacao());
+                return ResponseEntity.status(HttpStatus.CREATED).body(movimentacao.get());
+            } else {
+                logger.warn("Ingrediente não encontrado para movimentação. ID: {}", id);
+                return ResponseEntity.notFound().build();
+            }
+        } catch (Exception e) {
+            logger.error("Erro ao registrar movimentação no ingrediente ID {}: {}", id, e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    @GetMapping("/{id}/estoque-em")
+    public ResponseEntity<EstoqueNaDataDTO> obterEstoqueEm(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime data) {
+        String traceId = UUID.randomUUID().toString().substring(0, 8);
+        MDC.put("traceId", traceId);
+        
+        try {
+            logger.info("Calculando estoque do ingrediente ID {} em {}", id, data);
+            Optional<EstoqueNaDataDTO> estoque = movimentacaoEstoqueService.obterEstoqueEm(id, data);
+            if (estoque.isPresent()) {
+                logger.info("Estoque em {} calculado com {} movimentações após o checkpoint", 
+                           data, estoque.get().movimentacoesAplicadas());
+                return ResponseEntity.ok(estoque.get());
+            } else {
+                logger.warn("Ingrediente não encontrado com ID: {}", id);
+                return ResponseEntity.notFound().build();
+            }
+        } finally {
+            MDC.clear();
+        }
+    }
 }
\ No newline at end of file
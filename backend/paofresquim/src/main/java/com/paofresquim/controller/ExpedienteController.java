@@ -2,6 +2,7 @@ package com.paofresquim.controller;
 
 import com.paofresquim.dto.ExpedienteRequestDTO;
 import com.paofresquim.dto.ExpedienteResponseDTO;
+import com.paofresquim.dto.PaginaRequestDTO;
 import com.paofresquim.service.ExpedienteService;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
@@ -26,18 +27,8 @@ public class ExpedienteController {
     private ExpedienteService expedienteService;
 
     @GetMapping
-    public ResponseEntity<List<ExpedienteResponseDTO>> listarTodos() {
-        String traceId = UUID.randomUUID().toString().substring(0, 8);
-        MDC.put("traceId", traceId);
-        
-        try {
-            logger.info("Listando todos os expedientes");
-            List<ExpedienteResponseDTO> expedientes = expedienteService.listarTodos();
-            logger.info("Listagem concluída. Total de expedientes: {}", expedientes.size());
-            return ResponseEntity.ok(expedientes);
-        } finally {
-            MDC.clear();
-        }
+    public ResponseEntity<?> listar(PaginaRequestDTO pagina) {
+        return ListagemPaginada.listar(logger, "expedientes", expedienteService, pagina);
     }
 
     @GetMapping("/{id}")
@@ -2,6 +2,7 @@ package com.paofresquim.controller;
 
 import com.paofresquim.dto.FeriasRequestDTO;
 import com.paofresquim.dto.FeriasResponseDTO;
+import com.paofresquim.dto.PaginaRequestDTO;
 import com.paofresquim.service.FeriasService;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
@@ -26,18 +27,8 @@ public class FeriasController {
     private FeriasService feriasService;
 
     @GetMapping
-    public ResponseEntity<List<FeriasResponseDTO>> listarTodas() {
-        String traceId = UUID.randomUUID().toString().substring(0, 8);
-        MDC.put("traceId", traceId);
-        
-        try {
-            logger.info("Listando todas as férias");
-            List<FeriasResponseDTO> ferias = feriasService.listarTodos();
-            logger.info("Listagem concluída. Total de férias: {}", ferias.size());
-            return ResponseEntity.ok(ferias);
-        } finally {
-            MDC.clear();
-        }
+    public ResponseEntity<?> listar(PaginaRequestDTO pagina) {
+        return ListagemPaginada.listar(logger, "férias", feriasService, pagina);
     }
 
     @GetMapping("/{id}")
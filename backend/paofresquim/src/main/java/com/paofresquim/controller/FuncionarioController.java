@@ -2,6 +2,7 @@ package com.paofresquim.controller;
 
 import com.paofresquim.dto.FuncionarioRequestDTO;
 import com.paofresquim.dto.FuncionarioResponseDTO;
+import com.paofresquim.dto.PaginaRequestDTO;
 import com.paofresquim.service.FuncionarioService;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
@@ -26,18 +27,8 @@ public class FuncionarioController {
     private FuncionarioService funcionarioService;
 
     @GetMapping
-    public ResponseEntity<List<FuncionarioResponseDTO>> listarTodos() {
-        String traceId = UUID.randomUUID().toString().substring(0, 8);
-        MDC.put("traceId", traceId);
-        
-        try {
-            logger.info("Listando todos os funcionários");
-            List<FuncionarioResponseDTO> funcionarios = funcionarioService.listarTodos();
-            logger.info("Listagem concluída. Total de funcionários: {}", funcionarios.size());
-            return ResponseEntity.ok(funcionarios);
-        } finally {
-            MDC.clear();
-        }
+    public ResponseEntity<?> listar(PaginaRequestDTO pagina) {
+        return ListagemPaginada.listar(logger, "funcionários", funcionarioService, pagina);
     }
 
     @GetMapping("/{id}")
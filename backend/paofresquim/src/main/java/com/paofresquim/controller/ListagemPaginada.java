@@ -0,0 +1,41 @@
+package com.paofresquim.controller;
+
+import com.paofresquim.dto.PaginaRequestDTO;
+import com.paofresquim.dto.PaginaResponseDTO;
+import com.paofresquim.service.BaseService;
+import org.slf4j.Logger;
+import org.slf4j.MDC;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.UUID;
+
+final class ListagemPaginada {
+
+    private ListagemPaginada() {
+    }
+
+    static <RES> ResponseEntity<?> listar(Logger logger, String recurso, BaseService<?, ?, ?, RES> service,
+                                          PaginaRequestDTO pagina) {
+        String traceId = UUID.randomUUID().toString().substring(0, 8);
+        MDC.put("traceId", traceId);
+        
+        try {
+            if (!pagina.paginada()) {
+                logger.info("Listando todos os registros de {}", recurso);
+                List<RES> todos = service.listarTodos();
+                logger.info("Listagem concluída. Total de {}: {}", recurso, todos.size());
+                return ResponseEntity.ok(todos);
+            }
+
+            logger.info("Listando página de {}. Tamanho: {}, ordenação: {} {}",
+                       recurso, pagina.tamanho(), pagina.ordenacao(), pagina.direcao());
+            PaginaResponseDTO<RES> resultado = service.listarPagina(pagina);
+            logger.info("Página concluída. Registros: {}, próxima página: {}",
+                       resultado.itens().size(), resultado.proximoCursor() != null);
+            return ResponseEntity.ok(resultado);
+        } finally {
+            MDC.clear();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.paofresquim.controller;
+
+import com.paofresquim.dto.PlanoProducaoResponseDTO;
+import com.paofresquim.service.PlanoProducaoService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/producao")
+public class ProducaoController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProducaoController.class);
+
+    @Autowired
+    private PlanoProducaoService planoProducaoService;
+
+    @GetMapping("/plano")
+    public ResponseEntity<PlanoProducaoResponseDTO> buscarPlano(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate data) {
+        String traceId = UUID.randomUUID().toString().substring(0, 8);
+        MDC.put("traceId", traceId);
+
+        try {
+            LocalDate dataPlano = data != null ? data : LocalDate.now();
+            logger.info("Buscando plano de produção de {}", dataPlano);
+            Optional<PlanoProducaoResponseDTO> plano = planoProducaoService.buscarPlano(dataPlano);
+            if (plano.isPresent()) {
+                return ResponseEntity.ok(plano.get());
+            } else {
+                logger.warn("Plano de produção não gerado para {}", dataPlano);
+                return ResponseEntity.notFound().build();
+            }
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    @PostMapping("/plano")
+    public ResponseEntity<?> gerarPlano(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate data) {
+        String traceId = UUID.randomUUID().toString().substring(0, 8);
+        MDC.put("traceId", traceId);
+
+        try {
+            LocalDate dataPlano = data != null ? data : LocalDate.now();
+            logger.info("Gerando plano de produção de {}", dataPlano);
+            PlanoProducaoResponseDTO plano = planoProducaoService.gerarPlano(dataPlano);
+            logger.info("Plano de produção de {} gerado com {} kg no total", dataPlano, plano.quantidadeTotal());
+            return ResponseEntity.ok(plano);
+        } catch (Exception e) {
+            logger.error("Erro ao gerar plano de produção: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().body("Erro ao gerar plano de produção: " + e.getMessage());
+        } finally {
+            MDC.clear();
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package com.paofresquim.controller;
 
+import com.paofresquim.dto.ItemReceitaRequestDTO;
+import com.paofresquim.dto.ItemReceitaResponseDTO;
+import com.paofresquim.dto.PaginaRequestDTO;
 import com.paofresquim.dto.ProdutoRequestDTO;
 import com.paofresquim.dto.ProdutoResponseDTO;
 import com.paofresquim.service.ProdutoService;
+import com.paofresquim.service.ReceitaProdutoService;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,19 +29,12 @@ public class ProdutoController {
     @Autowired
     private ProdutoService produtoService;
 
+    @Autowired
+    private ReceitaProdutoService receitaProdutoService;
+
     @GetMapping
-    public ResponseEntity<List<ProdutoResponseDTO>> listarTodos() {
-        String traceId = UUID.randomUUID().toString().substring(0, 8);
-        MDC.put("traceId", traceId);
-        
-        try {
-            logger.info("Listando todos os produtos");
-            List<ProdutoResponseDTO> produtos = produtoService.listarTodos();
-            logger.info("Listagem concluída. Total de produtos: {}", produtos.size());
-            return ResponseEntity.ok(produtos);
-        } finally {
-            MDC.clear();
-        }
+    public ResponseEntity<?> listar(PaginaRequestDTO pagina) {
+        return ListagemPaginada.listar(logger, "produtos", produtoService, pagina);
     }
 
     @GetMapping("/{id}")
@@ -157,4 +154,48 @@ public class ProdutoController {
             MDC.clear();
         }
     }
+
+    @GetMapping("/{id}/receita")
+    public ResponseEntity<List<ItemReceitaResponseDTO>> buscarReceita(@PathVariable Long id) {
+        String traceId = UUID.randomUUID().toString().substring(0, 8);
+        MDC.put("traceId", traceId);
+        
+        try {
+            logger.info("Buscando receita do produto ID: {}", id);
+            Optional<List<ItemReceitaResponseDTO>> receita = receitaProdutoService.buscarReceita(id);
+            if (receita.isPresent()) {
+                logger.info("Receita do produto ID {} possui {} ingredientes", id, receita.get().size());
+                return ResponseEntity.ok(receita.get());
+            } else {
+                logger.warn("Produto não encontrado com ID: {}", id);
+                return ResponseEntity.notFound().build();
+            }
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    @PutMapping("/{id}/receita")
+    public ResponseEntity<?> substituirReceita(@PathVariable Long id,
+                                               @Valid @RequestBody List<@Valid ItemReceitaRequestDTO> itens) {
+        String traceId = UUID.randomUUID().toString().substring(0, 8);
+        MDC.put("traceId", traceId);
+        
+        try {
+            logger.info("Substituindo receita do produto ID: {}", id);
+            Optional<List<ItemReceitaResponseDTO>> receita = receitaProdutoService.substituirReceita(id, itens);
+            if (receita.isPresent()) {
+                logger.info("Receita do produto ID {} atualizada com {} ingredientes", id, receita.get().size());
+                return ResponseEntity.ok(receita.get());
+            } else {
+                logger.warn("Produto não encontrado para atualização de receita. ID: {}", id);
+                return ResponseEntity.notFound().build();
+            }
+        } catch (Exception e) {
+            logger.error("Erro ao atualizar receita do produto ID {}: {}", id, e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } finally {
+            MDC.clear();
+        }
+    }
 }
\ No newline at end of file
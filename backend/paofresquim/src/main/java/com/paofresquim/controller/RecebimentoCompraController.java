@@ -0,0 +1,61 @@
+package com.paofresquim.controller;
+
+import com.paofresquim.dto.RecebimentoCompraRequestDTO;
+import com.paofresquim.dto.RecebimentoCompraResponseDTO;
+import com.paofresquim.service.RecebimentoCompraService;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/recebimentos-compra")
+public class RecebimentoCompraController {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecebimentoCompraController.class);
+
+    @Autowired
+    private RecebimentoCompraService recebimentoCompraService;
+
+    @GetMapping("/{id}")
+    public ResponseEntity<RecebimentoCompraResponseDTO> buscarPorId(@PathVariable Long id) {
+        String traceId = UUID.randomUUID().toString().substring(0, 8);
+        MDC.put("traceId", traceId);
+
+        try {
+            logger.info("Buscando recebimento de compra por ID: {}", id);
+            Optional<RecebimentoCompraResponseDTO> recebimento = recebimentoCompraService.buscarPorId(id);
+            if (recebimento.isPresent()) {
+                return ResponseEntity.ok(recebimento.get());
+            } else {
+                logger.warn("Recebimento de compra não encontrado com ID: {}", id);
+                return ResponseEntity.notFound().build();
+            }
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    @PostMapping
+    public ResponseEntity<RecebimentoCompraResponseDTO> registrarRecebimento(@Valid @RequestBody RecebimentoCompraRequestDTO recebimentoRequest) {
+        String traceId = UUID.randomUUID().toString().substring(0, 8);
+        MDC.put("traceId", traceId);
+
+        try {
+            logger.info("Registrando recebimento de compra com {} itens", recebimentoRequest.itens().size());
+            RecebimentoCompraResponseDTO recebimento = recebimentoCompraService.registrar(recebimentoRequest);
+            logger.info("Recebimento registrado com sucesso. ID: {}, Total: R$ {}",
+                       recebimento.idRecebimento(), recebimento.valorTotal());
+            return ResponseEntity.status(HttpStatus.CREATED).body(recebimento);
+        } finally {
+            MDC.clear();
+        }
+    }
+}
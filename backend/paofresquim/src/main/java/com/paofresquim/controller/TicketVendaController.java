@@ -0,0 +1,61 @@
+package com.paofresquim.controller;
+
+import com.paofresquim.dto.TicketVendaRequestDTO;
+import com.paofresquim.dto.TicketVendaResponseDTO;
+import com.paofresquim.service.TicketVendaService;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/vendas/tickets")
+public class TicketVendaController {
+
+    private static final Logger logger = LoggerFactory.getLogger(TicketVendaController.class);
+
+    @Autowired
+    private TicketVendaService ticketVendaService;
+
+    @GetMapping("/{id}")
+    public ResponseEntity<TicketVendaResponseDTO> buscarPorId(@PathVariable Long id) {
+        String traceId = UUID.randomUUID().toString().substring(0, 8);
+        MDC.put("traceId", traceId);
+        
+        try {
+            logger.info("Buscando ticket de venda por ID: {}", id);
+            Optional<TicketVendaResponseDTO> ticket = ticketVendaService.buscarPorId(id);
+            if (ticket.isPresent()) {
+                return ResponseEntity.ok(ticket.get());
+            } else {
+                logger.warn("Ticket de venda não encontrado com ID: {}", id);
+                return ResponseEntity.notFound().build();
+            }
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    @PostMapping
+    public ResponseEntity<TicketVendaResponseDTO> criarTicket(@Valid @RequestBody TicketVendaRequestDTO ticketRequest) {
+        String traceId = UUID.randomUUID().toString().substring(0, 8);
+        MDC.put("traceId", traceId);
+        
+        try {
+            logger.info("Criando ticket de venda com {} itens", ticketRequest.itens().size());
+            TicketVendaResponseDTO ticketCriado = ticketVendaService.criar(ticketRequest);
+            logger.info("Ticket criado com sucesso. ID: {}, Total: R$ {}",
+                       ticketCriado.idTicket(), ticketCriado.total());
+            return ResponseEntity.status(HttpStatus.CREATED).body(ticketCriado);
+        } finally {
+            MDC.clear();
+        }
+    }
+}
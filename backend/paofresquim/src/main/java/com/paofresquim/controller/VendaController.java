@@ -1,7 +1,15 @@
 package com.paofresquim.controller;
 
+import com.paofresquim.dto.FiltroVendasDTO;
+import com.paofresquim.dto.FormatoExportacao;
+import com.paofresquim.dto.PaginaRequestDTO;
 import com.paofresquim.dto.VendaRequestDTO;
 import com.paofresquim.dto.VendaResponseDTO;
+import com.paofresquim.exception.ConflitoDadosException;
+import com.paofresquim.exception.ServicoIndisponivelException;
+import com.paofresquim.service.ExportacaoVendasService;
+import com.paofresquim.service.FilaGravacaoVendas;
+import com.paofresquim.service.IdempotenciaService;
 import com.paofresquim.service.VendaService;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
@@ -9,9 +17,12 @@ import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -27,19 +38,18 @@ public class VendaController {
     @Autowired
     private VendaService vendaService;
 
+    @Autowired
+    private ExportacaoVendasService exportacaoVendasService;
+
+    @Autowired
+    private FilaGravacaoVendas filaGravacaoVendas;
+
+    @Autowired
+    private IdempotenciaService idempotenciaService;
+
     @GetMapping
-    public ResponseEntity<List<VendaResponseDTO>> listarTodas() {
-        String traceId = UUID.randomUUID().toString().substring(0, 8);
-        MDC.put("traceId", traceId);
-        
-        try {
-            logger.info("Listando todas as vendas");
-            List<VendaResponseDTO> vendas = vendaService.listarTodos();
-            logger.info("Listagem concluída. Total de vendas: {}", vendas.size());
-            return ResponseEntity.ok(vendas);
-        } finally {
-            MDC.clear();
-        }
+    public ResponseEntity<?> listar(PaginaRequestDTO pagina) {
+        return ListagemPaginada.listar(logger, "vendas", vendaService, pagina);
     }
 
     @GetMapping("/{id}")
@@ -109,6 +119,41 @@ public class VendaController {
         }
     }
 
+    @GetMapping("/exportar")
+    public ResponseEntity<StreamingResponseBody> exportar(
+            @RequestParam(defaultValue = "ndjson") String formato,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime inicio,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime fim,
+            @RequestParam(required = false) Long idCliente,
+            @RequestParam(required = false) Long idProduto,
+            @RequestParam(required = false) String statusPagamento,
+            @RequestParam(required = false) String formaPagamento) {
+        String traceId = UUID.randomUUID().toString().substring(0, 8);
+        MDC.put("traceId", traceId);
+        
+        try {
+            FormatoExportacao formatoExportacao = FormatoExportacao.fromCodigo(formato);
+            FiltroVendasDTO filtro = new FiltroVendasDTO(inicio, fim, idCliente, idProduto, statusPagamento, formaPagamento);
+            logger.info("Exportando vendas em {}. Filtro: {}", formatoExportacao.getCodigo(), filtro);
+            
+            StreamingResponseBody corpo = saida -> {
+                MDC.put("traceId", traceId);
+                try {
+                    exportacaoVendasService.exportar(filtro, formatoExportacao, saida);
+                } finally {
+                    MDC.clear();
+                }
+            };
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(formatoExportacao.getContentType()))
+                    .header(HttpHeaders.CONTENT_DISPOSITION,
+                            "attachment; filename=\"vendas." + formatoExportacao.getCodigo() + "\"")
+                    .body(corpo);
+        } finally {
+            MDC.clear();
+        }
+    }
+
     @GetMapping("/status-pagamento")
     public ResponseEntity<List<VendaResponseDTO>> buscarPorStatusPagamento(@RequestParam String status) {
         String traceId = UUID.randomUUID().toString().substring(0, 8);
@@ -140,16 +185,24 @@ public class VendaController {
     }
 
     @PostMapping
-    public ResponseEntity<?> criarVenda(@Valid @RequestBody VendaRequestDTO vendaRequest) {
+    public ResponseEntity<?> criarVenda(@Valid @RequestBody VendaRequestDTO vendaRequest,
+                                        @RequestHeader(value = "Idempotency-Key", required = false) String chaveIdempotencia) {
         String traceId = UUID.randomUUID().toString().substring(0, 8);
         MDC.put("traceId", traceId);
         
         try {
             logger.info("Criando nova venda para produto ID: {}", vendaRequest.idProduto());
-            VendaResponseDTO vendaCriada = vendaService.criar(vendaRequest);
+            VendaResponseDTO vendaCriada = idempotenciaService.executar(chaveIdempotencia, "POST /api/vendas",
+                    vendaRequest, VendaResponseDTO.class, registrar -> filaGravacaoVendas.gravar(vendaRequest, registrar));
             logger.info("Venda criada com sucesso. ID: {}, Total: R$ {}", 
                        vendaCriada.idVenda(), vendaCriada.total());
             return ResponseEntity.status(HttpStatus.CREATED).body(vendaCriada);
+        } catch (ConflitoDadosException e) {
+            logger.warn("Idempotency-Key reutilizada: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        } catch (ServicoIndisponivelException e) {
+            logger.warn("Venda não gravada: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
         } catch (Exception e) {
             logger.error("Erro ao criar venda: {}", e.getMessage());
             return ResponseEntity.badRequest().body(e.getMessage());
@@ -160,20 +213,25 @@ public class VendaController {
 
     @PutMapping("/{id}")
     public ResponseEntity<?> atualizarVenda(@PathVariable Long id, 
-                                          @Valid @RequestBody VendaRequestDTO vendaRequest) {
+                                          @Valid @RequestBody VendaRequestDTO vendaRequest,
+                                          @RequestHeader(value = "Idempotency-Key", required = false) String chaveIdempotencia) {
         String traceId = UUID.randomUUID().toString().substring(0, 8);
         MDC.put("traceId", traceId);
         
         try {
             logger.info("Atualizando venda ID: {}", id);
-            Optional<VendaResponseDTO> vendaAtualizada = vendaService.atualizar(id, vendaRequest);
-            if (vendaAtualizada.isPresent()) {
+            VendaResponseDTO vendaAtualizada = idempotenciaService.executar(chaveIdempotencia, "PUT /api/vendas/" + id,
+                    vendaRequest, VendaResponseDTO.class, registrar -> vendaService.atualizar(id, vendaRequest, registrar).orElse(null));
+            if (vendaAtualizada != null) {
                 logger.info("Venda atualizada com sucesso. ID: {}", id);
-                return ResponseEntity.ok(vendaAtualizada.get());
+                return ResponseEntity.ok(vendaAtualizada);
             } else {
                 logger.warn("Venda não encontrada para atualização. ID: {}", id);
                 return ResponseEntity.notFound().build();
             }
+        } catch (ConflitoDadosException e) {
+            logger.warn("Idempotency-Key reutilizada: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
         } catch (Exception e) {
             logger.error("Erro ao atualizar venda ID {}: {}", id, e.getMessage());
             return ResponseEntity.badRequest().body(e.getMessage());
@@ -5,5 +5,6 @@ import java.util.List;
 public record AlertasEstoqueDTO(
     Integer ingredientesParaRepor,
     Integer produtosEstoqueMinimo,
-    List<String> alertasCriticos
+    List<String> alertasCriticos,
+    List<LoteIngredienteDTO> lotesVencendo
 ) {}
\ No newline at end of file
@@ -0,0 +1,8 @@
+package com.paofresquim.dto;
+
+public record ClienteInadimplenteDTO(
+    Long idCliente,
+    String nomeCliente,
+    Double totalPendente,
+    Long vendasPendentes
+) {}
@@ -0,0 +1,13 @@
+package com.paofresquim.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+public record ContagemEstoqueRequestDTO(
+    String observacao,
+
+    @NotEmpty(message = "A contagem deve ter ao menos um item")
+    List<@Valid ItemContagemEstoqueDTO> itens
+) {}
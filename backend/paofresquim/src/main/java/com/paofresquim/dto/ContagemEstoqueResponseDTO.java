@@ -0,0 +1,10 @@
+package com.paofresquim.dto;
+
+import java.util.List;
+
+public record ContagemEstoqueResponseDTO(
+    int ajustados,
+    int semAlteracao,
+    int rejeitados,
+    List<ResultadoContagemDTO> resultados
+) {}
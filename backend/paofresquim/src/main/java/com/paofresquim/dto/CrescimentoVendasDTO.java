@@ -0,0 +1,10 @@
+package com.paofresquim.dto;
+
+public record CrescimentoVendasDTO(
+    Double vendasHoje,
+    Double vendasDiaComparacao,
+    Double crescimentoDiario,
+    Double vendasMes,
+    Double vendasMesComparacao,
+    Double crescimentoMensal
+) {}
@@ -1,11 +1,15 @@
 package com.paofresquim.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.List;
 
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record DashboardResponseDTO(
     MetricasVendasDTO metricasVendas,
     List<ProdutoMaisVendidoDTO> produtosMaisVendidos,
     List<ClienteTopDTO> clientesTop,
     MetricasFuncionariosDTO metricasFuncionarios,
-    AlertasEstoqueDTO alertasEstoque
-) {}
\ No newline at end of file
+    AlertasEstoqueDTO alertasEstoque,
+    PendenciasDTO pendencias
+) {}
@@ -0,0 +1,11 @@
+package com.paofresquim.dto;
+
+import java.time.LocalDateTime;
+
+public record EstoqueNaDataDTO(
+    Long idIngrediente,
+    LocalDateTime data,
+    Double quantidadeEstoque,
+    LocalDateTime dataCheckpoint,
+    Long movimentacoesAplicadas
+) {}
@@ -0,0 +1,7 @@
+package com.paofresquim.dto;
+
+public record FaixaVencimentoDTO(
+    String faixa,
+    Double total,
+    Long vendas
+) {}
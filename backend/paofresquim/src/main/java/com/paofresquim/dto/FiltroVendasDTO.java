@@ -0,0 +1,12 @@
+package com.paofresquim.dto;
+
+import java.time.LocalDateTime;
+
+public record FiltroVendasDTO(
+    LocalDateTime inicio,
+    LocalDateTime fim,
+    Long idCliente,
+    Long idProduto,
+    String statusPagamento,
+    String formaPagamento
+) {}
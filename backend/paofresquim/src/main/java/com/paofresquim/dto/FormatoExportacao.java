@@ -0,0 +1,34 @@
+package com.paofresquim.dto;
+
+import com.paofresquim.exception.ValidacaoException;
+
+import java.util.Arrays;
+
+public enum FormatoExportacao {
+    NDJSON("ndjson", "application/x-ndjson"),
+    CSV("csv", "text/csv");
+
+    private final String codigo;
+    private final String contentType;
+
+    FormatoExportacao(String codigo, String contentType) {
+        this.codigo = codigo;
+        this.contentType = contentType;
+    }
+
+    public String getCodigo() {
+        return codigo;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public static FormatoExportacao fromCodigo(String codigo) {
+        return Arrays.stream(values())
+                .filter(formato -> formato.codigo.equalsIgnoreCase(codigo.trim()))
+                .findFirst()
+                .orElseThrow(() -> new ValidacaoException("Formato de exportação inválido: " + codigo +
+                        ". Formatos válidos: ndjson, csv"));
+    }
+}
@@ -0,0 +1,14 @@
+package com.paofresquim.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+
+public record ItemContagemEstoqueDTO(
+    Long idIngrediente,
+
+    String nomeIngrediente,
+
+    @NotNull(message = "Quantidade contada é obrigatória")
+    @PositiveOrZero(message = "Quantidade contada não pode ser negativa")
+    Double quantidade
+) {}
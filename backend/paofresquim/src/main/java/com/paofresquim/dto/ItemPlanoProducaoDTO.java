@@ -0,0 +1,12 @@
+package com.paofresquim.dto;
+
+public record ItemPlanoProducaoDTO(
+    Long idProduto,
+    String nomeProduto,
+    String turno,
+    Double demandaPrevista,
+    Double quantidadePlanejada,
+    Double fatorAtendimento,
+    Long idIngredienteLimitante,
+    String nomeIngredienteLimitante
+) {}
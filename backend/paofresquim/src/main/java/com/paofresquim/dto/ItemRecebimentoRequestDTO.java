@@ -0,0 +1,22 @@
+package com.paofresquim.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+
+import java.time.LocalDate;
+
+public record ItemRecebimentoRequestDTO(
+    @NotNull(message = "ID do ingrediente é obrigatório")
+    Long idIngrediente,
+
+    @NotNull(message = "Quantidade recebida é obrigatória")
+    @Positive(message = "Quantidade recebida deve ser positiva")
+    Double quantidade,
+
+    @NotNull(message = "Custo unitário é obrigatório")
+    @PositiveOrZero(message = "Custo unitário não pode ser negativo")
+    Double custoUnitario,
+
+    LocalDate dataValidade
+) {}
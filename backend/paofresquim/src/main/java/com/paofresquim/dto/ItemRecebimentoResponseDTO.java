@@ -0,0 +1,12 @@
+package com.paofresquim.dto;
+
+import java.time.LocalDate;
+
+public record ItemRecebimentoResponseDTO(
+    Long idIngrediente,
+    String nomeIngrediente,
+    Double quantidade,
+    Double custoUnitario,
+    Double subtotal,
+    LocalDate dataValidade
+) {}
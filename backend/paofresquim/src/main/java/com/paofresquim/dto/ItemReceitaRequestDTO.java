@@ -0,0 +1,13 @@
+package com.paofresquim.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+public record ItemReceitaRequestDTO(
+    @NotNull(message = "Ingrediente é obrigatório")
+    Long idIngrediente,
+    
+    @NotNull(message = "Quantidade por kg é obrigatória")
+    @Positive(message = "Quantidade por kg deve ser positiva")
+    Double quantidadePorKg
+) {}
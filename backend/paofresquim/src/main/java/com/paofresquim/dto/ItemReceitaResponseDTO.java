@@ -0,0 +1,8 @@
+package com.paofresquim.dto;
+
+public record ItemReceitaResponseDTO(
+    Long idIngrediente,
+    String nomeIngrediente,
+    String unidadeMedida,
+    Double quantidadePorKg
+) {}
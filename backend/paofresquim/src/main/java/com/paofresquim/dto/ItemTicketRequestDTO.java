@@ -0,0 +1,15 @@
+package com.paofresquim.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+public record ItemTicketRequestDTO(
+    @NotNull(message = "ID do produto é obrigatório")
+    Long idProduto,
+
+    @NotNull(message = "Peso vendido é obrigatório")
+    @Positive(message = "Peso vendido deve ser positivo")
+    Double pesoVendido,
+
+    Double precoKg
+) {}
@@ -0,0 +1,16 @@
+package com.paofresquim.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public record LoteIngredienteDTO(
+    Long idLote,
+    Long idIngrediente,
+    String nomeIngrediente,
+    String unidadeMedida,
+    Long idRecebimento,
+    Double quantidadeRecebida,
+    Double quantidadeRestante,
+    LocalDate dataValidade,
+    LocalDateTime dataEntrada
+) {}
@@ -0,0 +1,14 @@
+package com.paofresquim.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+public record MovimentacaoEstoqueRequestDTO(
+    @NotBlank(message = "Tipo da movimentação é obrigatório")
+    String tipo,
+    
+    @NotNull(message = "Quantidade é obrigatória")
+    Double quantidade,
+    
+    String observacao
+) {}
@@ -0,0 +1,13 @@
+package com.paofresquim.dto;
+
+import java.time.LocalDateTime;
+
+public record MovimentacaoEstoqueResponseDTO(
+    Long idMovimentacao,
+    Long idIngrediente,
+    String tipo,
+    Double quantidade,
+    Long idVenda,
+    String observacao,
+    LocalDateTime dataMovimentacao
+) {}
@@ -0,0 +1,12 @@
+package com.paofresquim.dto;
+
+public record PaginaRequestDTO(
+    Integer tamanho,
+    String cursor,
+    String ordenacao,
+    String direcao
+) {
+    public boolean paginada() {
+        return tamanho != null || cursor != null;
+    }
+}
@@ -0,0 +1,12 @@
+package com.paofresquim.dto;
+
+import java.util.List;
+
+public record PaginaResponseDTO<T>(
+    List<T> itens,
+    Integer tamanho,
+    String proximoCursor,
+    String ordenacao,
+    String direcao,
+    List<String> ordenacoesDisponiveis
+) {}
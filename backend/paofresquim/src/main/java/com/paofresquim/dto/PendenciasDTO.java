@@ -0,0 +1,11 @@
+package com.paofresquim.dto;
+
+import java.util.List;
+
+public record PendenciasDTO(
+    Double totalPendencias,
+    Long vendasPendentes,
+    List<ClienteInadimplenteDTO> clientesInadimplentes,
+    Double totalSemCliente,
+    Long vendasSemCliente
+) {}
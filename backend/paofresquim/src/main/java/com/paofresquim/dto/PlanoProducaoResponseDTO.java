@@ -0,0 +1,12 @@
+package com.paofresquim.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record PlanoProducaoResponseDTO(
+    LocalDate data,
+    LocalDateTime calculadoEm,
+    Double quantidadeTotal,
+    List<TurnoProducaoDTO> turnos
+) {}
@@ -0,0 +1,16 @@
+package com.paofresquim.dto;
+
+import java.time.LocalDateTime;
+
+public record PrevisaoReposicaoDTO(
+    Long idIngrediente,
+    String nomeIngrediente,
+    String unidadeMedida,
+    Double estoqueAtual,
+    Double estoqueMinimo,
+    Double consumoMedioDiario,
+    Double diasAteRuptura,
+    Double quantidadeSugerida,
+    Boolean reporAgora,
+    LocalDateTime calculadoEm
+) {}
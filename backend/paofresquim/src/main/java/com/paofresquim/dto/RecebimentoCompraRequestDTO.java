@@ -0,0 +1,17 @@
+package com.paofresquim.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+public record RecebimentoCompraRequestDTO(
+    @NotBlank(message = "Fornecedor é obrigatório")
+    String fornecedor,
+
+    String numeroNota,
+
+    @NotEmpty(message = "O recebimento deve ter ao menos um item")
+    List<@Valid ItemRecebimentoRequestDTO> itens
+) {}
@@ -0,0 +1,13 @@
+package com.paofresquim.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record RecebimentoCompraResponseDTO(
+    Long idRecebimento,
+    String fornecedor,
+    String numeroNota,
+    LocalDateTime dataRecebimento,
+    Double valorTotal,
+    List<ItemRecebimentoResponseDTO> itens
+) {}
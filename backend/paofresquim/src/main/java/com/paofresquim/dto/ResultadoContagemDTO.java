@@ -0,0 +1,12 @@
+package com.paofresquim.dto;
+
+public record ResultadoContagemDTO(
+    int linha,
+    Long idIngrediente,
+    String nomeIngrediente,
+    Double quantidadeAnterior,
+    Double quantidadeContada,
+    Double diferenca,
+    String status,
+    String mensagem
+) {}
@@ -0,0 +1,12 @@
+package com.paofresquim.dto;
+
+import java.util.List;
+
+public record ResumoDashboardDTO(
+    Double vendasHoje,
+    Double vendasMes,
+    Long totalClientes,
+    Integer alertasEstoque,
+    List<ProdutoMaisVendidoDTO> produtosMaisVendidos,
+    PendenciasDTO pendencias
+) {}
@@ -0,0 +1,48 @@
+package com.paofresquim.dto;
+
+import com.paofresquim.exception.ValidacaoException;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+public enum SecaoDashboard {
+    METRICAS_VENDAS("metricasVendas"),
+    PRODUTOS_MAIS_VENDIDOS("produtosMaisVendidos"),
+    CLIENTES_TOP("clientesTop"),
+    METRICAS_FUNCIONARIOS("metricasFuncionarios"),
+    ALERTAS_ESTOQUE("alertasEstoque"),
+    PENDENCIAS("pendencias");
+
+    private final String codigo;
+
+    SecaoDashboard(String codigo) {
+        this.codigo = codigo;
+    }
+
+    public String getCodigo() {
+        return codigo;
+    }
+
+    public static SecaoDashboard fromCodigo(String codigo) {
+        return Arrays.stream(values())
+                .filter(secao -> secao.codigo.equalsIgnoreCase(codigo.trim()))
+                .findFirst()
+                .orElseThrow(() -> new ValidacaoException("Seção de dashboard inválida: " + codigo +
+                        ". Seções válidas: metricasVendas, produtosMaisVendidos, clientesTop, " +
+                        "metricasFuncionarios, alertasEstoque, pendencias"));
+    }
+
+    public static Set<SecaoDashboard> fromCodigos(List<String> codigos) {
+        if (codigos == null || codigos.isEmpty()) {
+            return EnumSet.allOf(SecaoDashboard.class);
+        }
+        EnumSet<SecaoDashboard> secoes = EnumSet.noneOf(SecaoDashboard.class);
+        codigos.stream()
+                .filter(codigo -> !codigo.isBlank())
+                .map(SecaoDashboard::fromCodigo)
+                .forEach(secoes::add);
+        return secoes.isEmpty() ? EnumSet.allOf(SecaoDashboard.class) : secoes;
+    }
+}
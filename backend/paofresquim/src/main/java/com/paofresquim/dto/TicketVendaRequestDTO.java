@@ -0,0 +1,20 @@
+package com.paofresquim.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+public record TicketVendaRequestDTO(
+    Long idCliente,
+    String formaPagamento,
+    String statusPagamento,
+
+    @NotEmpty(message = "O ticket deve ter ao menos um item")
+    List<@Valid ItemTicketRequestDTO> itens
+) {
+    public TicketVendaRequestDTO {
+        if (formaPagamento == null) formaPagamento = "dinheiro";
+        if (statusPagamento == null) statusPagamento = "pago";
+    }
+}
@@ -0,0 +1,15 @@
+package com.paofresquim.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record TicketVendaResponseDTO(
+    Long idTicket,
+    Long idCliente,
+    String nomeCliente,
+    String formaPagamento,
+    String statusPagamento,
+    LocalDateTime dataVenda,
+    Double total,
+    List<VendaResponseDTO> itens
+) {}
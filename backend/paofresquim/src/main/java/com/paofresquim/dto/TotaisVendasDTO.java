@@ -0,0 +1,15 @@
+package com.paofresquim.dto;
+
+public record TotaisVendasDTO(
+    Double totalVendas,
+    Long numeroVendas,
+    Double ticketMedio
+) {
+    public TotaisVendasDTO(Double totalVendas, Long numeroVendas) {
+        this(totalVendas, numeroVendas, numeroVendas > 0 ? totalVendas / numeroVendas : 0.0);
+    }
+
+    public TotaisVendasDTO somar(TotaisVendasDTO outro) {
+        return new TotaisVendasDTO(totalVendas + outro.totalVendas, numeroVendas + outro.numeroVendas);
+    }
+}
@@ -0,0 +1,9 @@
+package com.paofresquim.dto;
+
+import java.util.List;
+
+public record TurnoProducaoDTO(
+    String turno,
+    Double quantidadeTotal,
+    List<ItemPlanoProducaoDTO> itens
+) {}
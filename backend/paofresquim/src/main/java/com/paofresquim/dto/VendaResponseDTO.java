@@ -14,5 +14,6 @@ public record VendaResponseDTO(
     String formaPagamento,
     String statusPagamento,
     LocalDateTime dataVenda,
-    LocalDateTime dataVencimento
+    LocalDateTime dataVencimento,
+    Long idTicket
 ) {}
\ No newline at end of file
@@ -0,0 +1,59 @@
+package com.paofresquim.entity;
+
+import jakarta.persistence.*;
+
+@Entity
+@Table(name = "baixas_lote",
+       indexes = @Index(name = "idx_baixas_lote_venda", columnList = "id_venda"))
+public class BaixaLote {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id_baixa")
+    private Long idBaixa;
+
+    @Column(name = "id_movimentacao", nullable = false, updatable = false)
+    private Long idMovimentacao;
+
+    @Column(name = "id_venda", nullable = false, updatable = false)
+    private Long idVenda;
+
+    @Column(name = "id_lote", nullable = false, updatable = false)
+    private Long idLote;
+
+    @Column(name = "quantidade", nullable = false, updatable = false)
+    private Double quantidade;
+
+    public BaixaLote() {}
+
+    public Long getIdBaixa() {
+        return idBaixa;
+    }
+
+    public Long getIdMovimentacao() {
+        return idMovimentacao;
+    }
+
+    public Long getIdVenda() {
+        return idVenda;
+    }
+
+    public Long getIdLote() {
+        return idLote;
+    }
+
+    public Double getQuantidade() {
+        return quantidade;
+    }
+
+    @Override
+    public String toString() {
+        return "BaixaLote{" +
+                "idBaixa=" + idBaixa +
+                ", idMovimentacao=" + idMovimentacao +
+                ", idVenda=" + idVenda +
+                ", idLote=" + idLote +
+                ", quantidade=" + quantidade +
+                '}';
+    }
+}
@@ -0,0 +1,75 @@
+package com.paofresquim.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "chaves_idempotencia")
+public class ChaveIdempotencia {
+
+    @Id
+    @Column(name = "chave", length = 255)
+    private String chave;
+
+    @Column(name = "operacao", nullable = false)
+    private String operacao;
+
+    @Column(name = "hash_requisicao", nullable = false, length = 64)
+    private String hashRequisicao;
+
+    @Column(name = "resposta", nullable = false, columnDefinition = "TEXT")
+    private String resposta;
+
+    @Column(name = "criado_em", nullable = false)
+    private LocalDateTime criadoEm;
+
+    public ChaveIdempotencia() {}
+
+    public ChaveIdempotencia(String chave, String operacao, String hashRequisicao, String resposta) {
+        this.chave = chave;
+        this.operacao = operacao;
+        this.hashRequisicao = hashRequisicao;
+        this.resposta = resposta;
+        this.criadoEm = LocalDateTime.now();
+    }
+
+    public String getChave() {
+        return chave;
+    }
+
+    public void setChave(String chave) {
+        this.chave = chave;
+    }
+
+    public String getOperacao() {
+        return operacao;
+    }
+
+    public void setOperacao(String operacao) {
+        this.operacao = operacao;
+    }
+
+    public String getHashRequisicao() {
+        return hashRequisicao;
+    }
+
+    public void setHashRequisicao(String hashRequisicao) {
+        this.hashRequisicao = hashRequisicao;
+    }
+
+    public String getResposta() {
+        return resposta;
+    }
+
+    public void setResposta(String resposta) {
+        this.resposta = resposta;
+    }
+
+    public LocalDateTime getCriadoEm() {
+        return criadoEm;
+    }
+
+    public void setCriadoEm(LocalDateTime criadoEm) {
+        this.criadoEm = criadoEm;
+    }
+}
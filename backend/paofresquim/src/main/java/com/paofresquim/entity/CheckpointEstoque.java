@@ -0,0 +1,60 @@
+package com.paofresquim.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "checkpoints_estoque",
+       indexes = @Index(name = "idx_checkpoints_estoque_ingrediente_data", columnList = "id_ingrediente, data_checkpoint"))
+public class CheckpointEstoque {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id_checkpoint")
+    private Long idCheckpoint;
+
+    @Column(name = "id_ingrediente", nullable = false)
+    private Long idIngrediente;
+
+    @Column(name = "data_checkpoint", nullable = false)
+    private LocalDateTime dataCheckpoint;
+
+    @Column(name = "quantidade_estoque", nullable = false)
+    private Double quantidadeEstoque;
+
+    @Column(name = "id_ultima_movimentacao", nullable = false)
+    private Long idUltimaMovimentacao;
+
+    public CheckpointEstoque() {}
+
+    public Long getIdCheckpoint() {
+        return idCheckpoint;
+    }
+
+    public Long getIdIngrediente() {
+        return idIngrediente;
+    }
+
+    public LocalDateTime getDataCheckpoint() {
+        return dataCheckpoint;
+    }
+
+    public Double getQuantidadeEstoque() {
+        return quantidadeEstoque;
+    }
+
+    public Long getIdUltimaMovimentacao() {
+        return idUltimaMovimentacao;
+    }
+
+    @Override
+    public String toString() {
+        return "CheckpointEstoque{" +
+                "idCheckpoint=" + idCheckpoint +
+                ", idIngrediente=" + idIngrediente +
+                ", dataCheckpoint=" + dataCheckpoint +
+                ", quantidadeEstoque=" + quantidadeEstoque +
+                ", idUltimaMovimentacao=" + idUltimaMovimentacao +
+                '}';
+    }
+}
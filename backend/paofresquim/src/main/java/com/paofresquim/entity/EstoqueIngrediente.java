@@ -2,7 +2,6 @@ package com.paofresquim.entity;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.Positive;
 import java.time.LocalDateTime;
 
 @Entity
@@ -18,8 +17,7 @@ public class EstoqueIngrediente {
     @Column(name = "nome_ingrediente", nullable = false)
     private String nomeIngrediente;
 
-    @Positive(message = "Quantidade em estoque deve ser positiva")
-    @Column(name = "quantidade_estoque", nullable = false)
+    @Column(name = "quantidade_estoque", nullable = false, updatable = false)
     private Double quantidadeEstoque;
 
     @Column(name = "unidade_medida")
@@ -0,0 +1,68 @@
+package com.paofresquim.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "itens_recebimento",
+       indexes = @Index(name = "idx_itens_recebimento_recebimento", columnList = "id_recebimento"))
+public class ItemRecebimento {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id_item")
+    private Long idItem;
+
+    @Column(name = "id_recebimento", nullable = false)
+    private Long idRecebimento;
+
+    @Column(name = "id_ingrediente", nullable = false)
+    private Long idIngrediente;
+
+    @Column(name = "quantidade", nullable = false)
+    private Double quantidade;
+
+    @Column(name = "custo_unitario", nullable = false)
+    private Double custoUnitario;
+
+    @Column(name = "data_validade")
+    private LocalDate dataValidade;
+
+    public ItemRecebimento() {}
+
+    public Long getIdItem() {
+        return idItem;
+    }
+
+    public Long getIdRecebimento() {
+        return idRecebimento;
+    }
+
+    public Long getIdIngrediente() {
+        return idIngrediente;
+    }
+
+    public Double getQuantidade() {
+        return quantidade;
+    }
+
+    public Double getCustoUnitario() {
+        return custoUnitario;
+    }
+
+    public LocalDate getDataValidade() {
+        return dataValidade;
+    }
+
+    @Override
+    public String toString() {
+        return "ItemRecebimento{" +
+                "idItem=" + idItem +
+                ", idRecebimento=" + idRecebimento +
+                ", idIngrediente=" + idIngrediente +
+                ", quantidade=" + quantidade +
+                ", custoUnitario=" + custoUnitario +
+                ", dataValidade=" + dataValidade +
+                '}';
+    }
+}
@@ -0,0 +1,62 @@
+package com.paofresquim.entity;
+
+import jakarta.persistence.*;
+
+@Entity
+@IdClass(ItemReceitaId.class)
+@Table(name = "receitas_produto",
+       indexes = @Index(name = "idx_receitas_produto_ingrediente", columnList = "id_ingrediente"))
+public class ItemReceita {
+
+    @Id
+    @Column(name = "id_produto")
+    private Long idProduto;
+
+    @Id
+    @Column(name = "id_ingrediente")
+    private Long idIngrediente;
+
+    @Column(name = "quantidade_por_kg", nullable = false)
+    private Double quantidadePorKg;
+
+    public ItemReceita() {}
+
+    public ItemReceita(Long idProduto, Long idIngrediente, Double quantidadePorKg) {
+        this.idProduto = idProduto;
+        this.idIngrediente = idIngrediente;
+        this.quantidadePorKg = quantidadePorKg;
+    }
+
+    public Long getIdProduto() {
+        return idProduto;
+    }
+
+    public void setIdProduto(Long idProduto) {
+        this.idProduto = idProduto;
+    }
+
+    public Long getIdIngrediente() {
+        return idIngrediente;
+    }
+
+    public void setIdIngrediente(Long idIngrediente) {
+        this.idIngrediente = idIngrediente;
+    }
+
+    public Double getQuantidadePorKg() {
+        return quantidadePorKg;
+    }
+
+    public void setQuantidadePorKg(Double quantidadePorKg) {
+        this.quantidadePorKg = quantidadePorKg;
+    }
+
+    @Override
+    public String toString() {
+        return "ItemReceita{" +
+                "idProduto=" + idProduto +
+                ", idIngrediente=" + idIngrediente +
+                ", quantidadePorKg=" + quantidadePorKg +
+                '}';
+    }
+}
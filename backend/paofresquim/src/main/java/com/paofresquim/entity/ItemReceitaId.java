@@ -0,0 +1,38 @@
+package com.paofresquim.entity;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+public class ItemReceitaId implements Serializable {
+
+    private Long idProduto;
+    private Long idIngrediente;
+
+    public ItemReceitaId() {}
+
+    public ItemReceitaId(Long idProduto, Long idIngrediente) {
+        this.idProduto = idProduto;
+        this.idIngrediente = idIngrediente;
+    }
+
+    public Long getIdProduto() {
+        return idProduto;
+    }
+
+    public Long getIdIngrediente() {
+        return idIngrediente;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ItemReceitaId that)) return false;
+        return Objects.equals(idProduto, that.idProduto) &&
+               Objects.equals(idIngrediente, that.idIngrediente);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(idProduto, idIngrediente);
+    }
+}
@@ -0,0 +1,84 @@
+package com.paofresquim.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "lotes_ingrediente",
+       indexes = {
+           @Index(name = "idx_lotes_ingrediente_fifo", columnList = "id_ingrediente, ativo, data_validade, id_lote"),
+           @Index(name = "idx_lotes_ingrediente_validade", columnList = "ativo, data_validade")
+       })
+public class LoteIngrediente {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id_lote")
+    private Long idLote;
+
+    @Column(name = "id_ingrediente", nullable = false, updatable = false)
+    private Long idIngrediente;
+
+    @Column(name = "id_recebimento", updatable = false)
+    private Long idRecebimento;
+
+    @Column(name = "quantidade_recebida", nullable = false, updatable = false)
+    private Double quantidadeRecebida;
+
+    @Column(name = "quantidade_restante", nullable = false)
+    private Double quantidadeRestante;
+
+    @Column(name = "data_validade", updatable = false)
+    private LocalDate dataValidade;
+
+    @Column(name = "data_entrada", nullable = false, updatable = false)
+    private LocalDateTime dataEntrada;
+
+    @Column(name = "ativo", nullable = false)
+    private Boolean ativo;
+
+    public LoteIngrediente() {}
+
+    public Long getIdLote() {
+        return idLote;
+    }
+
+    public Long getIdIngrediente() {
+        return idIngrediente;
+    }
+
+    public Long getIdRecebimento() {
+        return idRecebimento;
+    }
+
+    public Double getQuantidadeRecebida() {
+        return quantidadeRecebida;
+    }
+
+    public Double getQuantidadeRestante() {
+        return quantidadeRestante;
+    }
+
+    public LocalDate getDataValidade() {
+        return dataValidade;
+    }
+
+    public LocalDateTime getDataEntrada() {
+        return dataEntrada;
+    }
+
+    public Boolean getAtivo() {
+        return ativo;
+    }
+
+    @Override
+    public String toString() {
+        return "LoteIngrediente{" +
+                "idLote=" + idLote +
+                ", idIngrediente=" + idIngrediente +
+                ", quantidadeRestante=" + quantidadeRestante +
+                ", dataValidade=" + dataValidade +
+                '}';
+    }
+}
@@ -0,0 +1,86 @@
+package com.paofresquim.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "movimentacoes_estoque",
+       indexes = {
+           @Index(name = "idx_movimentacoes_estoque_ingrediente", columnList = "id_ingrediente, id_movimentacao"),
+           @Index(name = "idx_movimentacoes_estoque_venda", columnList = "id_venda")
+       })
+public class MovimentacaoEstoque {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id_movimentacao")
+    private Long idMovimentacao;
+
+    @Column(name = "id_ingrediente", nullable = false, updatable = false)
+    private Long idIngrediente;
+
+    @Column(name = "tipo", nullable = false, updatable = false, length = 20)
+    private String tipo;
+
+    @Column(name = "quantidade", nullable = false, updatable = false)
+    private Double quantidade;
+
+    @Column(name = "id_venda", updatable = false)
+    private Long idVenda;
+
+    @Column(name = "observacao", updatable = false)
+    private String observacao;
+
+    @Column(name = "data_movimentacao", nullable = false, updatable = false)
+    private LocalDateTime dataMovimentacao;
+
+    public MovimentacaoEstoque() {}
+
+    public MovimentacaoEstoque(Long idIngrediente, String tipo, Double quantidade, String observacao) {
+        this.idIngrediente = idIngrediente;
+        this.tipo = tipo;
+        this.quantidade = quantidade;
+        this.observacao = observacao;
+        this.dataMovimentacao = LocalDateTime.now();
+    }
+
+    public Long getIdMovimentacao() {
+        return idMovimentacao;
+    }
+
+    public Long getIdIngrediente() {
+        return idIngrediente;
+    }
+
+    public String getTipo() {
+        return tipo;
+    }
+
+    public Double getQuantidade() {
+        return quantidade;
+    }
+
+    public Long getIdVenda() {
+        return idVenda;
+    }
+
+    public String getObservacao() {
+        return observacao;
+    }
+
+    public LocalDateTime getDataMovimentacao() {
+        return dataMovimentacao;
+    }
+
+    @Override
+    public String toString() {
+        return "MovimentacaoEstoque{" +
+                "idMovimentacao=" + idMovimentacao +
+                ", idIngrediente=" + idIngrediente +
+                ", tipo='" + tipo + '\'' +
+                ", quantidade=" + quantidade +
+                ", idVenda=" + idVenda +
+                ", dataMovimentacao=" + dataMovimentacao +
+                '}';
+    }
+}
@@ -0,0 +1,84 @@
+package com.paofresquim.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@IdClass(PlanoProducaoId.class)
+@Table(name = "planos_producao")
+public class PlanoProducao {
+
+    @Id
+    @Column(name = "data_plano", length = 10)
+    private String dataPlano;
+
+    @Id
+    @Column(name = "id_produto")
+    private Long idProduto;
+
+    @Id
+    @Column(name = "turno")
+    private String turno;
+
+    @Column(name = "demanda_prevista", nullable = false)
+    private Double demandaPrevista;
+
+    @Column(name = "quantidade_planejada", nullable = false)
+    private Double quantidadePlanejada;
+
+    @Column(name = "fator_atendimento", nullable = false)
+    private Double fatorAtendimento;
+
+    @Column(name = "id_ingrediente_limitante")
+    private Long idIngredienteLimitante;
+
+    @Column(name = "calculado_em", nullable = false)
+    private LocalDateTime calculadoEm;
+
+    public PlanoProducao() {}
+
+    public String getDataPlano() {
+        return dataPlano;
+    }
+
+    public Long getIdProduto() {
+        return idProduto;
+    }
+
+    public String getTurno() {
+        return turno;
+    }
+
+    public Double getDemandaPrevista() {
+        return demandaPrevista;
+    }
+
+    public Double getQuantidadePlanejada() {
+        return quantidadePlanejada;
+    }
+
+    public Double getFatorAtendimento() {
+        return fatorAtendimento;
+    }
+
+    public Long getIdIngredienteLimitante() {
+        return idIngredienteLimitante;
+    }
+
+    public LocalDateTime getCalculadoEm() {
+        return calculadoEm;
+    }
+
+    @Override
+    public String toString() {
+        return "PlanoProducao{" +
+                "dataPlano='" + dataPlano + '\'' +
+                ", idProduto=" + idProduto +
+                ", turno='" + turno + '\'' +
+                ", demandaPrevista=" + demandaPrevista +
+                ", quantidadePlanejada=" + quantidadePlanejada +
+                ", fatorAtendimento=" + fatorAtendimento +
+                ", idIngredienteLimitante=" + idIngredienteLimitante +
+                '}';
+    }
+}
@@ -0,0 +1,45 @@
+package com.paofresquim.entity;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+public class PlanoProducaoId implements Serializable {
+
+    private String dataPlano;
+    private Long idProduto;
+    private String turno;
+
+    public PlanoProducaoId() {}
+
+    public PlanoProducaoId(String dataPlano, Long idProduto, String turno) {
+        this.dataPlano = dataPlano;
+        this.idProduto = idProduto;
+        this.turno = turno;
+    }
+
+    public String getDataPlano() {
+        return dataPlano;
+    }
+
+    public Long getIdProduto() {
+        return idProduto;
+    }
+
+    public String getTurno() {
+        return turno;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PlanoProducaoId that)) return false;
+        return Objects.equals(dataPlano, that.dataPlano) &&
+               Objects.equals(idProduto, that.idProduto) &&
+               Objects.equals(turno, that.turno);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(dataPlano, idProduto, turno);
+    }
+}
@@ -0,0 +1,74 @@
+package com.paofresquim.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "previsoes_reposicao")
+public class PrevisaoReposicao {
+
+    @Id
+    @Column(name = "id_ingrediente")
+    private Long idIngrediente;
+
+    @Column(name = "estoque_atual", nullable = false)
+    private Double estoqueAtual;
+
+    @Column(name = "consumo_medio_diario", nullable = false)
+    private Double consumoMedioDiario;
+
+    @Column(name = "dias_ate_ruptura")
+    private Double diasAteRuptura;
+
+    @Column(name = "quantidade_sugerida", nullable = false)
+    private Double quantidadeSugerida;
+
+    @Column(name = "repor_agora", nullable = false)
+    private Boolean reporAgora;
+
+    @Column(name = "calculado_em", nullable = false)
+    private LocalDateTime calculadoEm;
+
+    public PrevisaoReposicao() {}
+
+    public Long getIdIngrediente() {
+        return idIngrediente;
+    }
+
+    public Double getEstoqueAtual() {
+        return estoqueAtual;
+    }
+
+    public Double getConsumoMedioDiario() {
+        return consumoMedioDiario;
+    }
+
+    public Double getDiasAteRuptura() {
+        return diasAteRuptura;
+    }
+
+    public Double getQuantidadeSugerida() {
+        return quantidadeSugerida;
+    }
+
+    public Boolean getReporAgora() {
+        return reporAgora;
+    }
+
+    public LocalDateTime getCalculadoEm() {
+        return calculadoEm;
+    }
+
+    @Override
+    public String toString() {
+        return "PrevisaoReposicao{" +
+                "idIngrediente=" + idIngrediente +
+                ", estoqueAtual=" + estoqueAtual +
+                ", consumoMedioDiario=" + consumoMedioDiario +
+                ", diasAteRuptura=" + diasAteRuptura +
+                ", quantidadeSugerida=" + quantidadeSugerida +
+                ", reporAgora=" + reporAgora +
+                ", calculadoEm=" + calculadoEm +
+                '}';
+    }
+}
@@ -0,0 +1,82 @@
+package com.paofresquim.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "recebimentos_compra",
+       indexes = @Index(name = "idx_recebimentos_compra_nota", columnList = "fornecedor, numero_nota"))
+public class RecebimentoCompra {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id_recebimento")
+    private Long idRecebimento;
+
+    @Column(name = "fornecedor", nullable = false)
+    private String fornecedor;
+
+    @Column(name = "numero_nota")
+    private String numeroNota;
+
+    @Column(name = "valor_total", nullable = false)
+    private Double valorTotal;
+
+    @Column(name = "data_recebimento", nullable = false)
+    private LocalDateTime dataRecebimento;
+
+    public RecebimentoCompra() {
+        this.dataRecebimento = LocalDateTime.now();
+    }
+
+    public Long getIdRecebimento() {
+        return idRecebimento;
+    }
+
+    public void setIdRecebimento(Long idRecebimento) {
+        this.idRecebimento = idRecebimento;
+    }
+
+    public String getFornecedor() {
+        return fornecedor;
+    }
+
+    public void setFornecedor(String fornecedor) {
+        this.fornecedor = fornecedor;
+    }
+
+    public String getNumeroNota() {
+        return numeroNota;
+    }
+
+    public void setNumeroNota(String numeroNota) {
+        this.numeroNota = numeroNota;
+    }
+
+    public Double getValorTotal() {
+        return valorTotal;
+    }
+
+    public void setValorTotal(Double valorTotal) {
+        this.valorTotal = valorTotal;
+    }
+
+    public LocalDateTime getDataRecebimento() {
+        return dataRecebimento;
+    }
+
+    public void setDataRecebimento(LocalDateTime dataRecebimento) {
+        this.dataRecebimento = dataRecebimento;
+    }
+
+    @Override
+    public String toString() {
+        return "RecebimentoCompra{" +
+                "idRecebimento=" + idRecebimento +
+                ", fornecedor='" + fornecedor + '\'' +
+                ", numeroNota='" + numeroNota + '\'' +
+                ", valorTotal=" + valorTotal +
+                ", dataRecebimento=" + dataRecebimento +
+                '}';
+    }
+}
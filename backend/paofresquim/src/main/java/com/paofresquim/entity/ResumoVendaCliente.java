@@ -0,0 +1,54 @@
+package com.paofresquim.entity;
+
+import jakarta.persistence.*;
+
+@Entity
+@Table(name = "resumo_vendas_clientes",
+       indexes = @Index(name = "idx_resumo_vendas_clientes_total", columnList = "total_compras"))
+public class ResumoVendaCliente {
+
+    @Id
+    @Column(name = "id_cliente")
+    private Long idCliente;
+
+    @Column(name = "total_compras", nullable = false)
+    private Double totalCompras = 0.0;
+
+    @Column(name = "numero_compras", nullable = false)
+    private Integer numeroCompras = 0;
+
+    public ResumoVendaCliente() {}
+
+    public Long getIdCliente() {
+        return idCliente;
+    }
+
+    public void setIdCliente(Long idCliente) {
+        this.idCliente = idCliente;
+    }
+
+    public Double getTotalCompras() {
+        return totalCompras;
+    }
+
+    public void setTotalCompras(Double totalCompras) {
+        this.totalCompras = totalCompras;
+    }
+
+    public Integer getNumeroCompras() {
+        return numeroCompras;
+    }
+
+    public void setNumeroCompras(Integer numeroCompras) {
+        this.numeroCompras = numeroCompras;
+    }
+
+    @Override
+    public String toString() {
+        return "ResumoVendaCliente{" +
+                "idCliente=" + idCliente +
+                ", totalCompras=" + totalCompras +
+                ", numeroCompras=" + numeroCompras +
+                '}';
+    }
+}
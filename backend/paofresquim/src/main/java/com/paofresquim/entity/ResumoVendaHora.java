@@ -0,0 +1,92 @@
+package com.paofresquim.entity;
+
+import jakarta.persistence.*;
+
+@Entity
+@IdClass(ResumoVendaPeriodoId.class)
+@Table(name = "resumo_vendas_hora")
+public class ResumoVendaHora {
+
+    @Id
+    @Column(name = "periodo", length = 13)
+    private String periodo;
+
+    @Id
+    @Column(name = "id_produto")
+    private Long idProduto;
+
+    @Id
+    @Column(name = "forma_pagamento", length = 20)
+    private String formaPagamento;
+
+    @Column(name = "quantidade_vendida", nullable = false)
+    private Double quantidadeVendida = 0.0;
+
+    @Column(name = "total_vendas", nullable = false)
+    private Double totalVendas = 0.0;
+
+    @Column(name = "numero_vendas", nullable = false)
+    private Integer numeroVendas = 0;
+
+    public ResumoVendaHora() {}
+
+    public String getPeriodo() {
+        return periodo;
+    }
+
+    public void setPeriodo(String periodo) {
+        this.periodo = periodo;
+    }
+
+    public Long getIdProduto() {
+        return idProduto;
+    }
+
+    public void setIdProduto(Long idProduto) {
+        this.idProduto = idProduto;
+    }
+
+    public String getFormaPagamento() {
+        return formaPagamento;
+    }
+
+    public void setFormaPagamento(String formaPagamento) {
+        this.formaPagamento = formaPagamento;
+    }
+
+    public Double getQuantidadeVendida() {
+        return quantidadeVendida;
+    }
+
+    public void setQuantidadeVendida(Double quantidadeVendida) {
+        this.quantidadeVendida = quantidadeVendida;
+    }
+
+    public Double getTotalVendas() {
+        return totalVendas;
+    }
+
+    public void setTotalVendas(Double totalVendas) {
+        this.totalVendas = totalVendas;
+    }
+
+    public Integer getNumeroVendas() {
+        return numeroVendas;
+    }
+
+    public void setNumeroVendas(Integer numeroVendas) {
+        this.numeroVendas = numeroVendas;
+    }
+
+    @Override
+    public String toString() {
+        return "ResumoVendaHora{" +
+                "periodo='" + periodo + '\'' +
+                ", idProduto=" + idProduto +
+                ", formaPagamento='" + formaPagamento + '\'' +
+                ", quantidadeVendida=" + quantidadeVendida +
+                ", totalVendas=" + totalVendas +
+                ", numeroVendas=" + numeroVendas +
+                '}';
+    }
+}
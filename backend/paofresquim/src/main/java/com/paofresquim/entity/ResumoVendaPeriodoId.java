@@ -0,0 +1,45 @@
+package com.paofresquim.entity;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+public class ResumoVendaPeriodoId implements Serializable {
+
+    private String periodo;
+    private Long idProduto;
+    private String formaPagamento;
+
+    public ResumoVendaPeriodoId() {}
+
+    public ResumoVendaPeriodoId(String periodo, Long idProduto, String formaPagamento) {
+        this.periodo = periodo;
+        this.idProduto = idProduto;
+        this.formaPagamento = formaPagamento;
+    }
+
+    public String getPeriodo() {
+        return periodo;
+    }
+
+    public Long getIdProduto() {
+        return idProduto;
+    }
+
+    public String getFormaPagamento() {
+        return formaPagamento;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ResumoVendaPeriodoId that)) return false;
+        return Objects.equals(periodo, that.periodo) &&
+               Objects.equals(idProduto, that.idProduto) &&
+               Objects.equals(formaPagamento, that.formaPagamento);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(periodo, idProduto, formaPagamento);
+    }
+}
@@ -0,0 +1,66 @@
+package com.paofresquim.entity;
+
+import jakarta.persistence.*;
+
+@Entity
+@Table(name = "resumo_vendas_produtos",
+       indexes = @Index(name = "idx_resumo_vendas_produtos_total", columnList = "total_vendas"))
+public class ResumoVendaProduto {
+
+    @Id
+    @Column(name = "id_produto")
+    private Long idProduto;
+
+    @Column(name = "quantidade_vendida", nullable = false)
+    private Double quantidadeVendida = 0.0;
+
+    @Column(name = "total_vendas", nullable = false)
+    private Double totalVendas = 0.0;
+
+    @Column(name = "numero_vendas", nullable = false)
+    private Integer numeroVendas = 0;
+
+    public ResumoVendaProduto() {}
+
+    public Long getIdProduto() {
+        return idProduto;
+    }
+
+    public void setIdProduto(Long idProduto) {
+        this.idProduto = idProduto;
+    }
+
+    public Double getQuantidadeVendida() {
+        return quantidadeVendida;
+    }
+
+    public void setQuantidadeVendida(Double quantidadeVendida) {
+        this.quantidadeVendida = quantidadeVendida;
+    }
+
+    public Double getTotalVendas() {
+        return totalVendas;
+    }
+
+    public void setTotalVendas(Double totalVendas) {
+        this.totalVendas = totalVendas;
+    }
+
+    public Integer getNumeroVendas() {
+        return numeroVendas;
+    }
+
+    public void setNumeroVendas(Integer numeroVendas) {
+        this.numeroVendas = numeroVendas;
+    }
+
+    @Override
+    public String toString() {
+        return "ResumoVendaProduto{" +
+                "idProduto=" + idProduto +
+                ", quantidadeVendida=" + quantidadeVendida +
+                ", totalVendas=" + totalVendas +
+                ", numeroVendas=" + numeroVendas +
+                '}';
+    }
+}
@@ -0,0 +1,54 @@
+package com.paofresquim.entity;
+
+import jakarta.persistence.*;
+
+@Entity
+@Table(name = "saldos_receber_clientes",
+       indexes = @Index(name = "idx_saldos_receber_clientes_saldo", columnList = "saldo_pendente"))
+public class SaldoReceberCliente {
+
+    @Id
+    @Column(name = "id_cliente")
+    private Long idCliente;
+
+    @Column(name = "saldo_pendente", nullable = false)
+    private Double saldoPendente = 0.0;
+
+    @Column(name = "vendas_pendentes", nullable = false)
+    private Integer vendasPendentes = 0;
+
+    public SaldoReceberCliente() {}
+
+    public Long getIdCliente() {
+        return idCliente;
+    }
+
+    public void setIdCliente(Long idCliente) {
+        this.idCliente = idCliente;
+    }
+
+    public Double getSaldoPendente() {
+        return saldoPendente;
+    }
+
+    public void setSaldoPendente(Double saldoPendente) {
+        this.saldoPendente = saldoPendente;
+    }
+
+    public Integer getVendasPendentes() {
+        return vendasPendentes;
+    }
+
+    public void setVendasPendentes(Integer vendasPendentes) {
+        this.vendasPendentes = vendasPendentes;
+    }
+
+    @Override
+    public String toString() {
+        return "SaldoReceberCliente{" +
+                "idCliente=" + idCliente +
+                ", saldoPendente=" + saldoPendente +
+                ", vendasPendentes=" + vendasPendentes +
+                '}';
+    }
+}
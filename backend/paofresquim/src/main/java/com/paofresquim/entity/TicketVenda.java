@@ -0,0 +1,82 @@
+package com.paofresquim.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "tickets_venda")
+public class TicketVenda {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id_ticket")
+    private Long idTicket;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "id_cliente")
+    private Cliente cliente;
+
+    @Column(name = "forma_pagamento")
+    private String formaPagamento = "dinheiro";
+
+    @Column(name = "status_pagamento")
+    private String statusPagamento = "pago";
+
+    @Column(name = "data_venda")
+    private LocalDateTime dataVenda;
+
+    public TicketVenda() {
+        this.dataVenda = LocalDateTime.now();
+    }
+
+    public Long getIdTicket() {
+        return idTicket;
+    }
+
+    public void setIdTicket(Long idTicket) {
+        this.idTicket = idTicket;
+    }
+
+    public Cliente getCliente() {
+        return cliente;
+    }
+
+    public void setCliente(Cliente cliente) {
+        this.cliente = cliente;
+    }
+
+    public String getFormaPagamento() {
+        return formaPagamento;
+    }
+
+    public void setFormaPagamento(String formaPagamento) {
+        this.formaPagamento = formaPagamento;
+    }
+
+    public String getStatusPagamento() {
+        return statusPagamento;
+    }
+
+    public void setStatusPagamento(String statusPagamento) {
+        this.statusPagamento = statusPagamento;
+    }
+
+    public LocalDateTime getDataVenda() {
+        return dataVenda;
+    }
+
+    public void setDataVenda(LocalDateTime dataVenda) {
+        this.dataVenda = dataVenda;
+    }
+
+    @Override
+    public String toString() {
+        return "TicketVenda{" +
+                "idTicket=" + idTicket +
+                ", cliente=" + (cliente != null ? cliente.getNome() : "N/A") +
+                ", formaPagamento='" + formaPagamento + '\'' +
+                ", statusPagamento='" + statusPagamento + '\'' +
+                ", dataVenda=" + dataVenda +
+                '}';
+    }
+}
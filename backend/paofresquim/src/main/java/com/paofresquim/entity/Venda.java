@@ -47,6 +47,10 @@ public class Venda {
     @Column(name = "data_vencimento")
     private LocalDateTime dataVencimento;
 
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "id_ticket")
+    private TicketVenda ticket;
+
     public Venda() {
         this.dataVenda = LocalDateTime.now();
     }
@@ -152,6 +156,14 @@ public class Venda {
         this.dataVencimento = dataVencimento;
     }
 
+    public TicketVenda getTicket() {
+        return ticket;
+    }
+
+    public void setTicket(TicketVenda ticket) {
+        this.ticket = ticket;
+    }
+
     @Override
     public String toString() {
         return "Venda{" +
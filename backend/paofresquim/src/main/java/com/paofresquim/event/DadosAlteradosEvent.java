@@ -0,0 +1,14 @@
+package com.paofresquim.event;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+public record DadosAlteradosEvent(
+    Class<?> entidade,
+    Collection<?> ids
+) {
+    public static DadosAlteradosEvent de(Class<?> entidade, Object... ids) {
+        return new DadosAlteradosEvent(entidade, List.copyOf(Arrays.asList(ids)));
+    }
+}
@@ -0,0 +1,9 @@
+package com.paofresquim.event;
+
+public record EstoqueMinimoCruzadoEvent(
+    Long idIngrediente,
+    String nomeIngrediente,
+    Double quantidadeEstoque,
+    Double estoqueMinimo,
+    boolean abaixoDoMinimo
+) {}
@@ -0,0 +1,7 @@
+package com.paofresquim.exception;
+
+public class ServicoIndisponivelException extends RuntimeException {
+    public ServicoIndisponivelException(String message) {
+        super(message);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.paofresquim.repository;
+
+import com.paofresquim.entity.BaixaLote;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BaixaLoteRepository extends JpaRepository<BaixaLote, Long> {
+
+    String SQL_REGISTRAR_BAIXAS = "INSERT INTO baixas_lote (id_movimentacao, id_venda, id_lote, quantidade) " +
+                                  "SELECT m.id_movimentacao, m.id_venda, l.id_lote, MIN(l.fim, m.fim) - MAX(l.inicio, m.inicio) " +
+                                  "FROM (SELECT id_movimentacao, id_venda, id_ingrediente, " +
+                                  "SUM(-quantidade) OVER (PARTITION BY id_ingrediente ORDER BY id_movimentacao) AS fim, " +
+                                  "SUM(-quantidade) OVER (PARTITION BY id_ingrediente ORDER BY id_movimentacao) + quantidade AS inicio " +
+                                  "FROM movimentacoes_estoque " +
+                                  "WHERE id_movimentacao > :ultimaMovimentacao AND tipo = 'consumo_venda') AS m " +
+                                  "JOIN (SELECT id_lote, id_ingrediente, " +
+                                  "SUM(quantidade_restante) OVER (PARTITION BY id_ingrediente " +
+                                  "ORDER BY data_validade IS NULL, data_validade, id_lote) AS fim, " +
+                                  "SUM(quantidade_restante) OVER (PARTITION BY id_ingrediente " +
+                                  "ORDER BY data_validade IS NULL, data_validade, id_lote) - quantidade_restante AS inicio " +
+                                  "FROM lotes_ingrediente WHERE ativo = 1) AS l " +
+                                  "ON l.id_ingrediente = m.id_ingrediente " +
+                                  "WHERE MIN(l.fim, m.fim) - MAX(l.inicio, m.inicio) > 1e-9";
+
+    String SQL_REMOVER_BAIXAS_VENDA = "DELETE FROM baixas_lote WHERE id_venda = :idVenda";
+}
@@ -0,0 +1,28 @@
+package com.paofresquim.repository;
+
+import com.paofresquim.entity.ChaveIdempotencia;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface ChaveIdempotenciaRepository extends JpaRepository<ChaveIdempotencia, String> {
+
+    @Modifying
+    @Query(value = "INSERT INTO chaves_idempotencia (chave, operacao, hash_requisicao, resposta, criado_em) " +
+                   "VALUES (:chave, :operacao, :hashRequisicao, :resposta, :criadoEm)",
+           nativeQuery = true)
+    int inserir(@Param("chave") String chave,
+                @Param("operacao") String operacao,
+                @Param("hashRequisicao") String hashRequisicao,
+                @Param("resposta") String resposta,
+                @Param("criadoEm") LocalDateTime criadoEm);
+
+    @Modifying
+    @Query("DELETE FROM ChaveIdempotencia c WHERE c.criadoEm < :limite")
+    int removerCriadasAntesDe(@Param("limite") LocalDateTime limite);
+}
@@ -0,0 +1,33 @@
+package com.paofresquim.repository;
+
+import com.paofresquim.entity.CheckpointEstoque;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface CheckpointEstoqueRepository extends JpaRepository<CheckpointEstoque, Long> {
+
+    Optional<CheckpointEstoque> findFirstByIdIngredienteAndDataCheckpointLessThanEqualOrderByDataCheckpointDesc(
+            Long idIngrediente, LocalDateTime data);
+
+    Optional<CheckpointEstoque> findFirstByIdIngredienteAndDataCheckpointGreaterThanOrderByDataCheckpointAsc(
+            Long idIngrediente, LocalDateTime data);
+
+    @Modifying
+    @Query(value = "INSERT INTO checkpoints_estoque " +
+                   "(id_ingrediente, data_checkpoint, quantidade_estoque, id_ultima_movimentacao) " +
+                   "SELECT e.id_ingrediente, :agora, e.quantidade_estoque, :ultimaMovimentacao " +
+                   "FROM estoque_ingredientes e " +
+                   "WHERE EXISTS (SELECT 1 FROM movimentacoes_estoque m WHERE m.id_ingrediente = e.id_ingrediente " +
+                   "AND m.id_movimentacao > COALESCE((SELECT MAX(c.id_ultima_movimentacao) FROM checkpoints_estoque c " +
+                   "WHERE c.id_ingrediente = e.id_ingrediente), 0))",
+           nativeQuery = true)
+    int registrarCheckpoints(@Param("agora") LocalDateTime agora,
+                             @Param("ultimaMovimentacao") Long ultimaMovimentacao);
+}
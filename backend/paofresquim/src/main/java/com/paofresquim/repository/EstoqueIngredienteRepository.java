@@ -1,10 +1,13 @@
 package com.paofresquim.repository;
 
+import com.paofresquim.dto.EstoqueIngredienteResponseDTO;
 import com.paofresquim.entity.EstoqueIngrediente;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +20,21 @@ public interface EstoqueIngredienteRepository extends JpaRepository<EstoqueIngre
     
     List<EstoqueIngrediente> findByQuantidadeEstoqueLessThanEqual(Double quantidade);
     
-    @Query("SELECT e FROM EstoqueIngrediente e WHERE e.quantidadeEstoque <= e.estoqueMinimo")
-    List<EstoqueIngrediente> findByPrecisaReporTrue();
+    @Query("SELECT new com.paofresquim.dto.EstoqueIngredienteResponseDTO(" +
+           "e.idIngrediente, e.nomeIngrediente, e.quantidadeEstoque, e.unidadeMedida, e.estoqueMinimo, e.custoMedio, " +
+           "e.dataAtualizacao, CASE WHEN e.quantidadeEstoque <= e.estoqueMinimo THEN true ELSE false END) " +
+           "FROM EstoqueIngrediente e WHERE e.quantidadeEstoque <= e.estoqueMinimo")
+    List<EstoqueIngredienteResponseDTO> findSituacaoPrecisaRepor();
+
+    @Query("SELECT new com.paofresquim.dto.EstoqueIngredienteResponseDTO(" +
+           "e.idIngrediente, e.nomeIngrediente, e.quantidadeEstoque, e.unidadeMedida, e.estoqueMinimo, e.custoMedio, " +
+           "e.dataAtualizacao, CASE WHEN e.quantidadeEstoque <= e.estoqueMinimo THEN true ELSE false END) " +
+           "FROM EstoqueIngrediente e WHERE e.idIngrediente IN :ids")
+    List<EstoqueIngredienteResponseDTO> findSituacao(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new com.paofresquim.dto.EstoqueIngredienteResponseDTO(" +
+           "e.idIngrediente, e.nomeIngrediente, e.quantidadeEstoque, e.unidadeMedida, e.estoqueMinimo, e.custoMedio, " +
+           "e.dataAtualizacao, CASE WHEN e.quantidadeEstoque <= e.estoqueMinimo THEN true ELSE false END) " +
+           "FROM EstoqueIngrediente e")
+    List<EstoqueIngredienteResponseDTO> findSituacaoTodos();
 }
\ No newline at end of file
@@ -13,6 +13,8 @@ public interface ExpedienteRepository extends JpaRepository<ExpedienteFuncionari
     
     List<ExpedienteFuncionario> findByDiaSemana(String diaSemana);
     
+    long countByDiaSemana(String diaSemana);
+    
     List<ExpedienteFuncionario> findByTurno(String turno);
     
     List<ExpedienteFuncionario> findByFuncionarioIdFuncionarioAndDiaSemana(Long idFuncionario, String diaSemana);
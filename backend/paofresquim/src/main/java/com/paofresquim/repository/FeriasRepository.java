@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -14,6 +15,8 @@ public interface FeriasRepository extends JpaRepository<FeriasFuncionario, Long>
     
     List<FeriasFuncionario> findByStatus(String status);
     
+    long countByStatusIn(Collection<String> status);
+    
     List<FeriasFuncionario> findByDataInicioBetween(LocalDate inicio, LocalDate fim);
     
     List<FeriasFuncionario> findByDataFimBetween(LocalDate inicio, LocalDate fim);
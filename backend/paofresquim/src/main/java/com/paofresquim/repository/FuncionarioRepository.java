@@ -19,4 +19,6 @@ public interface FuncionarioRepository extends JpaRepository<Funcionario, Long>
     List<Funcionario> findByAtivo(Boolean ativo);
     
     boolean existsByEmail(String email);
+    
+    long countByAtivo(Boolean ativo);
 }
\ No newline at end of file
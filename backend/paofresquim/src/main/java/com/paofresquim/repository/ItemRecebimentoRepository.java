@@ -0,0 +1,23 @@
+package com.paofresquim.repository;
+
+import com.paofresquim.dto.ItemRecebimentoResponseDTO;
+import com.paofresquim.entity.ItemRecebimento;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ItemRecebimentoRepository extends JpaRepository<ItemRecebimento, Long> {
+
+    String SQL_INSERIR_ITEM = "INSERT INTO itens_recebimento (id_recebimento, id_ingrediente, quantidade, custo_unitario, data_validade) " +
+                              "VALUES (:idRecebimento, :idIngrediente, :quantidade, :custoUnitario, :dataValidade)";
+
+    @Query("SELECT new com.paofresquim.dto.ItemRecebimentoResponseDTO(" +
+           "i.idIngrediente, e.nomeIngrediente, i.quantidade, i.custoUnitario, i.quantidade * i.custoUnitario, i.dataValidade) " +
+           "FROM ItemRecebimento i JOIN EstoqueIngrediente e ON e.idIngrediente = i.idIngrediente " +
+           "WHERE i.idRecebimento = :idRecebimento ORDER BY i.idItem")
+    List<ItemRecebimentoResponseDTO> findItens(@Param("idRecebimento") Long idRecebimento);
+}
@@ -0,0 +1,32 @@
+package com.paofresquim.repository;
+
+import com.paofresquim.dto.ItemReceitaResponseDTO;
+import com.paofresquim.entity.ItemReceita;
+import com.paofresquim.entity.ItemReceitaId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ItemReceitaRepository extends JpaRepository<ItemReceita, ItemReceitaId> {
+
+    @Query("SELECT new com.paofresquim.dto.ItemReceitaResponseDTO(" +
+           "r.idIngrediente, i.nomeIngrediente, i.unidadeMedida, r.quantidadePorKg) " +
+           "FROM ItemReceita r JOIN EstoqueIngrediente i ON i.idIngrediente = r.idIngrediente " +
+           "WHERE r.idProduto = :idProduto ORDER BY i.nomeIngrediente")
+    List<ItemReceitaResponseDTO> findReceita(@Param("idProduto") Long idProduto);
+
+    @Modifying
+    @Query("DELETE FROM ItemReceita r WHERE r.idProduto = :idProduto")
+    int removerPorProduto(@Param("idProduto") Long idProduto);
+
+    boolean existsByIdIngrediente(Long idIngrediente);
+
+    @Query("SELECT r.idProduto, r.idIngrediente, r.quantidadePorKg, i.quantidadeEstoque " +
+           "FROM ItemReceita r JOIN EstoqueIngrediente i ON i.idIngrediente = r.idIngrediente")
+    List<Object[]> findReceitasComEstoque();
+}
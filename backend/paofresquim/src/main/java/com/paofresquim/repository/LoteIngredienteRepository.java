@@ -0,0 +1,58 @@
+package com.paofresquim.repository;
+
+import com.paofresquim.dto.LoteIngredienteDTO;
+import com.paofresquim.entity.LoteIngrediente;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface LoteIngredienteRepository extends JpaRepository<LoteIngrediente, Long> {
+
+    String SQL_INSERIR_LOTE = "INSERT INTO lotes_ingrediente " +
+                              "(id_ingrediente, id_recebimento, quantidade_recebida, quantidade_restante, data_validade, data_entrada, ativo) " +
+                              "VALUES (:idIngrediente, :idRecebimento, :quantidade, :quantidade, :dataValidade, :agora, 1)";
+
+    String SQL_BAIXAR_LOTES = "UPDATE lotes_ingrediente SET " +
+                              "quantidade_restante = MAX(0, l.acumulado - l.baixa), ativo = l.acumulado - l.baixa > 1e-9 " +
+                              "FROM (SELECT lo.id_lote, lo.quantidade_restante AS restante, " +
+                              "SUM(lo.quantidade_restante) OVER (PARTITION BY lo.id_ingrediente " +
+                              "ORDER BY lo.data_validade IS NULL, lo.data_validade, lo.id_lote) AS acumulado, " +
+                              "MAX(m.consumo, SUM(lo.quantidade_restante) OVER (PARTITION BY lo.id_ingrediente) " +
+                              "- MAX(e.quantidade_estoque, 0)) AS baixa " +
+                              "FROM lotes_ingrediente lo " +
+                              "JOIN estoque_ingredientes e ON e.id_ingrediente = lo.id_ingrediente " +
+                              "JOIN (SELECT id_ingrediente, -SUM(quantidade) AS consumo FROM movimentacoes_estoque " +
+                              "WHERE id_movimentacao > :ultimaMovimentacao GROUP BY id_ingrediente) AS m " +
+                              "ON m.id_ingrediente = lo.id_ingrediente " +
+                              "WHERE lo.ativo = 1) AS l " +
+                              "WHERE lotes_ingrediente.id_lote = l.id_lote AND l.baixa > 0 AND l.acumulado - l.restante < l.baixa";
+
+    String SQL_DEBITAR_BAIXAS = "UPDATE lotes_ingrediente SET " +
+                                "quantidade_restante = quantidade_restante - b.total, ativo = quantidade_restante - b.total > 1e-9 " +
+                                "FROM (SELECT id_lote, SUM(quantidade) AS total FROM baixas_lote " +
+                                "WHERE id_movimentacao > :ultimaMovimentacao GROUP BY id_lote) AS b " +
+                                "WHERE lotes_ingrediente.id_lote = b.id_lote";
+
+    String SQL_CREDITAR_BAIXAS_VENDA = "UPDATE lotes_ingrediente SET " +
+                                       "quantidade_restante = quantidade_restante + b.total, ativo = 1 " +
+                                       "FROM (SELECT id_lote, SUM(quantidade) AS total FROM baixas_lote " +
+                                       "WHERE id_venda = :idVenda GROUP BY id_lote) AS b " +
+                                       "WHERE lotes_ingrediente.id_lote = b.id_lote";
+
+    String SELECT_LOTE = "SELECT new com.paofresquim.dto.LoteIngredienteDTO(" +
+                         "l.idLote, l.idIngrediente, e.nomeIngrediente, e.unidadeMedida, l.idRecebimento, " +
+                         "l.quantidadeRecebida, l.quantidadeRestante, l.dataValidade, l.dataEntrada) " +
+                         "FROM LoteIngrediente l JOIN EstoqueIngrediente e ON e.idIngrediente = l.idIngrediente ";
+
+    @Query(SELECT_LOTE + "WHERE l.idIngrediente = :idIngrediente AND l.ativo = true " +
+           "ORDER BY CASE WHEN l.dataValidade IS NULL THEN 1 ELSE 0 END, l.dataValidade, l.idLote")
+    List<LoteIngredienteDTO> findLotesAtivos(@Param("idIngrediente") Long idIngrediente);
+
+    @Query(SELECT_LOTE + "WHERE l.ativo = true AND l.dataValidade <= :limite ORDER BY l.dataValidade, l.idLote")
+    List<LoteIngredienteDTO> findLotesVencendoAte(@Param("limite") LocalDate limite);
+}
@@ -0,0 +1,80 @@
+package com.paofresquim.repository;
+
+import com.paofresquim.entity.MovimentacaoEstoque;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface MovimentacaoEstoqueRepository extends JpaRepository<MovimentacaoEstoque, Long> {
+
+    String SQL_CONSUMIR_RECEITA = "INSERT INTO movimentacoes_estoque " +
+                                  "(id_ingrediente, tipo, quantidade, id_venda, data_movimentacao) " +
+                                  "SELECT r.id_ingrediente, 'consumo_venda', -:pesoVendido * r.quantidade_por_kg, :idVenda, :agora " +
+                                  "FROM receitas_produto r WHERE r.id_produto = :idProduto";
+
+    String SQL_ESTORNAR_VENDA = "INSERT INTO movimentacoes_estoque " +
+                                "(id_ingrediente, tipo, quantidade, id_venda, data_movimentacao) " +
+                                "SELECT id_ingrediente, 'estorno_venda', -SUM(quantidade), id_venda, :agora " +
+                                "FROM movimentacoes_estoque WHERE id_venda = :idVenda " +
+                                "GROUP BY id_ingrediente HAVING ABS(SUM(quantidade)) > 1e-9";
+
+    String SQL_AJUSTAR_PARA = "INSERT INTO movimentacoes_estoque " +
+                              "(id_ingrediente, tipo, quantidade, observacao, data_movimentacao) " +
+                              "SELECT id_ingrediente, 'ajuste', :quantidade - quantidade_estoque, :observacao, :agora " +
+                              "FROM estoque_ingredientes " +
+                              "WHERE id_ingrediente = :idIngrediente AND quantidade_estoque <> :quantidade";
+
+    String SQL_APLICAR_MOVIMENTACOES = "UPDATE estoque_ingredientes SET " +
+                                       "quantidade_estoque = quantidade_estoque + m.total, data_atualizacao = :agora " +
+                                       "FROM (SELECT id_ingrediente, SUM(quantidade) AS total FROM movimentacoes_estoque " +
+                                       "WHERE id_movimentacao > :ultimaMovimentacao GROUP BY id_ingrediente) AS m " +
+                                       "WHERE estoque_ingredientes.id_ingrediente = m.id_ingrediente";
+
+    String SQL_SALDO_INICIAL = "INSERT INTO movimentacoes_estoque " +
+                               "(id_ingrediente, tipo, quantidade, observacao, data_movimentacao) " +
+                               "SELECT id_ingrediente, 'ajuste', quantidade_estoque, 'Saldo inicial', " +
+                               "COALESCE(data_atualizacao, :agora) FROM estoque_ingredientes";
+
+    String SQL_ATUALIZAR_CUSTO_MEDIO = "UPDATE estoque_ingredientes SET " +
+                                       "custo_medio = (MAX(quantidade_estoque, 0) * COALESCE(custo_medio, 0) + :custoTotal) " +
+                                       "/ (MAX(quantidade_estoque, 0) + :quantidade) " +
+                                       "WHERE id_ingrediente = :idIngrediente";
+
+    String SQL_REGISTRAR_ENTRADA = "INSERT INTO movimentacoes_estoque " +
+                                   "(id_ingrediente, tipo, quantidade, observacao, data_movimentacao) " +
+                                   "VALUES (:idIngrediente, 'entrada', :quantidade, :observacao, :agora)";
+
+    @Query("SELECT COALESCE(MAX(m.idMovimentacao), 0) FROM MovimentacaoEstoque m")
+    Long findUltimaMovimentacao();
+
+    @Query("SELECT DISTINCT m.idIngrediente FROM MovimentacaoEstoque m WHERE m.idMovimentacao > :ultimaMovimentacao")
+    List<Long> findIngredientesMovimentadosDesde(@Param("ultimaMovimentacao") Long ultimaMovimentacao);
+
+    @Query("SELECT m.idIngrediente, SUM(m.quantidade) FROM MovimentacaoEstoque m " +
+           "WHERE m.dataMovimentacao >= :desde GROUP BY m.idIngrediente")
+    List<Object[]> somarPorIngredienteDesde(@Param("desde") LocalDateTime desde);
+
+    List<MovimentacaoEstoque> findByIdIngredienteOrderByIdMovimentacaoDesc(Long idIngrediente, Pageable pageable);
+
+    @Query("SELECT COALESCE(SUM(m.quantidade), 0.0) FROM MovimentacaoEstoque m " +
+           "WHERE m.idIngrediente = :idIngrediente AND m.idMovimentacao > :desde AND m.idMovimentacao <= :ate " +
+           "AND m.dataMovimentacao <= :data")
+    Double somarIntervalo(@Param("idIngrediente") Long idIngrediente,
+                          @Param("desde") Long desde,
+                          @Param("ate") Long ate,
+                          @Param("data") LocalDateTime data);
+
+    @Query("SELECT COUNT(m) FROM MovimentacaoEstoque m " +
+           "WHERE m.idIngrediente = :idIngrediente AND m.idMovimentacao > :desde AND m.idMovimentacao <= :ate " +
+           "AND m.dataMovimentacao <= :data")
+    long contarIntervalo(@Param("idIngrediente") Long idIngrediente,
+                         @Param("desde") Long desde,
+                         @Param("ate") Long ate,
+                         @Param("data") LocalDateTime data);
+}
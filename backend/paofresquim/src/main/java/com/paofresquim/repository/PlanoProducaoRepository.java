@@ -0,0 +1,54 @@
+package com.paofresquim.repository;
+
+import com.paofresquim.dto.ItemPlanoProducaoDTO;
+import com.paofresquim.entity.PlanoProducao;
+import com.paofresquim.entity.PlanoProducaoId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PlanoProducaoRepository extends JpaRepository<PlanoProducao, PlanoProducaoId> {
+
+    String SQL_INSERIR = "INSERT INTO planos_producao " +
+                         "(data_plano, id_produto, turno, demanda_prevista, quantidade_planejada, fator_atendimento, " +
+                         "id_ingrediente_limitante, calculado_em) " +
+                         "VALUES (:dataPlano, :idProduto, :turno, :demandaPrevista, :quantidadePlanejada, :fatorAtendimento, " +
+                         ":idIngredienteLimitante, :calculadoEm)";
+
+    @Modifying
+    @Query("DELETE FROM PlanoProducao p WHERE p.dataPlano = :dataPlano")
+    int removerPlano(@Param("dataPlano") String dataPlano);
+
+    @Query(value = "SELECT h.id_produto, " +
+                   "CASE WHEN CAST(substr(h.periodo, 12, 2) AS INTEGER) < :inicioTarde THEN 'manha' " +
+                   "WHEN CAST(substr(h.periodo, 12, 2) AS INTEGER) < :inicioNoite THEN 'tarde' ELSE 'noite' END, " +
+                   "SUM(h.quantidade_vendida) / :semanas " +
+                   "FROM resumo_vendas_hora h " +
+                   "WHERE h.periodo >= :inicioJanela AND h.periodo < :fimJanela " +
+                   "AND strftime('%w', substr(h.periodo, 1, 10)) = :diaSemana " +
+                   "GROUP BY 1, 2",
+           nativeQuery = true)
+    List<Object[]> preverDemandaPorTurno(@Param("inicioJanela") String inicioJanela,
+                                         @Param("fimJanela") String fimJanela,
+                                         @Param("diaSemana") String diaSemana,
+                                         @Param("semanas") double semanas,
+                                         @Param("inicioTarde") int inicioTarde,
+                                         @Param("inicioNoite") int inicioNoite);
+
+    @Query("SELECT new com.paofresquim.dto.ItemPlanoProducaoDTO(" +
+           "p.idProduto, pr.nomeProduto, p.turno, p.demandaPrevista, p.quantidadePlanejada, p.fatorAtendimento, " +
+           "p.idIngredienteLimitante, e.nomeIngrediente) " +
+           "FROM PlanoProducao p JOIN Produto pr ON pr.idProduto = p.idProduto " +
+           "LEFT JOIN EstoqueIngrediente e ON e.idIngrediente = p.idIngredienteLimitante " +
+           "WHERE p.dataPlano = :dataPlano ORDER BY p.quantidadePlanejada DESC, pr.nomeProduto")
+    List<ItemPlanoProducaoDTO> findPlano(@Param("dataPlano") String dataPlano);
+
+    @Query("SELECT MAX(p.calculadoEm) FROM PlanoProducao p WHERE p.dataPlano = :dataPlano")
+    LocalDateTime findCalculadoEm(@Param("dataPlano") String dataPlano);
+}
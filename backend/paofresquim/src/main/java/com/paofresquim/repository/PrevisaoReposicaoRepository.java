@@ -0,0 +1,59 @@
+package com.paofresquim.repository;
+
+import com.paofresquim.dto.PrevisaoReposicaoDTO;
+import com.paofresquim.entity.PrevisaoReposicao;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PrevisaoReposicaoRepository extends JpaRepository<PrevisaoReposicao, Long> {
+
+    String SELECT_PREVISAO = "SELECT new com.paofresquim.dto.PrevisaoReposicaoDTO(" +
+                             "p.idIngrediente, e.nomeIngrediente, e.unidadeMedida, p.estoqueAtual, e.estoqueMinimo, " +
+                             "p.consumoMedioDiario, p.diasAteRuptura, p.quantidadeSugerida, p.reporAgora, p.calculadoEm) " +
+                             "FROM PrevisaoReposicao p JOIN EstoqueIngrediente e ON e.idIngrediente = p.idIngrediente ";
+
+    @Modifying
+    @Query(value = "DELETE FROM previsoes_reposicao", nativeQuery = true)
+    void removerTodas();
+
+    @Modifying
+    @Query(value = "INSERT INTO previsoes_reposicao " +
+                   "(id_ingrediente, estoque_atual, consumo_medio_diario, dias_ate_ruptura, quantidade_sugerida, repor_agora, calculado_em) " +
+                   "SELECT e.id_ingrediente, e.quantidade_estoque, c.consumo, " +
+                   "CASE WHEN c.consumo > 0 THEN MAX(e.quantidade_estoque, 0) / c.consumo END, " +
+                   "MAX(0, c.consumo * (:prazoEntregaDias + :coberturaDias) + e.estoque_minimo - e.quantidade_estoque), " +
+                   "e.quantidade_estoque <= c.consumo * :prazoEntregaDias + e.estoque_minimo, " +
+                   ":agora " +
+                   "FROM estoque_ingredientes e JOIN (" +
+                   "SELECT i.id_ingrediente, (" +
+                   "COALESCE((SELECT SUM(d.quantidade_vendida * r.quantidade_por_kg) FROM receitas_produto r " +
+                   "JOIN resumo_vendas_dia d ON d.id_produto = r.id_produto " +
+                   "WHERE r.id_ingrediente = i.id_ingrediente AND d.periodo >= :inicioJanela AND d.periodo < :fimJanela), 0) - " +
+                   "COALESCE((SELECT SUM(m.quantidade) FROM movimentacoes_estoque m " +
+                   "WHERE m.id_ingrediente = i.id_ingrediente AND m.tipo = 'perda' " +
+                   "AND m.data_movimentacao >= :inicioPerdas AND m.data_movimentacao < :fimPerdas), 0)" +
+                   ") / :janelaDias AS consumo " +
+                   "FROM estoque_ingredientes i) c ON c.id_ingrediente = e.id_ingrediente",
+           nativeQuery = true)
+    int calcular(@Param("inicioJanela") String inicioJanela,
+                 @Param("fimJanela") String fimJanela,
+                 @Param("inicioPerdas") LocalDateTime inicioPerdas,
+                 @Param("fimPerdas") LocalDateTime fimPerdas,
+                 @Param("janelaDias") int janelaDias,
+                 @Param("prazoEntregaDias") int prazoEntregaDias,
+                 @Param("coberturaDias") int coberturaDias,
+                 @Param("agora") LocalDateTime agora);
+
+    @Query(SELECT_PREVISAO + "ORDER BY p.reporAgora DESC, COALESCE(p.diasAteRuptura, 1e9), e.nomeIngrediente")
+    List<PrevisaoReposicaoDTO> findPrevisoes();
+
+    @Query(SELECT_PREVISAO + "WHERE p.reporAgora = true ORDER BY COALESCE(p.diasAteRuptura, 1e9), e.nomeIngrediente")
+    List<PrevisaoReposicaoDTO> findPrevisoesParaRepor();
+}
@@ -0,0 +1,11 @@
+package com.paofresquim.repository;
+
+import com.paofresquim.entity.RecebimentoCompra;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RecebimentoCompraRepository extends JpaRepository<RecebimentoCompra, Long> {
+
+    boolean existsByFornecedorAndNumeroNota(String fornecedor, String numeroNota);
+}
@@ -0,0 +1,46 @@
+package com.paofresquim.repository;
+
+import com.paofresquim.dto.ClienteTopDTO;
+import com.paofresquim.entity.ResumoVendaCliente;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ResumoVendaClienteRepository extends JpaRepository<ResumoVendaCliente, Long> {
+
+    String SQL_ACUMULAR = "INSERT INTO resumo_vendas_clientes (id_cliente, total_compras, numero_compras) " +
+                          "VALUES (:idCliente, :total, :numero) " +
+                          "ON CONFLICT(id_cliente) DO UPDATE SET " +
+                          "total_compras = total_compras + excluded.total_compras, " +
+                          "numero_compras = numero_compras + excluded.numero_compras";
+
+    @Modifying
+    @Query(value = SQL_ACUMULAR, nativeQuery = true)
+    void acumular(@Param("idCliente") Long idCliente,
+                  @Param("total") Double total,
+                  @Param("numero") Integer numero);
+
+    @Modifying
+    @Query(value = "DELETE FROM resumo_vendas_clientes", nativeQuery = true)
+    void removerTodos();
+
+    @Modifying
+    @Query(value = "INSERT INTO resumo_vendas_clientes (id_cliente, total_compras, numero_compras) " +
+                   "SELECT id_cliente, SUM(total), COUNT(*) " +
+                   "FROM vendas WHERE id_cliente IS NOT NULL GROUP BY id_cliente",
+           nativeQuery = true)
+    void reconstruirAPartirDasVendas();
+
+    @Query("SELECT new com.paofresquim.dto.ClienteTopDTO(" +
+           "r.idCliente, c.nome, r.totalCompras, r.numeroCompras, r.totalCompras / r.numeroCompras) " +
+           "FROM ResumoVendaCliente r JOIN Cliente c ON c.idCliente = r.idCliente " +
+           "WHERE r.numeroCompras > 0 " +
+           "ORDER BY r.totalCompras DESC")
+    List<ClienteTopDTO> findClientesTop(Pageable pageable);
+}
@@ -0,0 +1,48 @@
+package com.paofresquim.repository;
+
+import com.paofresquim.dto.TotaisVendasDTO;
+import com.paofresquim.entity.ResumoVendaDia;
+import com.paofresquim.entity.ResumoVendaPeriodoId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ResumoVendaDiaRepository extends JpaRepository<ResumoVendaDia, ResumoVendaPeriodoId> {
+
+    String SQL_ACUMULAR = "INSERT INTO resumo_vendas_dia (periodo, id_produto, forma_pagamento, quantidade_vendida, total_vendas, numero_vendas) " +
+                          "VALUES (:periodo, :idProduto, :formaPagamento, :quantidade, :total, :numero) " +
+                          "ON CONFLICT(periodo, id_produto, forma_pagamento) DO UPDATE SET " +
+                          "quantidade_vendida = quantidade_vendida + excluded.quantidade_vendida, " +
+                          "total_vendas = total_vendas + excluded.total_vendas, " +
+                          "numero_vendas = numero_vendas + excluded.numero_vendas";
+
+    @Modifying
+    @Query(value = SQL_ACUMULAR, nativeQuery = true)
+    void acumular(@Param("periodo") String periodo,
+                  @Param("idProduto") Long idProduto,
+                  @Param("formaPagamento") String formaPagamento,
+                  @Param("quantidade") Double quantidade,
+                  @Param("total") Double total,
+                  @Param("numero") Integer numero);
+
+    @Modifying
+    @Query(value = "DELETE FROM resumo_vendas_dia", nativeQuery = true)
+    void removerTodos();
+
+    @Modifying
+    @Query(value = "INSERT INTO resumo_vendas_dia (periodo, id_produto, forma_pagamento, quantidade_vendida, total_vendas, numero_vendas) " +
+                   "SELECT strftime('%Y-%m-%d', " + VendaRepository.DATA_VENDA_LOCAL + "), id_produto, " +
+                   "COALESCE(forma_pagamento, 'dinheiro'), SUM(peso_vendido), SUM(total), COUNT(*) " +
+                   "FROM vendas WHERE data_venda IS NOT NULL GROUP BY 1, 2, 3",
+           nativeQuery = true)
+    void reconstruirAPartirDasVendas();
+
+    @Query("SELECT new com.paofresquim.dto.TotaisVendasDTO(" +
+           "COALESCE(SUM(r.totalVendas), 0.0), COALESCE(SUM(r.numeroVendas), 0L)) " +
+           "FROM ResumoVendaDia r " +
+           "WHERE r.periodo >= :inicio AND r.periodo < :fim")
+    TotaisVendasDTO totalizar(@Param("inicio") String inicio, @Param("fim") String fim);
+}
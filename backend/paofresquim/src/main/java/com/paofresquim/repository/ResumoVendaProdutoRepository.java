@@ -0,0 +1,55 @@
+package com.paofresquim.repository;
+
+import com.paofresquim.dto.ProdutoMaisVendidoDTO;
+import com.paofresquim.entity.ResumoVendaProduto;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ResumoVendaProdutoRepository extends JpaRepository<ResumoVendaProduto, Long> {
+
+    String SQL_ACUMULAR = "INSERT INTO resumo_vendas_produtos (id_produto, quantidade_vendida, total_vendas, numero_vendas) " +
+                          "VALUES (:idProduto, :quantidade, :total, :numero) " +
+                          "ON CONFLICT(id_produto) DO UPDATE SET " +
+                          "quantidade_vendida = quantidade_vendida + excluded.quantidade_vendida, " +
+                          "total_vendas = total_vendas + excluded.total_vendas, " +
+                          "numero_vendas = numero_vendas + excluded.numero_vendas";
+
+    @Modifying
+    @Query(value = SQL_ACUMULAR, nativeQuery = true)
+    void acumular(@Param("idProduto") Long idProduto,
+                  @Param("quantidade") Double quantidade,
+                  @Param("total") Double total,
+                  @Param("numero") Integer numero);
+
+    @Modifying
+    @Query(value = "DELETE FROM resumo_vendas_produtos", nativeQuery = true)
+    void removerTodos();
+
+    @Modifying
+    @Query(value = "INSERT INTO resumo_vendas_produtos (id_produto, quantidade_vendida, total_vendas, numero_vendas) " +
+                   "SELECT id_produto, SUM(peso_vendido), SUM(total), COUNT(*) " +
+                   "FROM vendas GROUP BY id_produto",
+           nativeQuery = true)
+    void reconstruirAPartirDasVendas();
+
+    @Query("SELECT new com.paofresquim.dto.ProdutoMaisVendidoDTO(" +
+           "r.idProduto, p.nomeProduto, r.quantidadeVendida, r.totalVendas, r.numeroVendas) " +
+           "FROM ResumoVendaProduto r JOIN Produto p ON p.idProduto = r.idProduto " +
+           "WHERE r.numeroVendas > 0 " +
+           "ORDER BY r.totalVendas DESC")
+    List<ProdutoMaisVendidoDTO> findMaisVendidos(Pageable pageable);
+
+    @Query("SELECT new com.paofresquim.dto.ProdutoMaisVendidoDTO(" +
+           "r.idProduto, p.nomeProduto, r.quantidadeVendida, r.totalVendas, r.numeroVendas) " +
+           "FROM ResumoVendaProduto r JOIN Produto p ON p.idProduto = r.idProduto " +
+           "WHERE r.numeroVendas > 0 " +
+           "ORDER BY r.numeroVendas DESC, r.totalVendas DESC")
+    List<ProdutoMaisVendidoDTO> findMaisFrequentes(Pageable pageable);
+}
@@ -0,0 +1,57 @@
+package com.paofresquim.repository;
+
+import com.paofresquim.dto.ClienteInadimplenteDTO;
+import com.paofresquim.entity.SaldoReceberCliente;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SaldoReceberClienteRepository extends JpaRepository<SaldoReceberCliente, Long> {
+
+    String SQL_ACUMULAR = "INSERT INTO saldos_receber_clientes (id_cliente, saldo_pendente, vendas_pendentes) " +
+                          "VALUES (:idCliente, :total, :numero) " +
+                          "ON CONFLICT(id_cliente) DO UPDATE SET " +
+                          "saldo_pendente = saldo_pendente + excluded.saldo_pendente, " +
+                          "vendas_pendentes = vendas_pendentes + excluded.vendas_pendentes";
+
+    String SELECT_DEVEDOR = "SELECT new com.paofresquim.dto.ClienteInadimplenteDTO(" +
+                            "s.idCliente, c.nome, s.saldoPendente, CAST(s.vendasPendentes AS long)) " +
+                            "FROM SaldoReceberCliente s JOIN Cliente c ON c.idCliente = s.idCliente ";
+
+    @Modifying
+    @Query(value = SQL_ACUMULAR, nativeQuery = true)
+    void acumular(@Param("idCliente") Long idCliente,
+                  @Param("total") Double total,
+                  @Param("numero") Integer numero);
+
+    @Modifying
+    @Query(value = "DELETE FROM saldos_receber_clientes WHERE id_cliente = :idCliente AND vendas_pendentes <= 0",
+           nativeQuery = true)
+    void removerSeQuitado(@Param("idCliente") Long idCliente);
+
+    @Modifying
+    @Query(value = "DELETE FROM saldos_receber_clientes", nativeQuery = true)
+    void removerTodos();
+
+    @Modifying
+    @Query(value = "INSERT INTO saldos_receber_clientes (id_cliente, saldo_pendente, vendas_pendentes) " +
+                   "SELECT id_cliente, SUM(total), COUNT(*) " +
+                   "FROM vendas WHERE id_cliente IS NOT NULL AND status_pagamento IN (:status) " +
+                   "GROUP BY id_cliente",
+           nativeQuery = true)
+    void reconstruirAPartirDasVendas(@Param("status") Collection<String> status);
+
+    @Query(SELECT_DEVEDOR + "WHERE s.vendasPendentes > 0 ORDER BY s.saldoPendente DESC")
+    List<ClienteInadimplenteDTO> findMaioresDevedores(Pageable pageable);
+
+    @Query(SELECT_DEVEDOR + "WHERE s.idCliente = :idCliente AND s.vendasPendentes > 0")
+    Optional<ClienteInadimplenteDTO> findDevedor(@Param("idCliente") Long idCliente);
+}
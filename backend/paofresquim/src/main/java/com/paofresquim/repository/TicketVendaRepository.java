@@ -0,0 +1,16 @@
+package com.paofresquim.repository;
+
+import com.paofresquim.entity.TicketVenda;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TicketVendaRepository extends JpaRepository<TicketVenda, Long> {
+
+    @Modifying
+    @Query("UPDATE TicketVenda t SET t.cliente = NULL WHERE t.cliente.idCliente = :idCliente")
+    int desvincularCliente(@Param("idCliente") Long idCliente);
+}
@@ -1,5 +1,7 @@
 package com.paofresquim.repository;
 
+import com.paofresquim.dto.ClienteInadimplenteDTO;
+import com.paofresquim.dto.VendaResponseDTO;
 import com.paofresquim.entity.Venda;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -7,21 +9,72 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Repository
 public interface VendaRepository extends JpaRepository<Venda, Long> {
+
+    String DATA_VENDA_LOCAL = "CASE typeof(data_venda) " +
+                              "WHEN 'integer' THEN datetime(data_venda / 1000, 'unixepoch', 'localtime') " +
+                              "ELSE data_venda END";
     
-    List<Venda> findByClienteIdCliente(Long idCliente);
+    String SELECT_VENDA_RESPONSE = "SELECT new com.paofresquim.dto.VendaResponseDTO(" +
+                                   "v.idVenda, c.idCliente, COALESCE(c.nome, 'Cliente não informado'), " +
+                                   "p.idProduto, p.nomeProduto, v.pesoVendido, v.precoKg, v.total, " +
+                                   "v.formaPagamento, v.statusPagamento, v.dataVenda, v.dataVencimento, t.idTicket) " +
+                                   "FROM Venda v JOIN v.produto p LEFT JOIN v.cliente c LEFT JOIN v.ticket t ";
+
+    @Query(SELECT_VENDA_RESPONSE + "ORDER BY v.idVenda")
+    List<VendaResponseDTO> findAllVendaResponse();
+
+    @Query(SELECT_VENDA_RESPONSE + "WHERE v.idVenda = :idVenda")
+    Optional<VendaResponseDTO> findVendaResponseById(@Param("idVenda") Long idVenda);
+
+    @Query(SELECT_VENDA_RESPONSE + "WHERE c.idCliente = :idCliente ORDER BY v.idVenda")
+    List<VendaResponseDTO> findByClienteIdCliente(@Param("idCliente") Long idCliente);
+
+    @Query("SELECT v FROM Venda v JOIN FETCH v.produto LEFT JOIN FETCH v.cliente " +
+           "WHERE v.ticket.idTicket = :idTicket ORDER BY v.idVenda")
+    List<Venda> findByTicketIdTicket(@Param("idTicket") Long idTicket);
     
-    List<Venda> findByProdutoIdProduto(Long idProduto);
+    @Query(SELECT_VENDA_RESPONSE + "WHERE p.idProduto = :idProduto ORDER BY v.idVenda")
+    List<VendaResponseDTO> findByProdutoIdProduto(@Param("idProduto") Long idProduto);
     
-    List<Venda> findByDataVendaBetween(LocalDateTime inicio, LocalDateTime fim);
+    @Query(SELECT_VENDA_RESPONSE + "WHERE v.dataVenda BETWEEN :inicio AND :fim ORDER BY v.idVenda")
+    List<VendaResponseDTO> findByDataVendaBetween(@Param("inicio") LocalDateTime inicio,
+                                                  @Param("fim") LocalDateTime fim);
     
-    List<Venda> findByStatusPagamento(String statusPagamento);
+    @Query(SELECT_VENDA_RESPONSE + "WHERE v.statusPagamento = :statusPagamento ORDER BY v.idVenda")
+    List<VendaResponseDTO> findByStatusPagamento(@Param("statusPagamento") String statusPagamento);
     
-    List<Venda> findByFormaPagamento(String formaPagamento);
+    @Query(SELECT_VENDA_RESPONSE + "WHERE v.formaPagamento = :formaPagamento ORDER BY v.idVenda")
+    List<VendaResponseDTO> findByFormaPagamento(@Param("formaPagamento") String formaPagamento);
+
+    long countByStatusPagamentoIn(Collection<String> status);
+
+    @Query("SELECT COALESCE(SUM(v.total), 0.0) FROM Venda v WHERE v.statusPagamento IN :status")
+    Double somarTotalPorStatus(@Param("status") Collection<String> status);
+
+    @Query("SELECT new com.paofresquim.dto.ClienteInadimplenteDTO(" +
+           "CAST(NULL AS Long), CAST(NULL AS String), COALESCE(SUM(v.total), 0.0), COUNT(v)) " +
+           "FROM Venda v WHERE v.cliente IS NULL AND v.statusPagamento IN :status")
+    ClienteInadimplenteDTO totalizarPendentesSemCliente(@Param("status") Collection<String> status);
+
+    @Query(value = "SELECT CASE WHEN data_vencimento >= :agora THEN 'a-vencer' " +
+                   "WHEN data_vencimento > :limiteSemana THEN '0-7' " +
+                   "WHEN data_vencimento > :limiteMes THEN '8-30' " +
+                   "ELSE '31+' END AS faixa, COALESCE(SUM(total), 0), COUNT(*) " +
+                   "FROM vendas " +
+                   "WHERE status_pagamento IN (:status) AND data_vencimento IS NOT NULL " +
+                   "GROUP BY faixa",
+           nativeQuery = true)
+    List<Object[]> totalizarPendentesPorFaixaVencimento(@Param("status") Collection<String> status,
+                                                        @Param("agora") LocalDateTime agora,
+                                                        @Param("limiteSemana") LocalDateTime limiteSemana,
+                                                        @Param("limiteMes") LocalDateTime limiteMes);
 
     @Query("SELECT v.produto.idProduto, v.produto.nomeProduto, " +
            "SUM(v.pesoVendido) as quantidadeTotal, " +
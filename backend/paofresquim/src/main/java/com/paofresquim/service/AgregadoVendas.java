@@ -0,0 +1,18 @@
+package com.paofresquim.service;
+
+import com.paofresquim.entity.Venda;
+
+import java.util.List;
+
+public interface AgregadoVendas {
+
+    void registrar(Venda venda);
+
+    default void registrarLote(List<Venda> vendas) {
+        vendas.forEach(this::registrar);
+    }
+
+    void estornar(Venda venda);
+
+    void reconstruir();
+}
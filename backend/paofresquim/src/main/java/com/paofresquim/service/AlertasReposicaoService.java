@@ -0,0 +1,148 @@
+package com.paofresquim.service;
+
+import com.paofresquim.dto.EstoqueIngredienteResponseDTO;
+import com.paofresquim.entity.EstoqueIngrediente;
+import com.paofresquim.event.DadosAlteradosEvent;
+import com.paofresquim.event.EstoqueMinimoCruzadoEvent;
+import com.paofresquim.repository.EstoqueIngredienteRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
+
+@Service
+public class AlertasReposicaoService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AlertasReposicaoService.class);
+
+    @Autowired
+    private EstoqueIngredienteRepository estoqueIngredienteRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private final Map<Long, EstoqueIngredienteResponseDTO> alertas = new ConcurrentSkipListMap<>();
+
+    private final Map<Long, Long> versoes = new HashMap<>();
+
+    private long sequencia;
+
+    private long versaoCarga;
+
+    public List<EstoqueIngredienteResponseDTO> listar() {
+        return List.copyOf(alertas.values());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void carregar() {
+        synchronized (versoes) {
+            versaoCarga = ++sequencia;
+            versoes.clear();
+            List<EstoqueIngredienteResponseDTO> abaixoDoMinimo = estoqueIngredienteRepository.findSituacaoPrecisaRepor();
+            Set<Long> ids = abaixoDoMinimo.stream()
+                    .map(EstoqueIngredienteResponseDTO::idIngrediente)
+                    .collect(Collectors.toSet());
+            abaixoDoMinimo.forEach(ingrediente -> alertas.put(ingrediente.idIngrediente(), ingrediente));
+            alertas.keySet().retainAll(ids);
+            logger.info("Alertas de reposição carregados: {} ingredientes abaixo do mínimo", alertas.size());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void aoAlterarDados(DadosAlteradosEvent evento) {
+        if (!EstoqueIngrediente.class.equals(evento.entidade())) {
+            return;
+        }
+        if (evento.ids().isEmpty()) {
+            aposCommit(this::carregar);
+            return;
+        }
+
+        Set<Long> ids = evento.ids().stream()
+                .map(id -> ((Number) id).longValue())
+                .collect(Collectors.toSet());
+        long versao;
+        List<EstoqueIngredienteResponseDTO> situacoes;
+        synchronized (versoes) {
+            versao = ++sequencia;
+            situacoes = estoqueIngredienteRepository.findSituacao(ids);
+        }
+        aposCommit(() -> aplicar(versao, ids, situacoes));
+    }
+
+    private void aplicar(long versao, Set<Long> ids, List<EstoqueIngredienteResponseDTO> situacoes) {
+        synchronized (versoes) {
+            Set<Long> atuais = ids.stream()
+                    .filter(id -> versao > Math.max(versaoCarga, versoes.getOrDefault(id, 0L)))
+                    .collect(Collectors.toSet());
+            atuais.forEach(id -> versoes.put(id, versao));
+
+            Set<Long> removidos = new HashSet<>(atuais);
+            for (EstoqueIngredienteResponseDTO ingrediente : situacoes) {
+                if (!removidos.remove(ingrediente.idIngrediente())) {
+                    continue;
+                }
+                EstoqueIngredienteResponseDTO anterior = ingrediente.precisaRepor()
+                        ? alertas.put(ingrediente.idIngrediente(), ingrediente)
+                        : alertas.remove(ingrediente.idIngrediente());
+                if ((anterior == null) == ingrediente.precisaRepor()) {
+                    publicarCruzamento(ingrediente);
+                }
+            }
+            removidos.forEach(alertas::remove);
+        }
+    }
+
+    private void aposCommit(Runnable acao) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            acao.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public int getOrder() {
+                return Ordered.HIGHEST_PRECEDENCE;
+            }
+
+            @Override
+            public void afterCommit() {
+                acao.run();
+            }
+        });
+    }
+
+    private void publicarCruzamento(EstoqueIngredienteResponseDTO ingrediente) {
+        if (ingrediente.precisaRepor()) {
+            logger.warn("Ingrediente {} ficou abaixo do estoque mínimo: {} {} (mínimo {})", ingrediente.nomeIngrediente(),
+                    ingrediente.quantidadeEstoque(), ingrediente.unidadeMedida(), ingrediente.estoqueMinimo());
+        } else {
+            logger.info("Ingrediente {} voltou ao estoque mínimo: {} {}", ingrediente.nomeIngrediente(),
+                    ingrediente.quantidadeEstoque(), ingrediente.unidadeMedida());
+        }
+        eventPublisher.publishEvent(new EstoqueMinimoCruzadoEvent(
+            ingrediente.idIngrediente(),
+            ingrediente.nomeIngrediente(),
+            ingrediente.quantidadeEstoque(),
+            ingrediente.estoqueMinimo(),
+            ingrediente.precisaRepor()
+        ));
+    }
+}
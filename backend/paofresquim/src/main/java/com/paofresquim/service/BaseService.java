@@ -1,18 +1,44 @@
 package com.paofresquim.service;
 
+import com.paofresquim.dto.PaginaRequestDTO;
+import com.paofresquim.dto.PaginaResponseDTO;
+import com.paofresquim.event.DadosAlteradosEvent;
+import com.paofresquim.exception.ValidacaoException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.metamodel.EntityType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 public abstract class BaseService<T, ID, REQ, RES> {
     
+    protected static final String ORDENACAO_ID = "id";
+    protected static final int TAMANHO_PAGINA_PADRAO = 50;
+    protected static final int TAMANHO_PAGINA_MAXIMO = 500;
+    
     protected final Logger logger = LoggerFactory.getLogger(getClass());
     
+    @Autowired
+    protected ApplicationEventPublisher eventPublisher;
+    
+    @PersistenceContext
+    protected EntityManager entityManager;
+    
     protected abstract JpaRepository<T, ID> getRepository();
     protected abstract RES toResponseDTO(T entity);
     protected abstract T toEntity(REQ requestDTO);
@@ -27,6 +53,96 @@ public abstract class BaseService<T, ID, REQ, RES> {
                 .collect(Collectors.toList());
     }
     
+    @Transactional(readOnly = true)
+    public PaginaResponseDTO<RES> listarPagina(PaginaRequestDTO pagina) {
+        return listarPagina(pagina.tamanho() != null ? pagina.tamanho() : TAMANHO_PAGINA_PADRAO,
+                pagina.cursor(), pagina.ordenacao(), pagina.direcao());
+    }
+    
+    @Transactional(readOnly = true)
+    @SuppressWarnings("unchecked")
+    public PaginaResponseDTO<RES> listarPagina(int tamanho, String cursor, String ordenacao, String direcao) {
+        if (tamanho < 1 || tamanho > TAMANHO_PAGINA_MAXIMO) {
+            throw new ValidacaoException("Tamanho da página deve estar entre 1 e " + TAMANHO_PAGINA_MAXIMO);
+        }
+        if (direcao != null && !"asc".equalsIgnoreCase(direcao) && !"desc".equalsIgnoreCase(direcao)) {
+            throw new ValidacaoException("Direção de ordenação inválida: " + direcao);
+        }
+
+        CursorPagina posicao = cursor != null && !cursor.isBlank() ? CursorPagina.decodificar(cursor) : null;
+        String campo = ordenacao != null ? ordenacao : posicao != null ? posicao.campo() : ORDENACAO_ID;
+        boolean decrescente = direcao != null ? "desc".equalsIgnoreCase(direcao) : posicao != null && posicao.decrescente();
+
+        List<String> ordenacoesDisponiveis = getOrdenacoesDisponiveis();
+        if (!ordenacoesDisponiveis.contains(campo)) {
+            throw new ValidacaoException("Ordenação inválida: " + campo + ". Opções: " + ordenacoesDisponiveis);
+        }
+        if (posicao != null && (!posicao.campo().equals(campo) || posicao.decrescente() != decrescente)) {
+            throw new ValidacaoException("Cursor não corresponde à ordenação solicitada");
+        }
+
+        EntityType<T> tipo = entityManager.getMetamodel().entity((Class<T>) getEntityClass());
+        Class<?> tipoId = tipo.getIdType().getJavaType();
+        String atributoId = tipo.getId(tipoId).getName();
+        boolean porId = ORDENACAO_ID.equals(campo);
+        String comparador = decrescente ? " < " : " > ";
+        String sentido = decrescente ? " DESC" : " ASC";
+
+        StringBuilder jpql = new StringBuilder("SELECT e FROM ").append(tipo.getName()).append(" e ")
+                .append(getJoinsPagina());
+        boolean valorNulo = posicao != null && posicao.valor() == null;
+        if (posicao != null) {
+            String atributo = "e." + campo;
+            String desempate = "e." + atributoId + comparador + ":id";
+            if (porId) {
+                jpql.append(" WHERE ").append(desempate);
+            } else if (valorNulo) {
+                jpql.append(decrescente
+                        ? " WHERE " + atributo + " IS NULL AND " + desempate
+                        : " WHERE (" + atributo + " IS NULL AND " + desempate + ") OR " + atributo + " IS NOT NULL");
+            } else {
+                jpql.append(" WHERE ").append(atributo).append(comparador).append(":valor OR (")
+                        .append(atributo).append(" = :valor AND ").append(desempate).append(")")
+                        .append(decrescente ? " OR " + atributo + " IS NULL" : "");
+            }
+        }
+        jpql.append(" ORDER BY ");
+        if (!porId) {
+            jpql.append("e.").append(campo).append(sentido).append(decrescente ? " NULLS LAST" : " NULLS FIRST").append(", ");
+        }
+        jpql.append("e.").append(atributoId).append(sentido);
+
+        TypedQuery<T> consulta = entityManager.createQuery(jpql.toString(), (Class<T>) getEntityClass())
+                .setMaxResults(tamanho + 1);
+        if (posicao != null) {
+            consulta.setParameter("id", converterValor(posicao.id(), tipoId));
+            if (!porId && !valorNulo) {
+                consulta.setParameter("valor", converterValor(posicao.valor(), tipo.getAttribute(campo).getJavaType()));
+            }
+        }
+
+        List<T> registros = new ArrayList<>(consulta.getResultList());
+        String proximoCursor = null;
+        if (registros.size() > tamanho) {
+            registros = registros.subList(0, tamanho);
+            T ultimo = registros.get(tamanho - 1);
+            Object valor = porId ? null : PropertyAccessorFactory.forBeanPropertyAccess(ultimo).getPropertyValue(campo);
+            proximoCursor = new CursorPagina(campo, decrescente, String.valueOf(getIdFromEntity(ultimo)),
+                    valor != null ? valor.toString() : null).codificar();
+        }
+
+        logger.debug("Página de {} com {} registros (ordenação {} {})",
+                getEntityName(), registros.size(), campo, decrescente ? "desc" : "asc");
+        return new PaginaResponseDTO<>(
+            registros.stream().map(this::toResponseDTO).collect(Collectors.toList()),
+            tamanho,
+            proximoCursor,
+            campo,
+            decrescente ? "desc" : "asc",
+            ordenacoesDisponiveis
+        );
+    }
+    
     @Transactional(readOnly = true)
     public Optional<RES> buscarPorId(ID id) {
         logger.debug("Buscando {} por ID: {}", getEntityName(), id);
@@ -39,6 +155,7 @@ public abstract class BaseService<T, ID, REQ, RES> {
         logger.info("Criando novo {}", getEntityName());
         T entity = toEntity(requestDTO);
         T savedEntity = getRepository().save(entity);
+        publicarAlteracao(getIdFromEntity(savedEntity));
         logger.info("{} criado com ID: {}", getEntityName(), getIdFromEntity(savedEntity));
         return toResponseDTO(savedEntity);
     }
@@ -50,6 +167,7 @@ public abstract class BaseService<T, ID, REQ, RES> {
                 .map(entity -> {
                     updateEntityFromRequest(entity, requestDTO);
                     T updatedEntity = getRepository().save(entity);
+                    publicarAlteracao(id);
                     logger.info("{} atualizado com ID: {}", getEntityName(), id);
                     return toResponseDTO(updatedEntity);
                 });
@@ -60,6 +178,7 @@ public abstract class BaseService<T, ID, REQ, RES> {
         logger.info("Deletando {} com ID: {}", getEntityName(), id);
         if (getRepository().existsById(id)) {
             getRepository().deleteById(id);
+            publicarAlteracao(id);
             logger.info("{} deletado com ID: {}", getEntityName(), id);
             return true;
         }
@@ -67,6 +186,36 @@ public abstract class BaseService<T, ID, REQ, RES> {
         return false;
     }
     
+    protected List<String> getOrdenacoesDisponiveis() {
+        return List.of(ORDENACAO_ID);
+    }
+    
+    protected String getJoinsPagina() {
+        return "";
+    }
+    
+    private Object converterValor(String valor, Class<?> tipo) {
+        try {
+            if (tipo == LocalDateTime.class) {
+                return LocalDateTime.parse(valor);
+            }
+            if (tipo == LocalDate.class) {
+                return LocalDate.parse(valor);
+            }
+            return DefaultConversionService.getSharedInstance().convert(valor, tipo);
+        } catch (RuntimeException e) {
+            throw new ValidacaoException("Cursor de paginação inválido");
+        }
+    }
+    
+    protected void publicarAlteracao(ID id) {
+        eventPublisher.publishEvent(DadosAlteradosEvent.de(getEntityClass(), id));
+    }
+    
+    protected Class<?> getEntityClass() {
+        return GenericTypeResolver.resolveTypeArguments(getClass(), BaseService.class)[0];
+    }
+    
     protected String getEntityName() {
         return getClass().getSimpleName().replace("Service", "");
     }
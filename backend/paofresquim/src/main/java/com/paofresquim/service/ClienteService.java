@@ -3,8 +3,11 @@ package com.paofresquim.service;
 import com.paofresquim.dto.ClienteRequestDTO;
 import com.paofresquim.dto.ClienteResponseDTO;
 import com.paofresquim.entity.Cliente;
+import com.paofresquim.entity.Venda;
+import com.paofresquim.event.DadosAlteradosEvent;
 import com.paofresquim.exception.ConflitoDadosException;
 import com.paofresquim.repository.ClienteRepository;
+import com.paofresquim.repository.TicketVendaRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,6 +22,12 @@ public class ClienteService extends BaseService<Cliente, Long, ClienteRequestDTO
     @Autowired
     private ClienteRepository clienteRepository;
 
+    @Autowired
+    private List<AgregadoVendas> agregadosVendas;
+
+    @Autowired
+    private TicketVendaRepository ticketVendaRepository;
+
     @Override
     protected ClienteRepository getRepository() {
         return clienteRepository;
@@ -55,6 +64,11 @@ public class ClienteService extends BaseService<Cliente, Long, ClienteRequestDTO
         cliente.setTelefone(requestDTO.telefone());
     }
 
+    @Override
+    protected List<String> getOrdenacoesDisponiveis() {
+        return List.of(ORDENACAO_ID, "nome");
+    }
+
     @Override
     protected Long getIdFromEntity(Cliente entity) {
         return entity.getIdCliente();
@@ -69,6 +83,24 @@ public class ClienteService extends BaseService<Cliente, Long, ClienteRequestDTO
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional
+    public boolean deletar(Long id) {
+        logger.info("Tentando deletar cliente ID: {}", id);
+        Optional<Cliente> cliente = clienteRepository.findById(id);
+        if (cliente.isPresent()) {
+            cliente.get().getVendas().forEach(venda -> agregadosVendas.forEach(agregado -> agregado.estornar(venda)));
+            ticketVendaRepository.desvincularCliente(id);
+            clienteRepository.delete(cliente.get());
+            publicarAlteracao(id);
+            eventPublisher.publishEvent(DadosAlteradosEvent.de(Venda.class));
+            logger.info("Cliente deletado com ID: {}", id);
+            return true;
+        }
+        logger.warn("Cliente não encontrado para deleção ID: {}", id);
+        return false;
+    }
+
     private void validarEmailUnico(Long idCliente, String email) {
         if (email != null && clienteRepository.existsByEmail(email)) {
             Optional<Cliente> clienteExistente = clienteRepository.findByEmail(email);
@@ -0,0 +1,120 @@
+package com.paofresquim.service;
+
+import com.paofresquim.dto.ClienteInadimplenteDTO;
+import com.paofresquim.dto.FaixaVencimentoDTO;
+import com.paofresquim.entity.Venda;
+import com.paofresquim.repository.SaldoReceberClienteRepository;
+import com.paofresquim.repository.VendaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Service
+public class ContasReceberService implements AgregadoVendas {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContasReceberService.class);
+
+    public static final List<String> STATUS_PENDENTES = List.of("pendente");
+
+    private static final List<String> FAIXAS_VENCIMENTO = List.of("a-vencer", "0-7", "8-30", "31+");
+
+    @Autowired
+    private SaldoReceberClienteRepository saldoReceberClienteRepository;
+
+    @Autowired
+    private VendaRepository vendaRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Override
+    @Transactional
+    public void registrar(Venda venda) {
+        aplicar(venda, 1);
+    }
+
+    @Override
+    @Transactional
+    public void registrarLote(List<Venda> vendas) {
+        Map<Long, double[]> saldos = new LinkedHashMap<>();
+        for (Venda venda : vendas) {
+            if (!emAberto(venda)) {
+                continue;
+            }
+            double[] saldo = saldos.computeIfAbsent(venda.getCliente().getIdCliente(), id -> new double[2]);
+            saldo[0] += venda.getTotal() != null ? venda.getTotal() : 0.0;
+            saldo[1]++;
+        }
+        namedParameterJdbcTemplate.batchUpdate(SaldoReceberClienteRepository.SQL_ACUMULAR, saldos.entrySet().stream()
+                .map(entrada -> new MapSqlParameterSource()
+                        .addValue("idCliente", entrada.getKey())
+                        .addValue("total", entrada.getValue()[0])
+                        .addValue("numero", (int) entrada.getValue()[1]))
+                .toArray(SqlParameterSource[]::new));
+    }
+
+    @Override
+    @Transactional
+    public void estornar(Venda venda) {
+        aplicar(venda, -1);
+    }
+
+    @Override
+    @Transactional
+    public void reconstruir() {
+        logger.info("Reconstruindo saldos a receber por cliente a partir da tabela vendas");
+        saldoReceberClienteRepository.removerTodos();
+        saldoReceberClienteRepository.reconstruirAPartirDasVendas(STATUS_PENDENTES);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ClienteInadimplenteDTO> obterMaioresDevedores(int limite) {
+        return saldoReceberClienteRepository.findMaioresDevedores(PageRequest.of(0, limite));
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<ClienteInadimplenteDTO> obterSaldoCliente(Long idCliente) {
+        return saldoReceberClienteRepository.findDevedor(idCliente);
+    }
+
+    @Transactional(readOnly = true)
+    public List<FaixaVencimentoDTO> obterFaixasVencimento() {
+        LocalDateTime agora = LocalDateTime.now();
+        Map<String, FaixaVencimentoDTO> faixas = new LinkedHashMap<>();
+        FAIXAS_VENCIMENTO.forEach(faixa -> faixas.put(faixa, new FaixaVencimentoDTO(faixa, 0.0, 0L)));
+
+        vendaRepository.totalizarPendentesPorFaixaVencimento(STATUS_PENDENTES, agora,
+                        agora.minusDays(8), agora.minusDays(31))
+                .forEach(linha -> faixas.put((String) linha[0], new FaixaVencimentoDTO((String) linha[0],
+                        ((Number) linha[1]).doubleValue(), ((Number) linha[2]).longValue())));
+
+        return List.copyOf(faixas.values());
+    }
+
+    private boolean emAberto(Venda venda) {
+        return venda.getCliente() != null && STATUS_PENDENTES.contains(venda.getStatusPagamento());
+    }
+
+    private void aplicar(Venda venda, int sinal) {
+        if (!emAberto(venda)) {
+            return;
+        }
+        double total = venda.getTotal() != null ? venda.getTotal() : 0.0;
+        saldoReceberClienteRepository.acumular(venda.getCliente().getIdCliente(), sinal * total, sinal);
+        if (sinal < 0) {
+            saldoReceberClienteRepository.removerSeQuitado(venda.getCliente().getIdCliente());
+        }
+    }
+}
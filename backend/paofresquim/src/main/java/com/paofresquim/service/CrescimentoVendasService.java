@@ -0,0 +1,93 @@
+package com.paofresquim.service;
+
+import com.paofresquim.dto.CrescimentoVendasDTO;
+import com.paofresquim.entity.Venda;
+import com.paofresquim.event.DadosAlteradosEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Service
+public class CrescimentoVendasService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CrescimentoVendasService.class);
+
+    private record Entrada(LocalDateTime hora, long versao, CrescimentoVendasDTO valor) {}
+
+    @Autowired
+    private ResumoVendasPeriodoService resumoVendasPeriodoService;
+
+    @Value("${paofresquim.crescimento.dias-comparacao-diaria:7}")
+    private int diasComparacaoDiaria;
+
+    @Value("${paofresquim.crescimento.meses-comparacao-mensal:1}")
+    private int mesesComparacaoMensal;
+
+    private final AtomicReference<Entrada> cache = new AtomicReference<>();
+    private final AtomicLong versao = new AtomicLong();
+
+    public CrescimentoVendasDTO obterCrescimento() {
+        LocalDateTime horaAtual = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        long versaoAtual = versao.get();
+
+        Entrada entrada = cache.get();
+        if (entrada != null && entrada.hora().equals(horaAtual) && entrada.versao() == versaoAtual) {
+            return entrada.valor();
+        }
+
+        CrescimentoVendasDTO crescimento = calcular(horaAtual);
+        cache.set(new Entrada(horaAtual, versaoAtual, crescimento));
+        return crescimento;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarDados(DadosAlteradosEvent evento) {
+        if (Venda.class.equals(evento.entidade())) {
+            versao.incrementAndGet();
+        }
+    }
+
+    private CrescimentoVendasDTO calcular(LocalDateTime horaAtual) {
+        logger.debug("Calculando crescimento de vendas até a hora {}", horaAtual);
+        LocalDateTime fimAtual = horaAtual.plusHours(1);
+        LocalDate hoje = horaAtual.toLocalDate();
+
+        double vendasHoje = totalizar(hoje.atStartOfDay(), fimAtual);
+        double vendasDiaComparacao = totalizar(hoje.minusDays(diasComparacaoDiaria).atStartOfDay(),
+                fimAtual.minusDays(diasComparacaoDiaria));
+
+        LocalDate inicioMes = hoje.withDayOfMonth(1);
+        double vendasMes = totalizar(inicioMes.atStartOfDay(), fimAtual);
+        double vendasMesComparacao = totalizar(inicioMes.minusMonths(mesesComparacaoMensal).atStartOfDay(),
+                fimAtual.minusMonths(mesesComparacaoMensal));
+
+        return new CrescimentoVendasDTO(
+            vendasHoje,
+            vendasDiaComparacao,
+            calcularPercentual(vendasHoje, vendasDiaComparacao),
+            vendasMes,
+            vendasMesComparacao,
+            calcularPercentual(vendasMes, vendasMesComparacao)
+        );
+    }
+
+    private double totalizar(LocalDateTime inicio, LocalDateTime fim) {
+        return resumoVendasPeriodoService.totalizar(inicio, fim).totalVendas();
+    }
+
+    private Double calcularPercentual(double atual, double anterior) {
+        if (anterior <= 0.0) {
+            return 0.0;
+        }
+        return (atual - anterior) / anterior * 100.0;
+    }
+}
@@ -0,0 +1,33 @@
+package com.paofresquim.service;
+
+import com.paofresquim.exception.ValidacaoException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+record CursorPagina(String campo, boolean decrescente, String id, String valor) {
+
+    private static final String SEPARADOR = "|";
+
+    String codificar() {
+        String conteudo = String.join(SEPARADOR, campo, decrescente ? "desc" : "asc", id);
+        if (valor != null) {
+            conteudo += SEPARADOR + valor;
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(conteudo.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static CursorPagina decodificar(String cursor) {
+        try {
+            String conteudo = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] partes = conteudo.split("\\" + SEPARADOR, 4);
+            if (partes.length < 3 || partes[2].isEmpty()
+                    || !("asc".equals(partes[1]) || "desc".equals(partes[1]))) {
+                throw new ValidacaoException("Cursor de paginação inválido");
+            }
+            return new CursorPagina(partes[0], "desc".equals(partes[1]), partes[2], partes.length == 4 ? partes[3] : null);
+        } catch (IllegalArgumentException e) {
+            throw new ValidacaoException("Cursor de paginação inválido");
+        }
+    }
+}
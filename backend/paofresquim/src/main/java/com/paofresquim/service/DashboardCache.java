@@ -0,0 +1,119 @@
+package com.paofresquim.service;
+
+import com.paofresquim.dto.SecaoDashboard;
+import com.paofresquim.entity.*;
+import com.paofresquim.event.DadosAlteradosEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Component
+public class DashboardCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardCache.class);
+
+    private static final Map<Class<?>, Set<SecaoDashboard>> SECOES_POR_ENTIDADE = Map.of(
+        Venda.class, EnumSet.of(SecaoDashboard.METRICAS_VENDAS, SecaoDashboard.PRODUTOS_MAIS_VENDIDOS,
+                SecaoDashboard.CLIENTES_TOP, SecaoDashboard.PENDENCIAS),
+        Produto.class, EnumSet.of(SecaoDashboard.PRODUTOS_MAIS_VENDIDOS),
+        Cliente.class, EnumSet.of(SecaoDashboard.CLIENTES_TOP, SecaoDashboard.PENDENCIAS),
+        EstoqueIngrediente.class, EnumSet.of(SecaoDashboard.ALERTAS_ESTOQUE),
+        Funcionario.class, EnumSet.of(SecaoDashboard.METRICAS_FUNCIONARIOS),
+        FeriasFuncionario.class, EnumSet.of(SecaoDashboard.METRICAS_FUNCIONARIOS),
+        ExpedienteFuncionario.class, EnumSet.of(SecaoDashboard.METRICAS_FUNCIONARIOS)
+    );
+
+    private record Entrada(Object valor, long expiraEm) {}
+
+    private final Map<SecaoDashboard, AtomicReference<Entrada>> entradas = new EnumMap<>(SecaoDashboard.class);
+    private final Map<SecaoDashboard, AtomicLong> versoes = new EnumMap<>(SecaoDashboard.class);
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter invalidacoes;
+    private final Counter expiracoes;
+
+    private final long ttlNanos;
+
+    public DashboardCache(MeterRegistry meterRegistry,
+                          @Value("${paofresquim.dashboard.cache.ttl-segundos:60}") long ttlSegundos) {
+        for (SecaoDashboard secao : SecaoDashboard.values()) {
+            entradas.put(secao, new AtomicReference<>());
+            versoes.put(secao, new AtomicLong());
+        }
+        this.ttlNanos = ttlSegundos * 1_000_000_000L;
+        this.hits = meterRegistry.counter("paofresquim.dashboard.cache", "resultado", "hit");
+        this.misses = meterRegistry.counter("paofresquim.dashboard.cache", "resultado", "miss");
+        this.invalidacoes = meterRegistry.counter("paofresquim.dashboard.cache.evictions", "motivo", "invalidacao");
+        this.expiracoes = meterRegistry.counter("paofresquim.dashboard.cache.evictions", "motivo", "expiracao");
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T obter(SecaoDashboard secao) {
+        AtomicReference<Entrada> referencia = entradas.get(secao);
+        Entrada entrada = referencia.get();
+        if (entrada == null) {
+            misses.increment();
+            return null;
+        }
+        if (System.nanoTime() - entrada.expiraEm() >= 0) {
+            if (referencia.compareAndSet(entrada, null)) {
+                expiracoes.increment();
+            }
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return (T) entrada.valor();
+    }
+
+    public long versao(SecaoDashboard secao) {
+        return versoes.get(secao).get();
+    }
+
+    public void armazenar(SecaoDashboard secao, long versaoLida, Object valor) {
+        if (valor == null || ttlNanos <= 0) {
+            return;
+        }
+        AtomicReference<Entrada> referencia = entradas.get(secao);
+        Entrada nova = new Entrada(valor, System.nanoTime() + ttlNanos);
+        referencia.set(nova);
+        if (versoes.get(secao).get() != versaoLida) {
+            referencia.compareAndSet(nova, null);
+        }
+    }
+
+    public void invalidar(Set<SecaoDashboard> secoes) {
+        for (SecaoDashboard secao : secoes) {
+            versoes.get(secao).incrementAndGet();
+            if (entradas.get(secao).getAndSet(null) != null) {
+                invalidacoes.increment();
+            }
+        }
+    }
+
+    public void invalidarTudo() {
+        invalidar(EnumSet.allOf(SecaoDashboard.class));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarDados(DadosAlteradosEvent evento) {
+        Set<SecaoDashboard> secoes = SECOES_POR_ENTIDADE.get(evento.entidade());
+        if (secoes != null) {
+            logger.debug("Invalidando seções {} do dashboard após alteração em {}",
+                    secoes, evento.entidade().getSimpleName());
+            invalidar(secoes);
+        }
+    }
+}
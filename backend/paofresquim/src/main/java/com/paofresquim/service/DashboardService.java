@@ -1,20 +1,36 @@
 package com.paofresquim.service;
 
 import com.paofresquim.dto.*;
-import com.paofresquim.entity.Venda;
 import com.paofresquim.repository.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.MDC;
+import org.sqlite.SQLiteConnection;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.datasource.DataSourceUtils;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,6 +38,13 @@ public class DashboardService {
 
     private static final Logger logger = LoggerFactory.getLogger(DashboardService.class);
 
+    private static final int LIMITE_RANKING = 10;
+
+    private static final int LIMITE_RESUMO_PRODUTOS = 3;
+
+    private static final int LIMITE_RESUMO_DEVEDORES = 4;
+
+
     @Autowired
     private VendaRepository vendaRepository;
 
@@ -29,7 +52,10 @@ public class DashboardService {
     private FuncionarioRepository funcionarioRepository;
 
     @Autowired
-    private EstoqueIngredienteRepository estoqueIngredienteRepository;
+    private AlertasReposicaoService alertasReposicaoService;
+
+    @Autowired
+    private MovimentacaoEstoqueService movimentacaoEstoqueService;
 
     @Autowired
     private ExpedienteRepository expedienteRepository;
@@ -37,22 +63,78 @@ public class DashboardService {
     @Autowired
     private FeriasRepository feriasRepository;
 
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private ResumoVendasService resumoVendasService;
+
+    @Autowired
+    private ResumoVendasPeriodoService resumoVendasPeriodoService;
+
+    @Autowired
+    private ContasReceberService contasReceberService;
+
+    @Autowired
+    private CrescimentoVendasService crescimentoVendasService;
+
+    @Autowired
+    private DashboardCache dashboardCache;
+
+    @Autowired
+    @Qualifier("dashboardExecutor")
+    private ExecutorService dashboardExecutor;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Value("${paofresquim.dashboard.timeout-secao-ms:2000}")
+    private long timeoutSecaoMs;
+
+    @Value("${paofresquim.estoque.dias-alerta-validade:3}")
+    private int diasAlertaValidade;
+
+    private TransactionTemplate transacaoLeitura;
+
+    @PostConstruct
+    public void inicializar() {
+        transacaoLeitura = new TransactionTemplate(transactionManager);
+        transacaoLeitura.setReadOnly(true);
+    }
+
     public DashboardResponseDTO obterDashboard() {
-        logger.info("Gerando dashboard com métricas consolidadas");
+        return obterDashboard(EnumSet.allOf(SecaoDashboard.class));
+    }
+
+    public DashboardResponseDTO obterDashboard(Set<SecaoDashboard> secoes) {
+        logger.info("Gerando dashboard com as seções: {}", secoes);
         
         try {
-            MetricasVendasDTO metricasVendas = obterMetricasVendas();
-            List<ProdutoMaisVendidoDTO> produtosMaisVendidos = obterProdutosMaisVendidos();
-            List<ClienteTopDTO> clientesTop = obterClientesTop();
-            MetricasFuncionariosDTO metricasFuncionarios = obterMetricasFuncionarios();
-            AlertasEstoqueDTO alertasEstoque = obterAlertasEstoque();
+            Map<String, String> contextoLog = MDC.getCopyOfContextMap();
+
+            CompletableFuture<MetricasVendasDTO> metricasVendas = calcularSecao(secoes,
+                    SecaoDashboard.METRICAS_VENDAS, this::obterMetricasVendas, this::metricasVendasPadrao, contextoLog);
+            CompletableFuture<List<ProdutoMaisVendidoDTO>> produtosMaisVendidos = calcularSecao(secoes,
+                    SecaoDashboard.PRODUTOS_MAIS_VENDIDOS, this::obterProdutosMaisVendidos, ArrayList::new, contextoLog);
+            CompletableFuture<List<ClienteTopDTO>> clientesTop = calcularSecao(secoes,
+                    SecaoDashboard.CLIENTES_TOP, this::obterClientesTop, ArrayList::new, contextoLog);
+            CompletableFuture<MetricasFuncionariosDTO> metricasFuncionarios = calcularSecao(secoes,
+                    SecaoDashboard.METRICAS_FUNCIONARIOS, this::obterMetricasFuncionarios, this::metricasFuncionariosPadrao, contextoLog);
+            CompletableFuture<AlertasEstoqueDTO> alertasEstoque = calcularSecao(secoes,
+                    SecaoDashboard.ALERTAS_ESTOQUE, this::obterAlertasEstoque, this::alertasEstoquePadrao, contextoLog);
+            CompletableFuture<PendenciasDTO> pendencias = calcularSecao(secoes,
+                    SecaoDashboard.PENDENCIAS, this::obterPendencias, this::pendenciasPadrao, contextoLog);
 
             return new DashboardResponseDTO(
-                metricasVendas,
-                produtosMaisVendidos,
-                clientesTop,
-                metricasFuncionarios,
-                alertasEstoque
+                metricasVendas.join(),
+                produtosMaisVendidos.join(),
+                clientesTop.join(),
+                metricasFuncionarios.join(),
+                alertasEstoque.join(),
+                pendencias.join()
             );
         } catch (Exception e) {
             logger.error("Erro ao gerar dashboard completo", e);
@@ -60,212 +142,218 @@ public class DashboardService {
         }
     }
 
+    private <T> CompletableFuture<T> calcularSecao(Set<SecaoDashboard> secoes, SecaoDashboard secao,
+                                                   Supplier<T> calculo, Supplier<T> valorPadrao,
+                                                   Map<String, String> contextoLog) {
+        if (!secoes.contains(secao)) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        T emCache = dashboardCache.obter(secao);
+        if (emCache != null) {
+            return CompletableFuture.completedFuture(emCache);
+        }
+
+        long versao = dashboardCache.versao(secao);
+        ConsultaSecao consulta = new ConsultaSecao();
+        return CompletableFuture.supplyAsync(() -> {
+                    if (contextoLog != null) {
+                        MDC.setContextMap(contextoLog);
+                    }
+                    try {
+                        return transacaoLeitura.execute(status -> {
+                            consulta.iniciar(DataSourceUtils.getConnection(dataSource));
+                            try {
+                                return calculo.get();
+                            } finally {
+                                consulta.terminar();
+                            }
+                        });
+                    } finally {
+                        MDC.clear();
+                    }
+                }, dashboardExecutor)
+                .orTimeout(timeoutSecaoMs, TimeUnit.MILLISECONDS)
+                .thenApply(valor -> {
+                    dashboardCache.armazenar(secao, versao, valor);
+                    return valor;
+                })
+                .exceptionally(e -> {
+                    Throwable causa = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    if (causa instanceof TimeoutException) {
+                        consulta.interromper();
+                        logger.warn("Seção {} excedeu o tempo limite de {} ms. Usando valores padrão",
+                                secao.getCodigo(), timeoutSecaoMs);
+                    } else {
+                        logger.error("Erro ao calcular seção {}. Usando valores padrão", secao.getCodigo(), causa);
+                    }
+                    return valorPadrao.get();
+                });
+    }
+
+    private static final class ConsultaSecao {
+
+        private SQLiteConnection conexao;
+        private boolean interrompida;
+
+        synchronized void iniciar(Connection conexaoTransacao) {
+            if (interrompida) {
+                throw new CancellationException("Seção cancelada antes de iniciar a consulta");
+            }
+            try {
+                conexao = conexaoTransacao.unwrap(SQLiteConnection.class);
+            } catch (SQLException e) {
+                throw new IllegalStateException("Conexão da seção não é uma conexão SQLite", e);
+            }
+        }
+
+        synchronized void terminar() {
+            conexao = null;
+        }
+
+        synchronized void interromper() {
+            interrompida = true;
+            if (conexao == null) {
+                return;
+            }
+            try {
+                conexao.getDatabase().interrupt();
+            } catch (SQLException e) {
+                logger.warn("Falha ao interromper consulta da seção: {}", e.getMessage());
+            }
+        }
+    }
+
     private DashboardResponseDTO criarDashboardComValoresPadrao() {
         return new DashboardResponseDTO(
-            new MetricasVendasDTO(0.0, 0.0, 0, 0, 0.0, 0.0),
+            metricasVendasPadrao(),
             new ArrayList<>(),
             new ArrayList<>(),
-            new MetricasFuncionariosDTO(0, 0, 0, 0),
-            new AlertasEstoqueDTO(0, 0, new ArrayList<>())
+            metricasFuncionariosPadrao(),
+            alertasEstoquePadrao(),
+            pendenciasPadrao()
         );
     }
 
-    private MetricasVendasDTO obterMetricasVendas() {
-        try {
-            LocalDateTime inicioHoje = LocalDateTime.of(LocalDate.now(), LocalTime.MIN);
-            LocalDateTime fimHoje = LocalDateTime.of(LocalDate.now(), LocalTime.MAX);
-            
-            LocalDate primeiroDiaMes = LocalDate.now().withDayOfMonth(1);
-            LocalDateTime inicioMes = LocalDateTime.of(primeiroDiaMes, LocalTime.MIN);
-            LocalDateTime fimMes = LocalDateTime.of(LocalDate.now(), LocalTime.MAX);
-
-            List<Venda> vendasHojeList = vendaRepository.findByDataVendaBetween(inicioHoje, fimHoje);
-            Double totalVendasHoje = vendasHojeList.stream()
-                    .mapToDouble(venda -> venda.getTotal() != null ? venda.getTotal() : 0.0)
-                    .sum();
-            Integer countVendasHoje = vendasHojeList.size();
-
-            List<Venda> vendasMesList = vendaRepository.findByDataVendaBetween(inicioMes, fimMes);
-            Double totalVendasMes = vendasMesList.stream()
-                    .mapToDouble(venda -> venda.getTotal() != null ? venda.getTotal() : 0.0)
-                    .sum();
-            Integer countVendasMes = vendasMesList.size();
-
-            Double ticketMedio = countVendasMes > 0 ? totalVendasMes / countVendasMes : 0.0;
-            Double crescimentoPercentual = 0.0;
-
-            return new MetricasVendasDTO(
-                totalVendasHoje != null ? totalVendasHoje : 0.0,
-                totalVendasMes != null ? totalVendasMes : 0.0,
-                countVendasHoje != null ? countVendasHoje : 0,
-                countVendasMes != null ? countVendasMes : 0,
-                ticketMedio != null ? ticketMedio : 0.0,
-                crescimentoPercentual != null ? crescimentoPercentual : 0.0
-            );
-        } catch (Exception e) {
-            logger.error("Erro ao calcular métricas de vendas", e);
-            return new MetricasVendasDTO(0.0, 0.0, 0, 0, 0.0, 0.0);
-        }
+    public ResumoDashboardDTO obterResumo() {
+        DashboardResponseDTO dashboard = obterDashboard(EnumSet.of(SecaoDashboard.METRICAS_VENDAS,
+                SecaoDashboard.ALERTAS_ESTOQUE, SecaoDashboard.PENDENCIAS));
+        PendenciasDTO pendencias = dashboard.pendencias();
+
+        return new ResumoDashboardDTO(
+            dashboard.metricasVendas().vendasHoje(),
+            dashboard.metricasVendas().vendasMes(),
+            clienteRepository.count(),
+            dashboard.alertasEstoque().ingredientesParaRepor(),
+            resumoVendasService.obterProdutosMaisFrequentes(LIMITE_RESUMO_PRODUTOS),
+            new PendenciasDTO(
+                pendencias.totalPendencias(),
+                pendencias.vendasPendentes(),
+                pendencias.clientesInadimplentes().stream().limit(LIMITE_RESUMO_DEVEDORES).toList(),
+                pendencias.totalSemCliente(),
+                pendencias.vendasSemCliente()
+            )
+        );
     }
 
-    private List<ProdutoMaisVendidoDTO> obterProdutosMaisVendidos() {
-        try {
-            List<Venda> todasVendas = vendaRepository.findAll();
-            
-            Map<Long, ProdutoMaisVendidoDTO> produtoMap = new HashMap<>();
-            
-            for (Venda venda : todasVendas) {
-                if (venda.getProduto() == null) {
-                    logger.warn("Venda {} sem produto associado", venda.getIdVenda());
-                    continue;
-                }
-                
-                Long produtoId = venda.getProduto().getIdProduto();
-                String produtoNome = venda.getProduto().getNomeProduto() != null ? 
-                    venda.getProduto().getNomeProduto() : "Produto Desconhecido";
-                
-                ProdutoMaisVendidoDTO current = produtoMap.getOrDefault(produtoId, 
-                    new ProdutoMaisVendidoDTO(produtoId, produtoNome, 0.0, 0.0, 0));
-                
-                Double pesoVendido = venda.getPesoVendido() != null ? venda.getPesoVendido() : 0.0;
-                Double totalVenda = venda.getTotal() != null ? venda.getTotal() : 0.0;
-                
-                ProdutoMaisVendidoDTO updated = new ProdutoMaisVendidoDTO(
-                    produtoId,
-                    produtoNome,
-                    current.quantidadeVendida() + pesoVendido,
-                    current.totalVendas() + totalVenda,
-                    current.numeroVendas() + 1
-                );
-                
-                produtoMap.put(produtoId, updated);
-            }
-            
-            return produtoMap.values().stream()
-                    .sorted((a, b) -> Double.compare(b.totalVendas(), a.totalVendas()))
-                    .limit(10)
-                    .collect(Collectors.toList());
-        } catch (Exception e) {
-            logger.error("Erro ao obter produtos mais vendidos", e);
-            return new ArrayList<>();
-        }
+    private MetricasVendasDTO metricasVendasPadrao() {
+        return new MetricasVendasDTO(0.0, 0.0, 0, 0, 0.0, 0.0);
     }
 
-    private List<ClienteTopDTO> obterClientesTop() {
-        try {
-            List<Venda> todasVendas = vendaRepository.findAll();
-            List<Venda> vendasComCliente = todasVendas.stream()
-                    .filter(v -> v.getCliente() != null)
-                    .collect(Collectors.toList());
-            
-            Map<Long, ClienteTopDTO> clienteMap = new HashMap<>();
-            
-            for (Venda venda : vendasComCliente) {
-                Long clienteId = venda.getCliente().getIdCliente();
-                String clienteNome = venda.getCliente().getNome() != null ? 
-                    venda.getCliente().getNome() : "Cliente Sem Nome";
-                
-                ClienteTopDTO current = clienteMap.getOrDefault(clienteId, 
-                    new ClienteTopDTO(clienteId, clienteNome, 0.0, 0, 0.0));
-                
-                int newNumeroCompras = current.numeroCompras() + 1;
-                double newTotalCompras = current.totalCompras() + (venda.getTotal() != null ? venda.getTotal() : 0.0);
-                double newTicketMedio = newNumeroCompras > 0 ? newTotalCompras / newNumeroCompras : 0.0;
-                
-                ClienteTopDTO updated = new ClienteTopDTO(
-                    clienteId,
-                    clienteNome,
-                    newTotalCompras,
-                    newNumeroCompras,
-                    newTicketMedio
-                );
-                
-                clienteMap.put(clienteId, updated);
-            }
-            
-            return clienteMap.values().stream()
-                    .sorted((a, b) -> Double.compare(b.totalCompras(), a.totalCompras()))
-                    .limit(10)
-                    .collect(Collectors.toList());
-        } catch (Exception e) {
-            logger.error("Erro ao obter clientes top", e);
-            return new ArrayList<>();
-        }
+    private MetricasFuncionariosDTO metricasFuncionariosPadrao() {
+        return new MetricasFuncionariosDTO(0, 0, 0, 0);
     }
 
-    private MetricasFuncionariosDTO obterMetricasFuncionarios() {
-        try {
-            List<Object> todosFuncionarios = new ArrayList<>(funcionarioRepository.findAll());
-            Integer totalFuncionarios = todosFuncionarios.size();
-            
-            List<Object> funcionariosAtivosList = new ArrayList<>(funcionarioRepository.findByAtivo(true));
-            Integer funcionariosAtivos = funcionariosAtivosList.size();
-            
-            Integer funcionariosFerias = 0;
-            try {
-                List<Object> feriasAprovadas = new ArrayList<>(feriasRepository.findByStatus("aprovado"));
-                List<Object> feriasEmAndamento = new ArrayList<>(feriasRepository.findByStatus("em_andamento"));
-                funcionariosFerias = feriasAprovadas.size() + feriasEmAndamento.size();
-            } catch (Exception e) {
-                logger.warn("Erro ao calcular funcionários de férias: {}", e.getMessage());
-            }
-            
-            Integer expedientesHoje = 0;
-            try {
-                String diaSemanaHoje = obterDiaSemanaPortugues(LocalDate.now().getDayOfWeek().getValue());
-                List<Object> expedientes = new ArrayList<>(expedienteRepository.findByDiaSemana(diaSemanaHoje));
-                expedientesHoje = expedientes.size();
-            } catch (Exception e) {
-                logger.warn("Erro ao calcular expedientes de hoje: {}", e.getMessage());
-            }
+    private AlertasEstoqueDTO alertasEstoquePadrao() {
+        return new AlertasEstoqueDTO(0, 0, new ArrayList<>(), new ArrayList<>());
+    }
 
-            return new MetricasFuncionariosDTO(
-                totalFuncionarios,
-                funcionariosAtivos,
-                funcionariosFerias,
-                expedientesHoje
-            );
-        } catch (Exception e) {
-            logger.error("Erro ao obter métricas de funcionários: {}", e.getMessage(), e);
-            return new MetricasFuncionariosDTO(0, 0, 0, 0);
-        }
+    private PendenciasDTO pendenciasPadrao() {
+        return new PendenciasDTO(0.0, 0L, new ArrayList<>(), 0.0, 0L);
     }
 
-    private AlertasEstoqueDTO obterAlertasEstoque() {
-        try {
-            Integer ingredientesParaRepor = 0;
-            List<String> alertasCriticos = new ArrayList<>();
-            
-            try {
-                List<Object> ingredientesParaReporList = new ArrayList<>(
-                    estoqueIngredienteRepository.findByPrecisaReporTrue());
-                ingredientesParaRepor = ingredientesParaReporList.size();
-                
-                alertasCriticos = estoqueIngredienteRepository.findByPrecisaReporTrue()
-                        .stream()
-                        .map(e -> {
-                            String nome = e.getNomeIngrediente() != null ? e.getNomeIngrediente() : "Ingrediente Desconhecido";
-                            Double quantidade = e.getQuantidadeEstoque() != null ? e.getQuantidadeEstoque() : 0.0;
-                            String unidade = e.getUnidadeMedida() != null ? e.getUnidadeMedida() : "un";
-                            Double minimo = e.getEstoqueMinimo() != null ? e.getEstoqueMinimo() : 0.0;
-                            
-                            return String.format("%s - Estoque: %.2f %s (Mínimo: %.2f)", 
-                                nome, quantidade, unidade, minimo);
-                        })
-                        .collect(Collectors.toList());
-            } catch (Exception e) {
-                logger.warn("Erro ao calcular alertas de estoque: {}", e.getMessage());
-            }
+    public MetricasVendasDTO obterMetricasVendas() {
+        LocalDate hoje = LocalDate.now();
+        TotaisVendasDTO totaisHoje = resumoVendasPeriodoService.totalizarDias(hoje, hoje.plusDays(1));
+        TotaisVendasDTO totaisMes = resumoVendasPeriodoService.totalizarDias(hoje.withDayOfMonth(1), hoje.plusDays(1));
 
-            return new AlertasEstoqueDTO(
-                ingredientesParaRepor,
-                ingredientesParaRepor,
-                alertasCriticos
-            );
-        } catch (Exception e) {
-            logger.error("Erro ao obter alertas de estoque: {}", e.getMessage(), e);
-            return new AlertasEstoqueDTO(0, 0, new ArrayList<>());
-        }
+        Double totalVendasHoje = totaisHoje.totalVendas();
+        Integer countVendasHoje = totaisHoje.numeroVendas().intValue();
+        Double totalVendasMes = totaisMes.totalVendas();
+        Integer countVendasMes = totaisMes.numeroVendas().intValue();
+
+        Double ticketMedio = totaisMes.ticketMedio();
+        Double crescimentoPercentual = crescimentoVendasService.obterCrescimento().crescimentoMensal();
+
+        return new MetricasVendasDTO(
+            totalVendasHoje != null ? totalVendasHoje : 0.0,
+            totalVendasMes != null ? totalVendasMes : 0.0,
+            countVendasHoje != null ? countVendasHoje : 0,
+            countVendasMes != null ? countVendasMes : 0,
+            ticketMedio != null ? ticketMedio : 0.0,
+            crescimentoPercentual != null ? crescimentoPercentual : 0.0
+        );
+    }
+
+    public List<ProdutoMaisVendidoDTO> obterProdutosMaisVendidos() {
+        return resumoVendasService.obterProdutosMaisVendidos(LIMITE_RANKING);
+    }
+
+    public List<ClienteTopDTO> obterClientesTop() {
+        return resumoVendasService.obterClientesTop(LIMITE_RANKING);
+    }
+
+    public MetricasFuncionariosDTO obterMetricasFuncionarios() {
+        Integer totalFuncionarios = (int) funcionarioRepository.count();
+        Integer funcionariosAtivos = (int) funcionarioRepository.countByAtivo(true);
+        Integer funcionariosFerias = (int) feriasRepository.countByStatusIn(List.of("aprovado", "em_andamento"));
+        String diaSemanaHoje = obterDiaSemanaPortugues(LocalDate.now().getDayOfWeek().getValue());
+        Integer expedientesHoje = (int) expedienteRepository.countByDiaSemana(diaSemanaHoje);
+
+        return new MetricasFuncionariosDTO(
+            totalFuncionarios,
+            funcionariosAtivos,
+            funcionariosFerias,
+            expedientesHoje
+        );
+    }
+
+    public AlertasEstoqueDTO obterAlertasEstoque() {
+        List<EstoqueIngredienteResponseDTO> ingredientesParaRepor = alertasReposicaoService.listar();
+        List<String> alertasCriticos = ingredientesParaRepor.stream()
+                .map(e -> {
+                    String nome = e.nomeIngrediente() != null ? e.nomeIngrediente() : "Ingrediente Desconhecido";
+                    Double quantidade = e.quantidadeEstoque() != null ? e.quantidadeEstoque() : 0.0;
+                    String unidade = e.unidadeMedida() != null ? e.unidadeMedida() : "un";
+                    Double minimo = e.estoqueMinimo() != null ? e.estoqueMinimo() : 0.0;
+
+                    return String.format("%s - Estoque: %.2f %s (Mínimo: %.2f)",
+                        nome, quantidade, unidade, minimo);
+                })
+                .collect(Collectors.toList());
+
+        return new AlertasEstoqueDTO(
+            ingredientesParaRepor.size(),
+            ingredientesParaRepor.size(),
+            alertasCriticos,
+            movimentacaoEstoqueService.listarLotesVencendo(diasAlertaValidade)
+        );
+    }
+
+    public PendenciasDTO obterPendencias() {
+        Double totalPendencias = vendaRepository.somarTotalPorStatus(ContasReceberService.STATUS_PENDENTES);
+        long vendasPendentes = vendaRepository.countByStatusPagamentoIn(ContasReceberService.STATUS_PENDENTES);
+        List<ClienteInadimplenteDTO> clientesInadimplentes = contasReceberService.obterMaioresDevedores(LIMITE_RANKING);
+        ClienteInadimplenteDTO semCliente =
+                vendaRepository.totalizarPendentesSemCliente(ContasReceberService.STATUS_PENDENTES);
+
+        return new PendenciasDTO(
+            totalPendencias != null ? totalPendencias : 0.0,
+            vendasPendentes,
+            clientesInadimplentes,
+            semCliente.totalPendente(),
+            semCliente.vendasPendentes()
+        );
     }
 
     private String obterDiaSemanaPortugues(int dia) {
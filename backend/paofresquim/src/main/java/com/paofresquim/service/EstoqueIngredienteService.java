@@ -1,25 +1,51 @@
 package com.paofresquim.service;
 
+import com.paofresquim.dto.ContagemEstoqueRequestDTO;
+import com.paofresquim.dto.ContagemEstoqueResponseDTO;
 import com.paofresquim.dto.EstoqueIngredienteRequestDTO;
 import com.paofresquim.dto.EstoqueIngredienteResponseDTO;
+import com.paofresquim.dto.ItemContagemEstoqueDTO;
+import com.paofresquim.dto.ResultadoContagemDTO;
 import com.paofresquim.entity.EstoqueIngrediente;
 import com.paofresquim.exception.ConflitoDadosException;
+import com.paofresquim.exception.RegraNegocioException;
 import com.paofresquim.exception.ValidacaoException;
 import com.paofresquim.repository.EstoqueIngredienteRepository;
+import com.paofresquim.repository.ItemReceitaRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 public class EstoqueIngredienteService extends BaseService<EstoqueIngrediente, Long, EstoqueIngredienteRequestDTO, EstoqueIngredienteResponseDTO> {
 
+    public static final String STATUS_CONTAGEM_AJUSTADO = "ajustado";
+    public static final String STATUS_CONTAGEM_SEM_ALTERACAO = "sem_alteracao";
+    public static final String STATUS_CONTAGEM_REJEITADO = "rejeitado";
+
     @Autowired
     private EstoqueIngredienteRepository estoqueIngredienteRepository;
 
+    @Autowired
+    private ItemReceitaRepository itemReceitaRepository;
+
+    @Autowired
+    private MovimentacaoEstoqueService movimentacaoEstoqueService;
+
+    @Autowired
+    private AlertasReposicaoService alertasReposicaoService;
+
     @Override
     protected EstoqueIngredienteRepository getRepository() {
         return estoqueIngredienteRepository;
@@ -56,18 +82,47 @@ public class EstoqueIngredienteService extends BaseService<EstoqueIngrediente, L
     protected void updateEntityFromRequest(EstoqueIngrediente ingrediente, EstoqueIngredienteRequestDTO requestDTO) {
         validarNomeIngredienteUnico(ingrediente.getIdIngrediente(), requestDTO.nomeIngrediente());
         
+        movimentacaoEstoqueService.ajustarPara(ingrediente.getIdIngrediente(), requestDTO.quantidadeEstoque(),
+                "Atualização do cadastro do ingrediente");
         ingrediente.setNomeIngrediente(requestDTO.nomeIngrediente());
-        ingrediente.setQuantidadeEstoque(requestDTO.quantidadeEstoque());
         ingrediente.setUnidadeMedida(requestDTO.unidadeMedida());
         ingrediente.setEstoqueMinimo(requestDTO.estoqueMinimo());
         ingrediente.setCustoMedio(requestDTO.custoMedio());
     }
 
+    @Override
+    protected List<String> getOrdenacoesDisponiveis() {
+        return List.of(ORDENACAO_ID, "nomeIngrediente");
+    }
+
     @Override
     protected Long getIdFromEntity(EstoqueIngrediente entity) {
         return entity.getIdIngrediente();
     }
 
+    @Override
+    @Transactional
+    public EstoqueIngredienteResponseDTO criar(EstoqueIngredienteRequestDTO requestDTO) {
+        EstoqueIngredienteResponseDTO criado = super.criar(requestDTO);
+        movimentacaoEstoqueService.registrarSaldoInicial(criado.idIngrediente(), criado.quantidadeEstoque());
+        return criado;
+    }
+
+    @Override
+    @Transactional
+    public Optional<EstoqueIngredienteResponseDTO> atualizar(Long id, EstoqueIngredienteRequestDTO requestDTO) {
+        return super.atualizar(id, requestDTO).flatMap(atualizado -> buscarSituacao(id));
+    }
+
+    @Override
+    @Transactional
+    public boolean deletar(Long id) {
+        if (itemReceitaRepository.existsByIdIngrediente(id)) {
+            throw new RegraNegocioException("Não é possível deletar ingrediente usado em receitas de produtos");
+        }
+        return super.deletar(id);
+    }
+
     @Transactional(readOnly = true)
     public List<EstoqueIngredienteResponseDTO> buscarPorNome(String nome) {
         logger.debug("Buscando ingredientes por nome: {}", nome);
@@ -86,13 +141,9 @@ public class EstoqueIngredienteService extends BaseService<EstoqueIngrediente, L
                 .collect(Collectors.toList());
     }
 
-    @Transactional(readOnly = true)
     public List<EstoqueIngredienteResponseDTO> buscarPrecisaRepor() {
         logger.debug("Buscando ingredientes que precisam de reposição");
-        return estoqueIngredienteRepository.findByPrecisaReporTrue()
-                .stream()
-                .map(this::toResponseDTO)
-                .collect(Collectors.toList());
+        return alertasReposicaoService.listar();
     }
 
     @Transactional
@@ -103,11 +154,84 @@ public class EstoqueIngredienteService extends BaseService<EstoqueIngrediente, L
                     if (novaQuantidade < 0) {
                         throw new ValidacaoException("Quantidade não pode ser negativa");
                     }
-                    ingrediente.setQuantidadeEstoque(novaQuantidade);
-                    EstoqueIngrediente ingredienteAtualizado = estoqueIngredienteRepository.save(ingrediente);
+                    movimentacaoEstoqueService.ajustarPara(id, novaQuantidade, "Ajuste manual de quantidade");
+                    publicarAlteracao(id);
                     logger.info("Quantidade atualizada para ingrediente ID: {}", id);
-                    return toResponseDTO(ingredienteAtualizado);
-                });
+                    return id;
+                })
+                .flatMap(this::buscarSituacao);
+    }
+
+    private Optional<EstoqueIngredienteResponseDTO> buscarSituacao(Long id) {
+        return estoqueIngredienteRepository.findSituacao(List.of(id)).stream().findFirst();
+    }
+
+    @Transactional
+    public ContagemEstoqueResponseDTO registrarContagem(ContagemEstoqueRequestDTO requestDTO) {
+        List<ItemContagemEstoqueDTO> itens = requestDTO.itens();
+        logger.info("Registrando contagem de estoque com {} itens", itens.size());
+
+        Set<Long> ids = itens.stream()
+                .map(ItemContagemEstoqueDTO::idIngrediente)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        boolean buscarPorNome = itens.stream()
+                .anyMatch(item -> item.idIngrediente() == null && item.nomeIngrediente() != null);
+        Map<Long, EstoqueIngredienteResponseDTO> porId = ids.isEmpty() ? Map.of() :
+                estoqueIngredienteRepository.findSituacao(ids).stream()
+                        .collect(Collectors.toMap(EstoqueIngredienteResponseDTO::idIngrediente, Function.identity()));
+        Map<String, List<EstoqueIngredienteResponseDTO>> porNome = !buscarPorNome ? Map.of() :
+                estoqueIngredienteRepository.findSituacaoTodos().stream()
+                        .collect(Collectors.groupingBy(ingrediente -> normalizarNome(ingrediente.nomeIngrediente())));
+
+        Map<Long, Double> ajustes = new LinkedHashMap<>();
+        List<ResultadoContagemDTO> resultados = new ArrayList<>(itens.size());
+        for (int i = 0; i < itens.size(); i++) {
+            ItemContagemEstoqueDTO item = itens.get(i);
+            int linha = i + 1;
+            EstoqueIngredienteResponseDTO ingrediente;
+            if (item.idIngrediente() != null) {
+                ingrediente = porId.get(item.idIngrediente());
+            } else if (item.nomeIngrediente() != null) {
+                List<EstoqueIngredienteResponseDTO> encontrados = porNome.getOrDefault(
+                        normalizarNome(item.nomeIngrediente()), List.of());
+                if (encontrados.size() > 1) {
+                    resultados.add(rejeitar(linha, item, "Nome de ingrediente ambíguo: " + item.nomeIngrediente()));
+                    continue;
+                }
+                ingrediente = encontrados.isEmpty() ? null : encontrados.get(0);
+            } else {
+                resultados.add(rejeitar(linha, item, "Informe o ID ou o nome do ingrediente"));
+                continue;
+            }
+
+            if (ingrediente == null) {
+                resultados.add(rejeitar(linha, item, "Ingrediente não encontrado"));
+            } else if (ajustes.containsKey(ingrediente.idIngrediente())) {
+                resultados.add(rejeitar(linha, item, "Ingrediente informado mais de uma vez na contagem"));
+            } else {
+                ajustes.put(ingrediente.idIngrediente(), item.quantidade());
+                double diferenca = item.quantidade() - ingrediente.quantidadeEstoque();
+                resultados.add(new ResultadoContagemDTO(linha, ingrediente.idIngrediente(), ingrediente.nomeIngrediente(),
+                        ingrediente.quantidadeEstoque(), item.quantidade(), diferenca,
+                        diferenca != 0 ? STATUS_CONTAGEM_AJUSTADO : STATUS_CONTAGEM_SEM_ALTERACAO, null));
+            }
+        }
+
+        if (!ajustes.isEmpty()) {
+            movimentacaoEstoqueService.ajustarLote(ajustes, requestDTO.observacao() != null && !requestDTO.observacao().isBlank()
+                    ? requestDTO.observacao() : "Contagem de estoque");
+        }
+
+        Map<String, Long> totais = resultados.stream()
+                .collect(Collectors.groupingBy(ResultadoContagemDTO::status, Collectors.counting()));
+        logger.info("Contagem de estoque registrada: {}", totais);
+        return new ContagemEstoqueResponseDTO(
+            totais.getOrDefault(STATUS_CONTAGEM_AJUSTADO, 0L).intValue(),
+            totais.getOrDefault(STATUS_CONTAGEM_SEM_ALTERACAO, 0L).intValue(),
+            totais.getOrDefault(STATUS_CONTAGEM_REJEITADO, 0L).intValue(),
+            resultados
+        );
     }
 
     @Transactional
@@ -120,11 +244,21 @@ public class EstoqueIngredienteService extends BaseService<EstoqueIngrediente, L
                     }
                     ingrediente.setCustoMedio(novoCusto);
                     EstoqueIngrediente ingredienteAtualizado = estoqueIngredienteRepository.save(ingrediente);
+                    publicarAlteracao(id);
                     logger.info("Custo atualizado para ingrediente ID: {}", id);
                     return toResponseDTO(ingredienteAtualizado);
                 });
     }
 
+    private ResultadoContagemDTO rejeitar(int linha, ItemContagemEstoqueDTO item, String mensagem) {
+        return new ResultadoContagemDTO(linha, item.idIngrediente(), item.nomeIngrediente(), null, item.quantidade(),
+                null, STATUS_CONTAGEM_REJEITADO, mensagem);
+    }
+
+    private static String normalizarNome(String nome) {
+        return nome.trim().toLowerCase(Locale.ROOT);
+    }
+
     private void validarNomeIngredienteUnico(Long idIngrediente, String nomeIngrediente) {
         Optional<EstoqueIngrediente> ingredienteExistente = estoqueIngredienteRepository.findByNomeIngrediente(nomeIngrediente);
         if (ingredienteExistente.isPresent() && 
@@ -77,6 +77,11 @@ public class ExpedienteService extends BaseService<ExpedienteFuncionario, Long,
         expediente.setTurno(requestDTO.turno());
     }
 
+    @Override
+    protected String getJoinsPagina() {
+        return "JOIN FETCH e.funcionario";
+    }
+
     @Override
     protected Long getIdFromEntity(ExpedienteFuncionario entity) {
         return entity.getIdExpediente();
@@ -0,0 +1,153 @@
+package com.paofresquim.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paofresquim.dto.FiltroVendasDTO;
+import com.paofresquim.dto.FormatoExportacao;
+import com.paofresquim.dto.VendaResponseDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class ExportacaoVendasService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportacaoVendasService.class);
+
+    private static final String SQL_EXPORTAR_VENDAS =
+            "SELECT v.id_venda, v.id_cliente, c.nome, v.id_produto, p.nome_produto, v.peso_vendido, v.preco_kg, " +
+            "v.total, v.forma_pagamento, v.status_pagamento, v.data_venda, v.data_vencimento, v.id_ticket " +
+            "FROM vendas v JOIN produtos p ON p.id_produto = v.id_produto " +
+            "LEFT JOIN clientes c ON c.id_cliente = v.id_cliente";
+
+    private static final String CABECALHO_CSV =
+            "idVenda,idCliente,nomeCliente,idProduto,nomeProduto,pesoVendido,precoKg,total," +
+            "formaPagamento,statusPagamento,dataVenda,dataVencimento,idTicket";
+
+    private static final int TAMANHO_FETCH = 500;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public void exportar(FiltroVendasDTO filtro, FormatoExportacao formato, OutputStream saida) throws IOException {
+        StringBuilder sql = new StringBuilder(SQL_EXPORTAR_VENDAS);
+        List<Object> parametros = new ArrayList<>();
+        adicionarFiltro(sql, parametros, "v.data_venda >= ?", filtro.inicio() != null ? Timestamp.valueOf(filtro.inicio()) : null);
+        adicionarFiltro(sql, parametros, "v.data_venda <= ?", filtro.fim() != null ? Timestamp.valueOf(filtro.fim()) : null);
+        adicionarFiltro(sql, parametros, "v.id_cliente = ?", filtro.idCliente());
+        adicionarFiltro(sql, parametros, "v.id_produto = ?", filtro.idProduto());
+        adicionarFiltro(sql, parametros, "v.status_pagamento = ?", filtro.statusPagamento());
+        adicionarFiltro(sql, parametros, "v.forma_pagamento = ?", filtro.formaPagamento());
+        sql.append(" ORDER BY v.id_venda");
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8));
+        if (formato == FormatoExportacao.CSV) {
+            writer.write(CABECALHO_CSV);
+            writer.write('\n');
+        }
+
+        long[] linhas = {0};
+        jdbcTemplate.query(conexao -> {
+            PreparedStatement statement = conexao.prepareStatement(sql.toString(),
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(TAMANHO_FETCH);
+            for (int i = 0; i < parametros.size(); i++) {
+                statement.setObject(i + 1, parametros.get(i));
+            }
+            return statement;
+        }, resultSet -> {
+            try {
+                VendaResponseDTO venda = mapearVenda(resultSet);
+                if (formato == FormatoExportacao.CSV) {
+                    escreverCsv(writer, venda);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(venda));
+                }
+                writer.write('\n');
+                linhas[0]++;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.flush();
+
+        logger.info("Exportação {} concluída com {} vendas", formato.getCodigo(), linhas[0]);
+    }
+
+    private void adicionarFiltro(StringBuilder sql, List<Object> parametros, String condicao, Object valor) {
+        if (valor == null) {
+            return;
+        }
+        sql.append(parametros.isEmpty() ? " WHERE " : " AND ").append(condicao);
+        parametros.add(valor);
+    }
+
+    private VendaResponseDTO mapearVenda(ResultSet rs) throws SQLException {
+        Long idCliente = rs.getObject("id_cliente") != null ? rs.getLong("id_cliente") : null;
+        return new VendaResponseDTO(
+            rs.getLong("id_venda"),
+            idCliente,
+            idCliente != null ? rs.getString("nome") : "Cliente não informado",
+            rs.getLong("id_produto"),
+            rs.getString("nome_produto"),
+            rs.getDouble("peso_vendido"),
+            rs.getDouble("preco_kg"),
+            rs.getDouble("total"),
+            rs.getString("forma_pagamento"),
+            rs.getString("status_pagamento"),
+            paraData(rs.getTimestamp("data_venda")),
+            paraData(rs.getTimestamp("data_vencimento")),
+            rs.getObject("id_ticket") != null ? rs.getLong("id_ticket") : null
+        );
+    }
+
+    private LocalDateTime paraData(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    private void escreverCsv(Writer writer, VendaResponseDTO venda) throws IOException {
+        Object[] campos = {
+            venda.idVenda(), venda.idCliente(), venda.nomeCliente(), venda.idProduto(), venda.nomeProduto(),
+            venda.pesoVendido(), venda.precoKg(), venda.total(), venda.formaPagamento(), venda.statusPagamento(),
+            venda.dataVenda(), venda.dataVencimento(), venda.idTicket()
+        };
+        for (int i = 0; i < campos.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escaparCsv(campos[i]));
+        }
+    }
+
+    private String escaparCsv(Object valor) {
+        if (valor == null) {
+            return "";
+        }
+        String texto = valor.toString();
+        if (texto.contains(",") || texto.contains("\"") || texto.contains("\n") || texto.contains("\r")) {
+            return "\"" + texto.replace("\"", "\"\"") + "\"";
+        }
+        return texto;
+    }
+}
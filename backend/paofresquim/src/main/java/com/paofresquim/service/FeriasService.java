@@ -85,6 +85,11 @@ public class FeriasService extends BaseService<FeriasFuncionario, Long, FeriasRe
         ferias.setObservacoes(requestDTO.observacoes());
     }
 
+    @Override
+    protected String getJoinsPagina() {
+        return "JOIN FETCH e.funcionario";
+    }
+
     @Override
     protected Long getIdFromEntity(FeriasFuncionario entity) {
         return entity.getIdFerias();
@@ -128,6 +133,7 @@ public class FeriasService extends BaseService<FeriasFuncionario, Long, FeriasRe
 
                     ferias.setStatus(novoStatus);
                     FeriasFuncionario feriasAtualizada = feriasRepository.save(ferias);
+                    publicarAlteracao(id);
                     logger.info("Status das férias ID: {} atualizado para: {}", id, novoStatus);
                     return toResponseDTO(feriasAtualizada);
                 });
@@ -143,6 +149,7 @@ public class FeriasService extends BaseService<FeriasFuncionario, Long, FeriasRe
                 throw new RegraNegocioException("Só é possível deletar férias com status 'solicitado'");
             }
             feriasRepository.deleteById(id);
+            publicarAlteracao(id);
             logger.info("Férias deletadas com ID: {}", id);
             return true;
         }
@@ -0,0 +1,280 @@
+package com.paofresquim.service;
+
+import com.paofresquim.dto.VendaRequestDTO;
+import com.paofresquim.dto.VendaResponseDTO;
+import com.paofresquim.entity.Cliente;
+import com.paofresquim.entity.Produto;
+import com.paofresquim.entity.Venda;
+import com.paofresquim.exception.EntidadeNaoEncontradaException;
+import com.paofresquim.exception.ServicoIndisponivelException;
+import com.paofresquim.repository.ClienteRepository;
+import com.paofresquim.repository.ProdutoRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+public class FilaGravacaoVendas {
+
+    private static final Logger logger = LoggerFactory.getLogger(FilaGravacaoVendas.class);
+
+    private record Pedido(VendaRequestDTO requisicao, Consumer<VendaResponseDTO> aoGravar,
+                          CompletableFuture<VendaResponseDTO> resultado) {}
+
+    private record Resolvido(Pedido pedido, Venda venda) {}
+
+    @Autowired
+    private VendaService vendaService;
+
+    @Autowired
+    private ProdutoRepository produtoRepository;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${paofresquim.vendas.group-commit.habilitado:true}")
+    private boolean habilitado;
+
+    @Value("${paofresquim.vendas.group-commit.tamanho-lote:64}")
+    private int tamanhoLote;
+
+    @Value("${paofresquim.vendas.group-commit.espera-maxima-ms:5}")
+    private long esperaMaximaMs;
+
+    @Value("${paofresquim.vendas.group-commit.capacidade-fila:10000}")
+    private int capacidadeFila;
+
+    @Value("${paofresquim.vendas.group-commit.timeout-ms:10000}")
+    private long timeoutMs;
+
+    private BlockingQueue<Pedido> fila;
+    private TransactionTemplate transacao;
+    private Thread gravador;
+    private volatile boolean ativo;
+
+    @PostConstruct
+    void iniciar() {
+        if (!habilitado) {
+            logger.info("Group commit de vendas desabilitado");
+            return;
+        }
+        fila = new ArrayBlockingQueue<>(capacidadeFila);
+        transacao = new TransactionTemplate(transactionManager);
+        ativo = true;
+        gravador = new Thread(this::executar, "gravador-vendas");
+        gravador.setDaemon(true);
+        gravador.start();
+        logger.info("Group commit de vendas ativo: lote de até {} vendas ou {} ms", tamanhoLote, esperaMaximaMs);
+    }
+
+    @PreDestroy
+    void encerrar() throws InterruptedException {
+        if (gravador == null) {
+            return;
+        }
+        ativo = false;
+        gravador.join(TimeUnit.SECONDS.toMillis(10));
+        rejeitarPendentes();
+    }
+
+    public VendaResponseDTO gravar(VendaRequestDTO requisicao) {
+        return gravar(requisicao, resposta -> {});
+    }
+
+    public VendaResponseDTO gravar(VendaRequestDTO requisicao, Consumer<VendaResponseDTO> aoGravar) {
+        if (!habilitado) {
+            return vendaService.criar(requisicao, aoGravar);
+        }
+        if (!ativo) {
+            throw new ServicoIndisponivelException("Gravador de vendas encerrado");
+        }
+        Pedido pedido = new Pedido(requisicao, aoGravar, new CompletableFuture<>());
+        try {
+            if (!fila.offer(pedido, timeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new ServicoIndisponivelException("Fila de gravação de vendas cheia");
+            }
+            if (!ativo && fila.remove(pedido)) {
+                throw new ServicoIndisponivelException("Gravador de vendas encerrado");
+            }
+            return pedido.resultado().get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fila.remove(pedido);
+            throw new ServicoIndisponivelException("Interrompido ao aguardar gravação da venda");
+        } catch (TimeoutException e) {
+            if (fila.remove(pedido)) {
+                logger.warn("Venda retirada da fila sem gravação após {} ms", timeoutMs);
+                throw new ServicoIndisponivelException("Tempo limite excedido ao gravar venda");
+            }
+            logger.warn("Venda sem confirmação após {} ms já está em um lote; aguardando o commit", timeoutMs);
+            return aguardarLote(pedido);
+        } catch (ExecutionException e) {
+            throw falhaDaGravacao(e);
+        }
+    }
+
+    private VendaResponseDTO aguardarLote(Pedido pedido) {
+        try {
+            return pedido.resultado().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServicoIndisponivelException("Interrompido ao aguardar o commit do lote da venda");
+        } catch (ExecutionException e) {
+            throw falhaDaGravacao(e);
+        }
+    }
+
+    private RuntimeException falhaDaGravacao(ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException causa) {
+            return causa;
+        }
+        return new IllegalStateException("Falha ao gravar venda", e.getCause());
+    }
+
+    private void executar() {
+        List<Pedido> lote = new ArrayList<>(tamanhoLote);
+        try {
+            while (ativo || !fila.isEmpty()) {
+                try {
+                    Pedido primeiro = fila.poll(100, TimeUnit.MILLISECONDS);
+                    if (primeiro == null) {
+                        continue;
+                    }
+                    lote.add(primeiro);
+                    long limite = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(esperaMaximaMs);
+                    while (lote.size() < tamanhoLote) {
+                        fila.drainTo(lote, tamanhoLote - lote.size());
+                        long restante = limite - System.nanoTime();
+                        if (lote.size() >= tamanhoLote || restante <= 0) {
+                            break;
+                        }
+                        Pedido proximo = fila.poll(restante, TimeUnit.NANOSECONDS);
+                        if (proximo == null) {
+                            break;
+                        }
+                        lote.add(proximo);
+                    }
+                    gravarLote(lote);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    ativo = false;
+                } catch (RuntimeException e) {
+                    logger.error("Erro inesperado no gravador de vendas: {}", e.getMessage(), e);
+                    lote.forEach(pedido -> pedido.resultado().completeExceptionally(e));
+                } catch (Error e) {
+                    logger.error("Gravador de vendas interrompido por erro fatal: {}", e.getMessage(), e);
+                    lote.forEach(pedido -> pedido.resultado().completeExceptionally(
+                            new ServicoIndisponivelException("Gravador de vendas encerrado")));
+                    throw e;
+                } finally {
+                    lote.clear();
+                }
+            }
+        } finally {
+            ativo = false;
+            rejeitarPendentes();
+        }
+    }
+
+    private void rejeitarPendentes() {
+        List<Pedido> pendentes = new ArrayList<>();
+        fila.drainTo(pendentes);
+        if (!pendentes.isEmpty()) {
+            logger.warn("Rejeitando {} vendas pendentes: gravador encerrado", pendentes.size());
+        }
+        pendentes.forEach(pedido -> pedido.resultado().completeExceptionally(
+                new ServicoIndisponivelException("Gravador de vendas encerrado")));
+    }
+
+    private void gravarLote(List<Pedido> lote) {
+        List<Resolvido> resolvidos = new ArrayList<>(lote.size());
+        try {
+            List<VendaResponseDTO> respostas = transacao.execute(status -> {
+                resolver(lote, resolvidos);
+                List<Venda> vendas = resolvidos.stream().map(Resolvido::venda).collect(Collectors.toList());
+                vendaService.gravarEmLote(vendas);
+                List<VendaResponseDTO> gravadas = vendas.stream().map(vendaService::toResponseDTO).collect(Collectors.toList());
+                for (int i = 0; i < resolvidos.size(); i++) {
+                    resolvidos.get(i).pedido().aoGravar().accept(gravadas.get(i));
+                }
+                return gravadas;
+            });
+            for (int i = 0; i < resolvidos.size(); i++) {
+                resolvidos.get(i).pedido().resultado().complete(respostas.get(i));
+            }
+            logger.debug("Lote de {} vendas gravado em uma transação", resolvidos.size());
+        } catch (RuntimeException e) {
+            logger.warn("Falha ao gravar lote de {} vendas, gravando individualmente: {}", lote.size(), e.getMessage());
+            for (Pedido pedido : lote) {
+                if (pedido.resultado().isDone()) {
+                    continue;
+                }
+                try {
+                    pedido.resultado().complete(vendaService.criar(pedido.requisicao(), pedido.aoGravar()));
+                } catch (RuntimeException erro) {
+                    pedido.resultado().completeExceptionally(erro);
+                }
+            }
+        }
+    }
+
+    private void resolver(List<Pedido> lote, List<Resolvido> resolvidos) {
+        resolvidos.clear();
+        Map<Long, Produto> produtos = produtoRepository.findAllById(lote.stream()
+                        .map(pedido -> pedido.requisicao().idProduto())
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Produto::getIdProduto, Function.identity()));
+        Map<Long, Cliente> clientes = clienteRepository.findAllById(lote.stream()
+                        .map(pedido -> pedido.requisicao().idCliente())
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Cliente::getIdCliente, Function.identity()));
+
+        for (Pedido pedido : lote) {
+            VendaRequestDTO requisicao = pedido.requisicao();
+            Produto produto = produtos.get(requisicao.idProduto());
+            if (produto == null) {
+                pedido.resultado().completeExceptionally(
+                        new EntidadeNaoEncontradaException("Produto não encontrado: " + requisicao.idProduto()));
+                continue;
+            }
+            Cliente cliente = null;
+            if (requisicao.idCliente() != null) {
+                cliente = clientes.get(requisicao.idCliente());
+                if (cliente == null) {
+                    pedido.resultado().completeExceptionally(
+                            new EntidadeNaoEncontradaException("Cliente não encontrado: " + requisicao.idCliente()));
+                    continue;
+                }
+            }
+            resolvidos.add(new Resolvido(pedido, vendaService.montarVenda(produto, cliente, requisicao.pesoVendido(),
+                    requisicao.precoKg(), requisicao.formaPagamento(), requisicao.statusPagamento())));
+        }
+    }
+}
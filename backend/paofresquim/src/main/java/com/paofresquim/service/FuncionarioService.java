@@ -67,6 +67,11 @@ public class FuncionarioService extends BaseService<Funcionario, Long, Funcionar
         funcionario.setAtivo(requestDTO.ativo());
     }
 
+    @Override
+    protected List<String> getOrdenacoesDisponiveis() {
+        return List.of(ORDENACAO_ID, "nome");
+    }
+
     @Override
     protected Long getIdFromEntity(Funcionario entity) {
         return entity.getIdFuncionario();
@@ -106,6 +111,7 @@ public class FuncionarioService extends BaseService<Funcionario, Long, Funcionar
                 .map(funcionario -> {
                     funcionario.setAtivo(false);
                     Funcionario funcionarioAtualizado = funcionarioRepository.save(funcionario);
+                    publicarAlteracao(id);
                     logger.info("Funcionário inativado com ID: {}", id);
                     return toResponseDTO(funcionarioAtualizado);
                 });
@@ -118,6 +124,7 @@ public class FuncionarioService extends BaseService<Funcionario, Long, Funcionar
                 .map(funcionario -> {
                     funcionario.setAtivo(true);
                     Funcionario funcionarioAtualizado = funcionarioRepository.save(funcionario);
+                    publicarAlteracao(id);
                     logger.info("Funcionário ativado com ID: {}", id);
                     return toResponseDTO(funcionarioAtualizado);
                 });
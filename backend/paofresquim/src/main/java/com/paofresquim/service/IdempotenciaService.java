@@ -0,0 +1,161 @@
+package com.paofresquim.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paofresquim.entity.ChaveIdempotencia;
+import com.paofresquim.exception.ConflitoDadosException;
+import com.paofresquim.exception.ValidacaoException;
+import com.paofresquim.repository.ChaveIdempotenciaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+@Service
+public class IdempotenciaService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotenciaService.class);
+
+    private static final int TAMANHO_MAXIMO_CHAVE = 255;
+
+    @Autowired
+    private ChaveIdempotenciaRepository chaveIdempotenciaRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${paofresquim.idempotencia.ttl-horas:24}")
+    private long ttlHoras;
+
+    private final Map<String, ChaveIdempotencia> cache;
+
+    public IdempotenciaService(@Value("${paofresquim.idempotencia.capacidade-cache:10000}") int capacidadeCache) {
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(capacidadeCache, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ChaveIdempotencia> maisAntiga) {
+                return size() > capacidadeCache;
+            }
+        });
+    }
+
+    public <T> T executar(String chave, String operacao, Object requisicao, Class<T> tipoResposta,
+                          Function<Consumer<T>, T> execucao) {
+        if (chave == null || chave.isBlank()) {
+            return execucao.apply(resposta -> {});
+        }
+        if (chave.length() > TAMANHO_MAXIMO_CHAVE) {
+            throw new ValidacaoException("Idempotency-Key deve ter no máximo " + TAMANHO_MAXIMO_CHAVE + " caracteres");
+        }
+
+        String hashRequisicao = calcularHash(operacao, requisicao);
+        ChaveIdempotencia registrada = buscar(chave);
+        if (registrada != null) {
+            return responder(registrada, hashRequisicao, tipoResposta);
+        }
+
+        AtomicReference<ChaveIdempotencia> gravada = new AtomicReference<>();
+        T resposta;
+        try {
+            resposta = execucao.apply(respostaGravada -> {
+                ChaveIdempotencia nova = new ChaveIdempotencia(chave, operacao, hashRequisicao, escrever(respostaGravada));
+                chaveIdempotenciaRepository.inserir(nova.getChave(), nova.getOperacao(), nova.getHashRequisicao(),
+                        nova.getResposta(), nova.getCriadoEm());
+                gravada.set(nova);
+            });
+        } catch (DataAccessException e) {
+            registrada = chaveIdempotenciaRepository.findById(chave).orElseThrow(() -> e);
+            logger.info("Idempotency-Key {} gravada por uma requisição concorrente", chave);
+            cache.put(chave, registrada);
+            return responder(registrada, hashRequisicao, tipoResposta);
+        }
+        if (gravada.get() != null) {
+            cache.put(chave, gravada.get());
+        }
+        return resposta;
+    }
+
+    @Scheduled(initialDelayString = "${paofresquim.idempotencia.intervalo-limpeza-ms:3600000}",
+               fixedDelayString = "${paofresquim.idempotencia.intervalo-limpeza-ms:3600000}")
+    @Transactional
+    public void removerExpiradas() {
+        int removidas = chaveIdempotenciaRepository.removerCriadasAntesDe(LocalDateTime.now().minusHours(ttlHoras));
+        synchronized (cache) {
+            cache.values().removeIf(this::expirada);
+        }
+        if (removidas > 0) {
+            logger.info("{} chaves de idempotência expiradas removidas", removidas);
+        }
+    }
+
+    private ChaveIdempotencia buscar(String chave) {
+        ChaveIdempotencia registrada = cache.get(chave);
+        if (registrada == null) {
+            registrada = chaveIdempotenciaRepository.findById(chave).orElse(null);
+            if (registrada == null) {
+                return null;
+            }
+            cache.put(chave, registrada);
+        }
+        if (expirada(registrada)) {
+            cache.remove(chave);
+            chaveIdempotenciaRepository.delete(registrada);
+            return null;
+        }
+        return registrada;
+    }
+
+    private <T> T responder(ChaveIdempotencia registrada, String hashRequisicao, Class<T> tipoResposta) {
+        if (!registrada.getHashRequisicao().equals(hashRequisicao)) {
+            throw new ConflitoDadosException("Idempotency-Key já utilizada em outra requisição: " + registrada.getChave());
+        }
+        logger.info("Requisição repetida com Idempotency-Key {}. Devolvendo resposta original", registrada.getChave());
+        return lerResposta(registrada, tipoResposta);
+    }
+
+    private boolean expirada(ChaveIdempotencia chave) {
+        return chave.getCriadoEm().isBefore(LocalDateTime.now().minusHours(ttlHoras));
+    }
+
+    private String calcularHash(String operacao, Object requisicao) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(operacao.getBytes(StandardCharsets.UTF_8));
+            digest.update(objectMapper.writeValueAsBytes(requisicao));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao calcular hash da requisição", e);
+        }
+    }
+
+    private String escrever(Object resposta) {
+        try {
+            return objectMapper.writeValueAsString(resposta);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar resposta idempotente", e);
+        }
+    }
+
+    private <T> T lerResposta(ChaveIdempotencia registrada, Class<T> tipoResposta) {
+        try {
+            return objectMapper.readValue(registrada.getResposta(), tipoResposta);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao ler resposta idempotente da chave " + registrada.getChave(), e);
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package com.paofresquim.service;
+
+import com.paofresquim.dto.EstoqueNaDataDTO;
+import com.paofresquim.dto.ItemRecebimentoRequestDTO;
+import com.paofresquim.dto.LoteIngredienteDTO;
+import com.paofresquim.dto.MovimentacaoEstoqueRequestDTO;
+import com.paofresquim.dto.MovimentacaoEstoqueResponseDTO;
+import com.paofresquim.entity.CheckpointEstoque;
+import com.paofresquim.entity.EstoqueIngrediente;
+import com.paofresquim.entity.MovimentacaoEstoque;
+import com.paofresquim.entity.Venda;
+import com.paofresquim.event.DadosAlteradosEvent;
+import com.paofresquim.exception.ValidacaoException;
+import com.paofresquim.repository.BaixaLoteRepository;
+import com.paofresquim.repository.CheckpointEstoqueRepository;
+import com.paofresquim.repository.EstoqueIngredienteRepository;
+import com.paofresquim.repository.LoteIngredienteRepository;
+import com.paofresquim.repository.MovimentacaoEstoqueRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Service
+public class MovimentacaoEstoqueService implements AgregadoVendas {
+
+    private static final Logger logger = LoggerFactory.getLogger(MovimentacaoEstoqueService.class);
+
+    public static final String TIPO_ENTRADA = "entrada";
+    public static final String TIPO_CONSUMO_VENDA = "consumo_venda";
+    public static final String TIPO_ESTORNO_VENDA = "estorno_venda";
+    public static final String TIPO_PERDA = "perda";
+    public static final String TIPO_AJUSTE = "ajuste";
+
+    private static final List<String> TIPOS_MANUAIS = List.of(TIPO_ENTRADA, TIPO_PERDA, TIPO_AJUSTE);
+
+    @Autowired
+    private MovimentacaoEstoqueRepository movimentacaoEstoqueRepository;
+
+    @Autowired
+    private CheckpointEstoqueRepository checkpointEstoqueRepository;
+
+    @Autowired
+    private EstoqueIngredienteRepository estoqueIngredienteRepository;
+
+    @Autowired
+    private LoteIngredienteRepository loteIngredienteRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Override
+    @Transactional
+    public void registrar(Venda venda) {
+        registrarLote(List.of(venda));
+    }
+
+    @Override
+    @Transactional
+    public void registrarLote(List<Venda> vendas) {
+        Long ultimaMovimentacao = movimentacaoEstoqueRepository.findUltimaMovimentacao();
+        Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+        namedParameterJdbcTemplate.batchUpdate(MovimentacaoEstoqueRepository.SQL_CONSUMIR_RECEITA, vendas.stream()
+                .filter(venda -> venda.getPesoVendido() != null)
+                .map(venda -> new MapSqlParameterSource()
+                        .addValue("idProduto", venda.getProduto().getIdProduto())
+                        .addValue("idVenda", venda.getIdVenda())
+                        .addValue("pesoVendido", venda.getPesoVendido())
+                        .addValue("agora", agora))
+                .toArray(SqlParameterSource[]::new));
+        aplicarEstoque(ultimaMovimentacao, agora);
+        MapSqlParameterSource desde = new MapSqlParameterSource("ultimaMovimentacao", ultimaMovimentacao);
+        namedParameterJdbcTemplate.update(BaixaLoteRepository.SQL_REGISTRAR_BAIXAS, desde);
+        namedParameterJdbcTemplate.update(LoteIngredienteRepository.SQL_DEBITAR_BAIXAS, desde);
+        publicarMovimentados(ultimaMovimentacao);
+    }
+
+    @Override
+    @Transactional
+    public void estornar(Venda venda) {
+        Long ultimaMovimentacao = movimentacaoEstoqueRepository.findUltimaMovimentacao();
+        Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+        namedParameterJdbcTemplate.update(MovimentacaoEstoqueRepository.SQL_ESTORNAR_VENDA, new MapSqlParameterSource()
+                .addValue("idVenda", venda.getIdVenda())
+                .addValue("agora", agora));
+        aplicarEstoque(ultimaMovimentacao, agora);
+        MapSqlParameterSource daVenda = new MapSqlParameterSource("idVenda", venda.getIdVenda());
+        namedParameterJdbcTemplate.update(LoteIngredienteRepository.SQL_CREDITAR_BAIXAS_VENDA, daVenda);
+        namedParameterJdbcTemplate.update(BaixaLoteRepository.SQL_REMOVER_BAIXAS_VENDA, daVenda);
+        baixarLotes(ultimaMovimentacao);
+        publicarMovimentados(ultimaMovimentacao);
+    }
+
+    @Override
+    @Transactional
+    public void reconstruir() {
+        logger.info("Recalculando estoque dos ingredientes a partir das movimentações");
+        namedParameterJdbcTemplate.getJdbcTemplate().update(
+            "UPDATE estoque_ingredientes SET quantidade_estoque = " +
+            "(SELECT SUM(m.quantidade) FROM movimentacoes_estoque m WHERE m.id_ingrediente = estoque_ingredientes.id_ingrediente) " +
+            "WHERE EXISTS (SELECT 1 FROM movimentacoes_estoque m WHERE m.id_ingrediente = estoque_ingredientes.id_ingrediente)");
+    }
+
+    @Transactional
+    public Optional<MovimentacaoEstoqueResponseDTO> registrarManual(Long idIngrediente, MovimentacaoEstoqueRequestDTO requestDTO) {
+        Optional<EstoqueIngrediente> ingrediente = estoqueIngredienteRepository.findById(idIngrediente);
+        if (ingrediente.isEmpty()) {
+            return Optional.empty();
+        }
+
+        double quantidade = calcularQuantidade(requestDTO.tipo(), requestDTO.quantidade());
+        if (ingrediente.get().getQuantidadeEstoque() + quantidade < 0) {
+            throw new ValidacaoException("Movimentação deixaria o estoque de " +
+                    ingrediente.get().getNomeIngrediente() + " negativo");
+        }
+
+        logger.info("Registrando movimentação '{}' de {} no ingrediente ID {}", requestDTO.tipo(), quantidade, idIngrediente);
+        Long ultimaMovimentacao = movimentacaoEstoqueRepository.findUltimaMovimentacao();
+        MovimentacaoEstoque movimentacao = movimentacaoEstoqueRepository.saveAndFlush(
+                new MovimentacaoEstoque(idIngrediente, requestDTO.tipo(), quantidade, requestDTO.observacao()));
+        aplicarDesde(ultimaMovimentacao, Timestamp.valueOf(movimentacao.getDataMovimentacao()));
+        return Optional.of(toResponseDTO(movimentacao));
+    }
+
+    @Transactional
+    public void ajustarPara(Long idIngrediente, Double quantidade, String observacao) {
+        Long ultimaMovimentacao = movimentacaoEstoqueRepository.findUltimaMovimentacao();
+        Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+        namedParameterJdbcTemplate.update(MovimentacaoEstoqueRepository.SQL_AJUSTAR_PARA, new MapSqlParameterSource()
+                .addValue("idIngrediente", idIngrediente)
+                .addValue("quantidade", quantidade)
+                .addValue("observacao", observacao)
+                .addValue("agora", agora));
+        aplicarDesde(ultimaMovimentacao, agora);
+    }
+
+    @Transactional
+    public void ajustarLote(Map<Long, Double> quantidades, String observacao) {
+        Long ultimaMovimentacao = movimentacaoEstoqueRepository.findUltimaMovimentacao();
+        Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+        namedParameterJdbcTemplate.batchUpdate(MovimentacaoEstoqueRepository.SQL_AJUSTAR_PARA, quantidades.entrySet().stream()
+                .map(entrada -> new MapSqlParameterSource()
+                        .addValue("idIngrediente", entrada.getKey())
+                        .addValue("quantidade", entrada.getValue())
+                        .addValue("observacao", observacao)
+                        .addValue("agora", agora))
+                .toArray(SqlParameterSource[]::new));
+        aplicarDesde(ultimaMovimentacao, agora);
+    }
+
+    @Transactional
+    public void registrarEntradas(Long idRecebimento, List<ItemRecebimentoRequestDTO> itens, String observacao) {
+        Long ultimaMovimentacao = movimentacaoEstoqueRepository.findUltimaMovimentacao();
+        Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+        SqlParameterSource[] parametros = itens.stream()
+                .map(item -> new MapSqlParameterSource()
+                        .addValue("idIngrediente", item.idIngrediente())
+                        .addValue("idRecebimento", idRecebimento)
+                        .addValue("quantidade", item.quantidade())
+                        .addValue("custoUnitario", item.custoUnitario())
+                        .addValue("dataValidade", item.dataValidade() != null ? Date.valueOf(item.dataValidade()) : null)
+                        .addValue("observacao", observacao)
+                        .addValue("agora", agora))
+                .toArray(SqlParameterSource[]::new);
+        namedParameterJdbcTemplate.batchUpdate(MovimentacaoEstoqueRepository.SQL_ATUALIZAR_CUSTO_MEDIO, itens.stream()
+                .collect(Collectors.groupingBy(ItemRecebimentoRequestDTO::idIngrediente, LinkedHashMap::new, Collectors.toList()))
+                .entrySet().stream()
+                .map(entrada -> new MapSqlParameterSource()
+                        .addValue("idIngrediente", entrada.getKey())
+                        .addValue("quantidade", entrada.getValue().stream()
+                                .mapToDouble(ItemRecebimentoRequestDTO::quantidade).sum())
+                        .addValue("custoTotal", entrada.getValue().stream()
+                                .mapToDouble(item -> item.quantidade() * item.custoUnitario()).sum()))
+                .toArray(SqlParameterSource[]::new));
+        namedParameterJdbcTemplate.batchUpdate(MovimentacaoEstoqueRepository.SQL_REGISTRAR_ENTRADA, parametros);
+        namedParameterJdbcTemplate.batchUpdate(LoteIngredienteRepository.SQL_INSERIR_LOTE, parametros);
+        aplicarDesde(ultimaMovimentacao, agora);
+    }
+
+    @Transactional
+    public void registrarSaldoInicial(Long idIngrediente, Double quantidade) {
+        movimentacaoEstoqueRepository.save(new MovimentacaoEstoque(idIngrediente, TIPO_AJUSTE, quantidade, "Saldo inicial"));
+    }
+
+    @Transactional
+    public int registrarSaldosIniciais() {
+        return namedParameterJdbcTemplate.update(MovimentacaoEstoqueRepository.SQL_SALDO_INICIAL,
+                new MapSqlParameterSource("agora", Timestamp.valueOf(LocalDateTime.now())));
+    }
+
+    @Transactional(readOnly = true)
+    public List<MovimentacaoEstoqueResponseDTO> listarMovimentacoes(Long idIngrediente, int limite) {
+        return movimentacaoEstoqueRepository.findByIdIngredienteOrderByIdMovimentacaoDesc(idIngrediente, PageRequest.of(0, limite))
+                .stream()
+                .map(this::toResponseDTO)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<List<LoteIngredienteDTO>> listarLotes(Long idIngrediente) {
+        if (!estoqueIngredienteRepository.existsById(idIngrediente)) {
+            return Optional.empty();
+        }
+        return Optional.of(loteIngredienteRepository.findLotesAtivos(idIngrediente));
+    }
+
+    @Transactional(readOnly = true)
+    public List<LoteIngredienteDTO> listarLotesVencendo(int dias) {
+        return loteIngredienteRepository.findLotesVencendoAte(LocalDate.now().plusDays(dias));
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<EstoqueNaDataDTO> obterEstoqueEm(Long idIngrediente, LocalDateTime data) {
+        if (!estoqueIngredienteRepository.existsById(idIngrediente)) {
+            return Optional.empty();
+        }
+
+        Optional<CheckpointEstoque> checkpoint = checkpointEstoqueRepository
+                .findFirstByIdIngredienteAndDataCheckpointLessThanEqualOrderByDataCheckpointDesc(idIngrediente, data);
+        long desde = checkpoint.map(CheckpointEstoque::getIdUltimaMovimentacao).orElse(0L);
+        long ate = checkpointEstoqueRepository
+                .findFirstByIdIngredienteAndDataCheckpointGreaterThanOrderByDataCheckpointAsc(idIngrediente, data)
+                .map(CheckpointEstoque::getIdUltimaMovimentacao)
+                .orElse(Long.MAX_VALUE);
+
+        double saldo = checkpoint.map(CheckpointEstoque::getQuantidadeEstoque).orElse(0.0)
+                + movimentacaoEstoqueRepository.somarIntervalo(idIngrediente, desde, ate, data);
+        long aplicadas = movimentacaoEstoqueRepository.contarIntervalo(idIngrediente, desde, ate, data);
+
+        return Optional.of(new EstoqueNaDataDTO(idIngrediente, data, saldo,
+                checkpoint.map(CheckpointEstoque::getDataCheckpoint).orElse(null), aplicadas));
+    }
+
+    @Scheduled(initialDelayString = "${paofresquim.estoque.intervalo-checkpoint-ms:3600000}",
+               fixedDelayString = "${paofresquim.estoque.intervalo-checkpoint-ms:3600000}")
+    @Transactional
+    public void registrarCheckpoints() {
+        int registrados = checkpointEstoqueRepository.registrarCheckpoints(LocalDateTime.now(),
+                movimentacaoEstoqueRepository.findUltimaMovimentacao());
+        if (registrados > 0) {
+            logger.info("{} checkpoints de estoque registrados", registrados);
+        }
+    }
+
+    private double calcularQuantidade(String tipo, Double quantidade) {
+        if (!TIPOS_MANUAIS.contains(tipo)) {
+            throw new ValidacaoException("Tipo de movimentação inválido: " + tipo + ". Use " + String.join(", ", TIPOS_MANUAIS));
+        }
+        if (TIPO_AJUSTE.equals(tipo)) {
+            if (quantidade == 0) {
+                throw new ValidacaoException("Ajuste de estoque não pode ser zero");
+            }
+            return quantidade;
+        }
+        if (quantidade <= 0) {
+            throw new ValidacaoException("Quantidade deve ser positiva para movimentação do tipo " + tipo);
+        }
+        return TIPO_PERDA.equals(tipo) ? -quantidade : quantidade;
+    }
+
+    private void aplicarDesde(Long ultimaMovimentacao, Timestamp agora) {
+        aplicarEstoque(ultimaMovimentacao, agora);
+        baixarLotes(ultimaMovimentacao);
+        publicarMovimentados(ultimaMovimentacao);
+    }
+
+    private void aplicarEstoque(Long ultimaMovimentacao, Timestamp agora) {
+        namedParameterJdbcTemplate.update(MovimentacaoEstoqueRepository.SQL_APLICAR_MOVIMENTACOES, new MapSqlParameterSource()
+                .addValue("ultimaMovimentacao", ultimaMovimentacao)
+                .addValue("agora", agora));
+    }
+
+    private void publicarMovimentados(Long ultimaMovimentacao) {
+        List<Long> movimentados = movimentacaoEstoqueRepository.findIngredientesMovimentadosDesde(ultimaMovimentacao);
+        if (!movimentados.isEmpty()) {
+            eventPublisher.publishEvent(new DadosAlteradosEvent(EstoqueIngrediente.class, movimentados));
+        }
+    }
+
+    private void baixarLotes(Long ultimaMovimentacao) {
+        namedParameterJdbcTemplate.update(LoteIngredienteRepository.SQL_BAIXAR_LOTES,
+                new MapSqlParameterSource("ultimaMovimentacao", ultimaMovimentacao));
+    }
+
+    private MovimentacaoEstoqueResponseDTO toResponseDTO(MovimentacaoEstoque movimentacao) {
+        return new MovimentacaoEstoqueResponseDTO(
+            movimentacao.getIdMovimentacao(),
+            movimentacao.getIdIngrediente(),
+            movimentacao.getTipo(),
+            movimentacao.getQuantidade(),
+            movimentacao.getIdVenda(),
+            movimentacao.getObservacao(),
+            movimentacao.getDataMovimentacao()
+        );
+    }
+}
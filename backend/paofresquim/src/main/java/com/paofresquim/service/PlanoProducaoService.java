@@ -0,0 +1,168 @@
+package com.paofresquim.service;
+
+import com.paofresquim.dto.ItemPlanoProducaoDTO;
+import com.paofresquim.dto.PlanoProducaoResponseDTO;
+import com.paofresquim.dto.TurnoProducaoDTO;
+import com.paofresquim.repository.ItemReceitaRepository;
+import com.paofresquim.repository.MovimentacaoEstoqueRepository;
+import com.paofresquim.repository.PlanoProducaoRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Service
+public class PlanoProducaoService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PlanoProducaoService.class);
+
+    public static final List<String> TURNOS = List.of("manha", "tarde", "noite");
+
+    private record Consumo(Long idIngrediente, double quantidadePorKg) {}
+
+    @Autowired
+    private PlanoProducaoRepository planoProducaoRepository;
+
+    @Autowired
+    private ItemReceitaRepository itemReceitaRepository;
+
+    @Autowired
+    private MovimentacaoEstoqueRepository movimentacaoEstoqueRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Value("${paofresquim.producao.semanas-historico:8}")
+    private int semanasHistorico;
+
+    @Value("${paofresquim.producao.margem-seguranca:0.1}")
+    private double margemSeguranca;
+
+    @Value("${paofresquim.producao.inicio-turno-tarde:12}")
+    private int inicioTurnoTarde;
+
+    @Value("${paofresquim.producao.inicio-turno-noite:18}")
+    private int inicioTurnoNoite;
+
+    @Scheduled(initialDelayString = "${paofresquim.producao.intervalo-calculo-ms:3600000}",
+               fixedDelayString = "${paofresquim.producao.intervalo-calculo-ms:3600000}")
+    @Transactional
+    public void gerarPlanoDoDia() {
+        planejar(LocalDate.now());
+    }
+
+    @Transactional
+    public PlanoProducaoResponseDTO gerarPlano(LocalDate data) {
+        planejar(data);
+        return buscarPlano(data).orElseGet(() -> new PlanoProducaoResponseDTO(data, LocalDateTime.now(), 0.0,
+                TURNOS.stream().map(turno -> new TurnoProducaoDTO(turno, 0.0, List.of())).toList()));
+    }
+
+    @Transactional
+    public int planejar(LocalDate data) {
+        long inicio = System.currentTimeMillis();
+        String dataPlano = data.format(ResumoVendasPeriodoService.FORMATO_DIA);
+
+        Map<Long, Map<String, Double>> demandas = new HashMap<>();
+        planoProducaoRepository.preverDemandaPorTurno(
+                        data.minusWeeks(semanasHistorico).format(ResumoVendasPeriodoService.FORMATO_DIA),
+                        dataPlano, String.valueOf(data.getDayOfWeek().getValue() % 7), semanasHistorico,
+                        inicioTurnoTarde, inicioTurnoNoite)
+                .forEach(linha -> demandas.computeIfAbsent(((Number) linha[0]).longValue(), id -> new HashMap<>())
+                        .put((String) linha[1], ((Number) linha[2]).doubleValue()));
+
+        Map<Long, Double> movimentadoNoDia = new HashMap<>();
+        movimentacaoEstoqueRepository.somarPorIngredienteDesde(data.atStartOfDay())
+                .forEach(linha -> movimentadoNoDia.put(((Number) linha[0]).longValue(), ((Number) linha[1]).doubleValue()));
+
+        Map<Long, List<Consumo>> receitas = new HashMap<>();
+        Map<Long, Double> necessidades = new HashMap<>();
+        Map<Long, Double> estoques = new HashMap<>();
+        for (Object[] linha : itemReceitaRepository.findReceitasComEstoque()) {
+            Long idProduto = ((Number) linha[0]).longValue();
+            Long idIngrediente = ((Number) linha[1]).longValue();
+            double quantidadePorKg = ((Number) linha[2]).doubleValue();
+            receitas.computeIfAbsent(idProduto, id -> new ArrayList<>()).add(new Consumo(idIngrediente, quantidadePorKg));
+            estoques.put(idIngrediente, Math.max(((Number) linha[3]).doubleValue()
+                    - movimentadoNoDia.getOrDefault(idIngrediente, 0.0), 0.0));
+            double demandaDia = demandas.getOrDefault(idProduto, Map.of()).values().stream()
+                    .mapToDouble(Double::doubleValue)
+                    .sum() * (1 + margemSeguranca);
+            necessidades.merge(idIngrediente, demandaDia * quantidadePorKg, Double::sum);
+        }
+
+        Timestamp calculadoEm = Timestamp.valueOf(LocalDateTime.now());
+        List<SqlParameterSource> linhas = new ArrayList<>();
+        demandas.forEach((idProduto, porTurno) -> {
+            double fator = 1.0;
+            Long limitante = null;
+            for (Consumo consumo : receitas.getOrDefault(idProduto, List.of())) {
+                double necessidade = necessidades.get(consumo.idIngrediente());
+                double estoque = estoques.get(consumo.idIngrediente());
+                if (necessidade > estoque && estoque / necessidade < fator) {
+                    fator = estoque / necessidade;
+                    limitante = consumo.idIngrediente();
+                }
+            }
+            for (Map.Entry<String, Double> turno : porTurno.entrySet()) {
+                linhas.add(new MapSqlParameterSource()
+                        .addValue("dataPlano", dataPlano)
+                        .addValue("idProduto", idProduto)
+                        .addValue("turno", turno.getKey())
+                        .addValue("demandaPrevista", turno.getValue())
+                        .addValue("quantidadePlanejada", turno.getValue() * (1 + margemSeguranca) * fator)
+                        .addValue("fatorAtendimento", fator)
+                        .addValue("idIngredienteLimitante", limitante)
+                        .addValue("calculadoEm", calculadoEm));
+            }
+        });
+
+        planoProducaoRepository.removerPlano(dataPlano);
+        namedParameterJdbcTemplate.batchUpdate(PlanoProducaoRepository.SQL_INSERIR, linhas.toArray(SqlParameterSource[]::new));
+        logger.info("Plano de produção de {} gerado com {} itens para {} produtos em {} ms",
+                dataPlano, linhas.size(), demandas.size(), System.currentTimeMillis() - inicio);
+        return linhas.size();
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<PlanoProducaoResponseDTO> buscarPlano(LocalDate data) {
+        String dataPlano = data.format(ResumoVendasPeriodoService.FORMATO_DIA);
+        LocalDateTime calculadoEm = planoProducaoRepository.findCalculadoEm(dataPlano);
+        if (calculadoEm == null) {
+            return Optional.empty();
+        }
+
+        Map<String, List<ItemPlanoProducaoDTO>> porTurno = planoProducaoRepository.findPlano(dataPlano).stream()
+                .collect(Collectors.groupingBy(ItemPlanoProducaoDTO::turno));
+        List<TurnoProducaoDTO> turnos = TURNOS.stream()
+                .map(turno -> {
+                    List<ItemPlanoProducaoDTO> itens = porTurno.getOrDefault(turno, List.of());
+                    return new TurnoProducaoDTO(turno, somar(itens), itens);
+                })
+                .toList();
+        return Optional.of(new PlanoProducaoResponseDTO(data, calculadoEm,
+                turnos.stream().mapToDouble(TurnoProducaoDTO::quantidadeTotal).sum(), turnos));
+    }
+
+    private double somar(List<ItemPlanoProducaoDTO> itens) {
+        return itens.stream()
+                .mapToDouble(ItemPlanoProducaoDTO::quantidadePlanejada)
+                .sum();
+    }
+}
@@ -0,0 +1,56 @@
+package com.paofresquim.service;
+
+import com.paofresquim.dto.PrevisaoReposicaoDTO;
+import com.paofresquim.repository.PrevisaoReposicaoRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+public class PrevisaoReposicaoService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PrevisaoReposicaoService.class);
+
+    @Autowired
+    private PrevisaoReposicaoRepository previsaoReposicaoRepository;
+
+    @Value("${paofresquim.reposicao.janela-dias:28}")
+    private int janelaDias;
+
+    @Value("${paofresquim.reposicao.prazo-entrega-dias:3}")
+    private int prazoEntregaDias;
+
+    @Value("${paofresquim.reposicao.cobertura-dias:14}")
+    private int coberturaDias;
+
+    @Scheduled(initialDelayString = "${paofresquim.reposicao.intervalo-calculo-ms:900000}",
+               fixedDelayString = "${paofresquim.reposicao.intervalo-calculo-ms:900000}")
+    @Transactional
+    public void recalcular() {
+        long inicioCalculo = System.currentTimeMillis();
+        LocalDate hoje = LocalDate.now();
+        LocalDate inicio = hoje.minusDays(janelaDias);
+        String inicioJanela = inicio.format(ResumoVendasPeriodoService.FORMATO_DIA);
+
+        previsaoReposicaoRepository.removerTodas();
+        int calculadas = previsaoReposicaoRepository.calcular(inicioJanela, hoje.format(ResumoVendasPeriodoService.FORMATO_DIA),
+                inicio.atStartOfDay(), hoje.atStartOfDay(), janelaDias, prazoEntregaDias, coberturaDias, LocalDateTime.now());
+        logger.info("Previsão de reposição recalculada para {} ingredientes em {} ms (janela desde {})",
+                calculadas, System.currentTimeMillis() - inicioCalculo, inicioJanela);
+    }
+
+    @Transactional(readOnly = true)
+    public List<PrevisaoReposicaoDTO> listar(boolean apenasRepor) {
+        return apenasRepor
+                ? previsaoReposicaoRepository.findPrevisoesParaRepor()
+                : previsaoReposicaoRepository.findPrevisoes();
+    }
+}
@@ -5,6 +5,7 @@ import com.paofresquim.dto.ProdutoResponseDTO;
 import com.paofresquim.entity.Produto;
 import com.paofresquim.exception.ConflitoDadosException;
 import com.paofresquim.exception.RegraNegocioException;
+import com.paofresquim.repository.ItemReceitaRepository;
 import com.paofresquim.repository.ProdutoRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -20,6 +21,9 @@ public class ProdutoService extends BaseService<Produto, Long, ProdutoRequestDTO
     @Autowired
     private ProdutoRepository produtoRepository;
 
+    @Autowired
+    private ItemReceitaRepository itemReceitaRepository;
+
     @Override
     protected ProdutoRepository getRepository() {
         return produtoRepository;
@@ -52,6 +56,11 @@ public class ProdutoService extends BaseService<Produto, Long, ProdutoRequestDTO
         produto.setPrecoKg(requestDTO.precoKg());
     }
 
+    @Override
+    protected List<String> getOrdenacoesDisponiveis() {
+        return List.of(ORDENACAO_ID, "nomeProduto");
+    }
+
     @Override
     protected Long getIdFromEntity(Produto entity) {
         return entity.getIdProduto();
@@ -84,7 +93,9 @@ public class ProdutoService extends BaseService<Produto, Long, ProdutoRequestDTO
             if (!produto.getVendas().isEmpty()) {
                 throw new RegraNegocioException("Não é possível deletar produto com vendas associadas");
             }
+            itemReceitaRepository.removerPorProduto(id);
             produtoRepository.deleteById(id);
+            publicarAlteracao(id);
             logger.info("Produto deletado com ID: {}", id);
             return true;
         }
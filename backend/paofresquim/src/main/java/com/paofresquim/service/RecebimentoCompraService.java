@@ -0,0 +1,123 @@
+package com.paofresquim.service;
+
+import com.paofresquim.dto.ItemRecebimentoRequestDTO;
+import com.paofresquim.dto.ItemRecebimentoResponseDTO;
+import com.paofresquim.dto.RecebimentoCompraRequestDTO;
+import com.paofresquim.dto.RecebimentoCompraResponseDTO;
+import com.paofresquim.entity.EstoqueIngrediente;
+import com.paofresquim.entity.RecebimentoCompra;
+import com.paofresquim.exception.ConflitoDadosException;
+import com.paofresquim.exception.EntidadeNaoEncontradaException;
+import com.paofresquim.repository.EstoqueIngredienteRepository;
+import com.paofresquim.repository.ItemRecebimentoRepository;
+import com.paofresquim.repository.RecebimentoCompraRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class RecebimentoCompraService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecebimentoCompraService.class);
+
+    @Autowired
+    private RecebimentoCompraRepository recebimentoCompraRepository;
+
+    @Autowired
+    private ItemRecebimentoRepository itemRecebimentoRepository;
+
+    @Autowired
+    private EstoqueIngredienteRepository estoqueIngredienteRepository;
+
+    @Autowired
+    private MovimentacaoEstoqueService movimentacaoEstoqueService;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Transactional
+    public RecebimentoCompraResponseDTO registrar(RecebimentoCompraRequestDTO requestDTO) {
+        logger.info("Registrando recebimento de {} com {} itens", requestDTO.fornecedor(), requestDTO.itens().size());
+
+        String numeroNota = requestDTO.numeroNota() != null && !requestDTO.numeroNota().isBlank()
+                ? requestDTO.numeroNota().trim() : null;
+        if (numeroNota != null && recebimentoCompraRepository.existsByFornecedorAndNumeroNota(requestDTO.fornecedor(), numeroNota)) {
+            throw new ConflitoDadosException("Nota " + numeroNota + " do fornecedor " + requestDTO.fornecedor() + " já foi recebida");
+        }
+
+        Set<Long> idsIngredientes = requestDTO.itens().stream()
+                .map(ItemRecebimentoRequestDTO::idIngrediente)
+                .collect(Collectors.toSet());
+        Map<Long, EstoqueIngrediente> ingredientes = estoqueIngredienteRepository.findAllById(idsIngredientes).stream()
+                .collect(Collectors.toMap(EstoqueIngrediente::getIdIngrediente, Function.identity()));
+        idsIngredientes.stream()
+                .filter(id -> !ingredientes.containsKey(id))
+                .findFirst()
+                .ifPresent(id -> {
+                    throw new EntidadeNaoEncontradaException("Ingrediente não encontrado: " + id);
+                });
+
+        RecebimentoCompra recebimento = new RecebimentoCompra();
+        recebimento.setFornecedor(requestDTO.fornecedor());
+        recebimento.setNumeroNota(numeroNota);
+        recebimento.setValorTotal(requestDTO.itens().stream()
+                .mapToDouble(item -> item.quantidade() * item.custoUnitario())
+                .sum());
+        recebimento = recebimentoCompraRepository.save(recebimento);
+
+        Long idRecebimento = recebimento.getIdRecebimento();
+        namedParameterJdbcTemplate.batchUpdate(ItemRecebimentoRepository.SQL_INSERIR_ITEM, requestDTO.itens().stream()
+                .map(item -> new MapSqlParameterSource()
+                        .addValue("idRecebimento", idRecebimento)
+                        .addValue("idIngrediente", item.idIngrediente())
+                        .addValue("quantidade", item.quantidade())
+                        .addValue("custoUnitario", item.custoUnitario())
+                        .addValue("dataValidade", item.dataValidade() != null ? Date.valueOf(item.dataValidade()) : null))
+                .toArray(SqlParameterSource[]::new));
+        movimentacaoEstoqueService.registrarEntradas(idRecebimento, requestDTO.itens(),
+                "Recebimento #" + idRecebimento + (numeroNota != null ? " - NF " + numeroNota : ""));
+
+        logger.info("Recebimento registrado com ID: {}", idRecebimento);
+        List<ItemRecebimentoResponseDTO> itens = requestDTO.itens().stream()
+                .map(item -> new ItemRecebimentoResponseDTO(
+                    item.idIngrediente(),
+                    ingredientes.get(item.idIngrediente()).getNomeIngrediente(),
+                    item.quantidade(),
+                    item.custoUnitario(),
+                    item.quantidade() * item.custoUnitario(),
+                    item.dataValidade()))
+                .collect(Collectors.toList());
+        return toResponseDTO(recebimento, itens);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<RecebimentoCompraResponseDTO> buscarPorId(Long idRecebimento) {
+        logger.debug("Buscando recebimento de compra por ID: {}", idRecebimento);
+        return recebimentoCompraRepository.findById(idRecebimento)
+                .map(recebimento -> toResponseDTO(recebimento, itemRecebimentoRepository.findItens(idRecebimento)));
+    }
+
+    private RecebimentoCompraResponseDTO toResponseDTO(RecebimentoCompra recebimento, List<ItemRecebimentoResponseDTO> itens) {
+        return new RecebimentoCompraResponseDTO(
+            recebimento.getIdRecebimento(),
+            recebimento.getFornecedor(),
+            recebimento.getNumeroNota(),
+            recebimento.getDataRecebimento(),
+            recebimento.getValorTotal(),
+            itens
+        );
+    }
+}
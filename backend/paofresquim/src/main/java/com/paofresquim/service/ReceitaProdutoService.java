@@ -0,0 +1,65 @@
+package com.paofresquim.service;
+
+import com.paofresquim.dto.ItemReceitaRequestDTO;
+import com.paofresquim.dto.ItemReceitaResponseDTO;
+import com.paofresquim.entity.ItemReceita;
+import com.paofresquim.exception.ValidacaoException;
+import com.paofresquim.repository.EstoqueIngredienteRepository;
+import com.paofresquim.repository.ItemReceitaRepository;
+import com.paofresquim.repository.ProdutoRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+@Service
+public class ReceitaProdutoService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReceitaProdutoService.class);
+
+    @Autowired
+    private ItemReceitaRepository itemReceitaRepository;
+
+    @Autowired
+    private ProdutoRepository produtoRepository;
+
+    @Autowired
+    private EstoqueIngredienteRepository estoqueIngredienteRepository;
+
+    @Transactional(readOnly = true)
+    public Optional<List<ItemReceitaResponseDTO>> buscarReceita(Long idProduto) {
+        if (!produtoRepository.existsById(idProduto)) {
+            return Optional.empty();
+        }
+        return Optional.of(itemReceitaRepository.findReceita(idProduto));
+    }
+
+    @Transactional
+    public Optional<List<ItemReceitaResponseDTO>> substituirReceita(Long idProduto, List<ItemReceitaRequestDTO> itens) {
+        if (!produtoRepository.existsById(idProduto)) {
+            return Optional.empty();
+        }
+        Set<Long> ingredientes = new HashSet<>();
+        for (ItemReceitaRequestDTO item : itens) {
+            if (!ingredientes.add(item.idIngrediente())) {
+                throw new ValidacaoException("Ingrediente repetido na receita: " + item.idIngrediente());
+            }
+            if (!estoqueIngredienteRepository.existsById(item.idIngrediente())) {
+                throw new ValidacaoException("Ingrediente não encontrado com ID: " + item.idIngrediente());
+            }
+        }
+
+        logger.info("Substituindo receita do produto ID {} por {} ingredientes", idProduto, itens.size());
+        itemReceitaRepository.removerPorProduto(idProduto);
+        itemReceitaRepository.saveAll(itens.stream()
+                .map(item -> new ItemReceita(idProduto, item.idIngrediente(), item.quantidadePorKg()))
+                .toList());
+        return Optional.of(itemReceitaRepository.findReceita(idProduto));
+    }
+}
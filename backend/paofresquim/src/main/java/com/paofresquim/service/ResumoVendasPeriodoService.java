@@ -0,0 +1,160 @@
+package com.paofresquim.service;
+
+import com.paofresquim.dto.TotaisVendasDTO;
+import com.paofresquim.entity.Venda;
+import com.paofresquim.repository.ResumoVendaDiaRepository;
+import com.paofresquim.repository.ResumoVendaHoraRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class ResumoVendasPeriodoService implements AgregadoVendas {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResumoVendasPeriodoService.class);
+
+    public static final DateTimeFormatter FORMATO_HORA = DateTimeFormatter.ofPattern("yyyy-MM-dd HH");
+    public static final DateTimeFormatter FORMATO_DIA = DateTimeFormatter.ISO_LOCAL_DATE;
+
+    private record ChavePeriodo(String periodo, Long idProduto, String formaPagamento) {}
+
+    @Autowired
+    private ResumoVendaHoraRepository resumoVendaHoraRepository;
+
+    @Autowired
+    private ResumoVendaDiaRepository resumoVendaDiaRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Override
+    @Transactional
+    public void registrar(Venda venda) {
+        aplicar(venda, 1);
+    }
+
+    @Override
+    @Transactional
+    public void registrarLote(List<Venda> vendas) {
+        Map<ChavePeriodo, double[]> horas = new LinkedHashMap<>();
+        Map<ChavePeriodo, double[]> dias = new LinkedHashMap<>();
+        for (Venda venda : vendas) {
+            if (venda.getDataVenda() == null) {
+                continue;
+            }
+            double peso = venda.getPesoVendido() != null ? venda.getPesoVendido() : 0.0;
+            double total = venda.getTotal() != null ? venda.getTotal() : 0.0;
+            String formaPagamento = venda.getFormaPagamento() != null ? venda.getFormaPagamento() : "dinheiro";
+            Long idProduto = venda.getProduto().getIdProduto();
+            somar(horas, new ChavePeriodo(venda.getDataVenda().format(FORMATO_HORA), idProduto, formaPagamento), peso, total);
+            somar(dias, new ChavePeriodo(venda.getDataVenda().format(FORMATO_DIA), idProduto, formaPagamento), peso, total);
+        }
+        namedParameterJdbcTemplate.batchUpdate(ResumoVendaHoraRepository.SQL_ACUMULAR, parametros(horas));
+        namedParameterJdbcTemplate.batchUpdate(ResumoVendaDiaRepository.SQL_ACUMULAR, parametros(dias));
+    }
+
+    @Override
+    @Transactional
+    public void estornar(Venda venda) {
+        aplicar(venda, -1);
+    }
+
+    @Override
+    @Transactional
+    public void reconstruir() {
+        logger.info("Reconstruindo resumos de vendas por hora e por dia a partir da tabela vendas");
+        resumoVendaHoraRepository.removerTodos();
+        resumoVendaDiaRepository.removerTodos();
+        resumoVendaHoraRepository.reconstruirAPartirDasVendas();
+        resumoVendaDiaRepository.reconstruirAPartirDasVendas();
+    }
+
+    @Transactional(readOnly = true)
+    public TotaisVendasDTO totalizar(LocalDateTime inicio, LocalDateTime fim) {
+        LocalDateTime inicioHora = inicio.truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime fimHora = fim.truncatedTo(ChronoUnit.HOURS);
+        if (fimHora.isBefore(fim)) {
+            fimHora = fimHora.plusHours(1);
+        }
+        if (!inicioHora.isBefore(fimHora)) {
+            return new TotaisVendasDTO(0.0, 0L);
+        }
+
+        LocalDate primeiroDiaCompleto = inicioHora.toLocalTime().equals(LocalTime.MIDNIGHT)
+                ? inicioHora.toLocalDate()
+                : inicioHora.toLocalDate().plusDays(1);
+        LocalDate fimDiasCompletos = fimHora.toLocalDate();
+
+        if (!primeiroDiaCompleto.isBefore(fimDiasCompletos)) {
+            return totalizarHoras(inicioHora, fimHora);
+        }
+
+        return totalizarHoras(inicioHora, primeiroDiaCompleto.atStartOfDay())
+                .somar(totalizarDias(primeiroDiaCompleto, fimDiasCompletos))
+                .somar(totalizarHoras(fimDiasCompletos.atStartOfDay(), fimHora));
+    }
+
+    @Transactional(readOnly = true)
+    public TotaisVendasDTO totalizarDias(LocalDate inicio, LocalDate fim) {
+        if (!inicio.isBefore(fim)) {
+            return new TotaisVendasDTO(0.0, 0L);
+        }
+        return resumoVendaDiaRepository.totalizar(inicio.format(FORMATO_DIA), fim.format(FORMATO_DIA));
+    }
+
+    @Transactional(readOnly = true)
+    public TotaisVendasDTO totalizarHoras(LocalDateTime inicio, LocalDateTime fim) {
+        if (!inicio.isBefore(fim)) {
+            return new TotaisVendasDTO(0.0, 0L);
+        }
+        return resumoVendaHoraRepository.totalizar(inicio.format(FORMATO_HORA), fim.format(FORMATO_HORA));
+    }
+
+    private void aplicar(Venda venda, int sinal) {
+        if (venda.getDataVenda() == null) {
+            return;
+        }
+        double peso = venda.getPesoVendido() != null ? venda.getPesoVendido() : 0.0;
+        double total = venda.getTotal() != null ? venda.getTotal() : 0.0;
+        String formaPagamento = venda.getFormaPagamento() != null ? venda.getFormaPagamento() : "dinheiro";
+        Long idProduto = venda.getProduto().getIdProduto();
+
+        resumoVendaHoraRepository.acumular(venda.getDataVenda().format(FORMATO_HORA),
+                idProduto, formaPagamento, sinal * peso, sinal * total, sinal);
+        resumoVendaDiaRepository.acumular(venda.getDataVenda().format(FORMATO_DIA),
+                idProduto, formaPagamento, sinal * peso, sinal * total, sinal);
+    }
+
+    private void somar(Map<ChavePeriodo, double[]> deltas, ChavePeriodo chave, double peso, double total) {
+        double[] delta = deltas.computeIfAbsent(chave, c -> new double[3]);
+        delta[0] += peso;
+        delta[1] += total;
+        delta[2]++;
+    }
+
+    private SqlParameterSource[] parametros(Map<ChavePeriodo, double[]> deltas) {
+        return deltas.entrySet().stream()
+                .map(entrada -> new MapSqlParameterSource()
+                        .addValue("periodo", entrada.getKey().periodo())
+                        .addValue("idProduto", entrada.getKey().idProduto())
+                        .addValue("formaPagamento", entrada.getKey().formaPagamento())
+                        .addValue("quantidade", entrada.getValue()[0])
+                        .addValue("total", entrada.getValue()[1])
+                        .addValue("numero", (int) entrada.getValue()[2]))
+                .toArray(SqlParameterSource[]::new);
+    }
+}
@@ -0,0 +1,119 @@
+package com.paofresquim.service;
+
+import com.paofresquim.dto.ClienteTopDTO;
+import com.paofresquim.dto.ProdutoMaisVendidoDTO;
+import com.paofresquim.entity.Venda;
+import com.paofresquim.repository.ResumoVendaClienteRepository;
+import com.paofresquim.repository.ResumoVendaProdutoRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class ResumoVendasService implements AgregadoVendas {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResumoVendasService.class);
+
+    @Autowired
+    private ResumoVendaProdutoRepository resumoVendaProdutoRepository;
+
+    @Autowired
+    private ResumoVendaClienteRepository resumoVendaClienteRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Override
+    @Transactional
+    public void registrar(Venda venda) {
+        aplicar(venda, 1);
+    }
+
+    @Override
+    @Transactional
+    public void registrarLote(List<Venda> vendas) {
+        Map<Long, double[]> produtos = new LinkedHashMap<>();
+        Map<Long, double[]> clientes = new LinkedHashMap<>();
+        for (Venda venda : vendas) {
+            double peso = venda.getPesoVendido() != null ? venda.getPesoVendido() : 0.0;
+            double total = venda.getTotal() != null ? venda.getTotal() : 0.0;
+            double[] produto = produtos.computeIfAbsent(venda.getProduto().getIdProduto(), id -> new double[3]);
+            produto[0] += peso;
+            produto[1] += total;
+            produto[2]++;
+            if (venda.getCliente() != null) {
+                double[] cliente = clientes.computeIfAbsent(venda.getCliente().getIdCliente(), id -> new double[2]);
+                cliente[0] += total;
+                cliente[1]++;
+            }
+        }
+
+        namedParameterJdbcTemplate.batchUpdate(ResumoVendaProdutoRepository.SQL_ACUMULAR, produtos.entrySet().stream()
+                .map(entrada -> new MapSqlParameterSource()
+                        .addValue("idProduto", entrada.getKey())
+                        .addValue("quantidade", entrada.getValue()[0])
+                        .addValue("total", entrada.getValue()[1])
+                        .addValue("numero", (int) entrada.getValue()[2]))
+                .toArray(SqlParameterSource[]::new));
+        namedParameterJdbcTemplate.batchUpdate(ResumoVendaClienteRepository.SQL_ACUMULAR, clientes.entrySet().stream()
+                .map(entrada -> new MapSqlParameterSource()
+                        .addValue("idCliente", entrada.getKey())
+                        .addValue("total", entrada.getValue()[0])
+                        .addValue("numero", (int) entrada.getValue()[1]))
+                .toArray(SqlParameterSource[]::new));
+    }
+
+    @Override
+    @Transactional
+    public void estornar(Venda venda) {
+        aplicar(venda, -1);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ProdutoMaisVendidoDTO> obterProdutosMaisVendidos(int limite) {
+        return resumoVendaProdutoRepository.findMaisVendidos(PageRequest.of(0, limite));
+    }
+
+    @Transactional(readOnly = true)
+    public List<ProdutoMaisVendidoDTO> obterProdutosMaisFrequentes(int limite) {
+        return resumoVendaProdutoRepository.findMaisFrequentes(PageRequest.of(0, limite));
+    }
+
+    @Transactional(readOnly = true)
+    public List<ClienteTopDTO> obterClientesTop(int limite) {
+        return resumoVendaClienteRepository.findClientesTop(PageRequest.of(0, limite));
+    }
+
+    @Override
+    @Transactional
+    public void reconstruir() {
+        logger.info("Reconstruindo resumos de vendas a partir da tabela vendas");
+        resumoVendaProdutoRepository.removerTodos();
+        resumoVendaClienteRepository.removerTodos();
+        resumoVendaProdutoRepository.reconstruirAPartirDasVendas();
+        resumoVendaClienteRepository.reconstruirAPartirDasVendas();
+    }
+
+    private void aplicar(Venda venda, int sinal) {
+        double peso = venda.getPesoVendido() != null ? venda.getPesoVendido() : 0.0;
+        double total = venda.getTotal() != null ? venda.getTotal() : 0.0;
+
+        resumoVendaProdutoRepository.acumular(
+            venda.getProduto().getIdProduto(), sinal * peso, sinal * total, sinal);
+
+        if (venda.getCliente() != null) {
+            resumoVendaClienteRepository.acumular(
+                venda.getCliente().getIdCliente(), sinal * total, sinal);
+        }
+    }
+}
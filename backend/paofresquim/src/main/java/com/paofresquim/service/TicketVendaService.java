@@ -0,0 +1,131 @@
+package com.paofresquim.service;
+
+import com.paofresquim.dto.ItemTicketRequestDTO;
+import com.paofresquim.dto.TicketVendaRequestDTO;
+import com.paofresquim.dto.TicketVendaResponseDTO;
+import com.paofresquim.dto.VendaResponseDTO;
+import com.paofresquim.entity.Cliente;
+import com.paofresquim.entity.Produto;
+import com.paofresquim.entity.TicketVenda;
+import com.paofresquim.entity.Venda;
+import com.paofresquim.exception.EntidadeNaoEncontradaException;
+import com.paofresquim.exception.ValidacaoException;
+import com.paofresquim.repository.ClienteRepository;
+import com.paofresquim.repository.ProdutoRepository;
+import com.paofresquim.repository.TicketVendaRepository;
+import com.paofresquim.repository.VendaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class TicketVendaService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TicketVendaService.class);
+
+    private static final Set<String> FORMAS_PAGAMENTO = Set.of("dinheiro", "cartao", "pix", "fiado");
+    private static final Set<String> STATUS_PAGAMENTO = Set.of("pago", "pendente");
+
+    @Autowired
+    private TicketVendaRepository ticketVendaRepository;
+
+    @Autowired
+    private ProdutoRepository produtoRepository;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private VendaRepository vendaRepository;
+
+    @Autowired
+    private VendaService vendaService;
+
+    @Transactional
+    public TicketVendaResponseDTO criar(TicketVendaRequestDTO requestDTO) {
+        logger.info("Criando ticket de venda com {} itens", requestDTO.itens().size());
+
+        if (!FORMAS_PAGAMENTO.contains(requestDTO.formaPagamento())) {
+            throw new ValidacaoException("Forma de pagamento inválida: " + requestDTO.formaPagamento());
+        }
+        if (!STATUS_PAGAMENTO.contains(requestDTO.statusPagamento())) {
+            throw new ValidacaoException("Status de pagamento inválido: " + requestDTO.statusPagamento());
+        }
+
+        Cliente cliente = null;
+        if (requestDTO.idCliente() != null) {
+            cliente = clienteRepository.findById(requestDTO.idCliente())
+                    .orElseThrow(() -> new EntidadeNaoEncontradaException("Cliente não encontrado: " + requestDTO.idCliente()));
+        }
+
+        Set<Long> idsProdutos = requestDTO.itens().stream()
+                .map(ItemTicketRequestDTO::idProduto)
+                .collect(Collectors.toSet());
+        Map<Long, Produto> produtos = produtoRepository.findAllById(idsProdutos).stream()
+                .collect(Collectors.toMap(Produto::getIdProduto, Function.identity()));
+        idsProdutos.stream()
+                .filter(id -> !produtos.containsKey(id))
+                .findFirst()
+                .ifPresent(id -> {
+                    throw new EntidadeNaoEncontradaException("Produto não encontrado: " + id);
+                });
+
+        TicketVenda ticket = new TicketVenda();
+        ticket.setCliente(cliente);
+        ticket.setFormaPagamento(requestDTO.formaPagamento());
+        ticket.setStatusPagamento(requestDTO.statusPagamento());
+        ticket = ticketVendaRepository.save(ticket);
+
+        Cliente clienteTicket = cliente;
+        TicketVenda ticketSalvo = ticket;
+        List<Venda> vendas = requestDTO.itens().stream()
+                .map(item -> {
+                    Venda venda = vendaService.montarVenda(produtos.get(item.idProduto()), clienteTicket,
+                            item.pesoVendido(), item.precoKg(), requestDTO.formaPagamento(), requestDTO.statusPagamento());
+                    venda.setTicket(ticketSalvo);
+                    venda.setDataVenda(ticketSalvo.getDataVenda());
+                    return venda;
+                })
+                .collect(Collectors.toList());
+
+        vendaService.gravarEmLote(vendas);
+        logger.info("Ticket criado com ID: {}", ticket.getIdTicket());
+        return toResponseDTO(ticket, vendas);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<TicketVendaResponseDTO> buscarPorId(Long idTicket) {
+        logger.debug("Buscando ticket de venda por ID: {}", idTicket);
+        return ticketVendaRepository.findById(idTicket)
+                .map(ticket -> toResponseDTO(ticket, vendaRepository.findByTicketIdTicket(idTicket)));
+    }
+
+    private TicketVendaResponseDTO toResponseDTO(TicketVenda ticket, List<Venda> vendas) {
+        List<VendaResponseDTO> itens = vendas.stream()
+                .map(vendaService::toResponseDTO)
+                .collect(Collectors.toList());
+        double total = itens.stream()
+                .mapToDouble(item -> item.total() != null ? item.total() : 0.0)
+                .sum();
+
+        return new TicketVendaResponseDTO(
+            ticket.getIdTicket(),
+            ticket.getCliente() != null ? ticket.getCliente().getIdCliente() : null,
+            ticket.getCliente() != null ? ticket.getCliente().getNome() : "Cliente não informado",
+            ticket.getFormaPagamento(),
+            ticket.getStatusPagamento(),
+            ticket.getDataVenda(),
+            total,
+            itens
+        );
+    }
+}
@@ -5,23 +5,33 @@ import com.paofresquim.dto.VendaResponseDTO;
 import com.paofresquim.entity.Cliente;
 import com.paofresquim.entity.Produto;
 import com.paofresquim.entity.Venda;
+import com.paofresquim.event.DadosAlteradosEvent;
 import com.paofresquim.exception.EntidadeNaoEncontradaException;
 import com.paofresquim.exception.ValidacaoException;
 import com.paofresquim.repository.ClienteRepository;
 import com.paofresquim.repository.ProdutoRepository;
 import com.paofresquim.repository.VendaRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.ResultSet;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 @Service
 public class VendaService extends BaseService<Venda, Long, VendaRequestDTO, VendaResponseDTO> {
 
+    private static final String SQL_INSERIR_VENDA =
+            "INSERT INTO vendas (id_cliente, id_produto, peso_vendido, preco_kg, total, forma_pagamento, " +
+            "status_pagamento, data_venda, data_vencimento, id_ticket) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "RETURNING id_venda";
+
     @Autowired
     private VendaRepository vendaRepository;
 
@@ -31,6 +41,15 @@ public class VendaService extends BaseService<Venda, Long, VendaRequestDTO, Vend
     @Autowired
     private ClienteRepository clienteRepository;
 
+    @Autowired
+    private List<AgregadoVendas> agregadosVendas;
+
+    @Autowired
+    private ContasReceberService contasReceberService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Override
     protected VendaRepository getRepository() {
         return vendaRepository;
@@ -50,7 +69,8 @@ public class VendaService extends BaseService<Venda, Long, VendaRequestDTO, Vend
             venda.getFormaPagamento(),
             venda.getStatusPagamento(),
             venda.getDataVenda(),
-            venda.getDataVencimento()
+            venda.getDataVencimento(),
+            venda.getTicket() != null ? venda.getTicket().getIdTicket() : null
         );
     }
 
@@ -65,21 +85,27 @@ public class VendaService extends BaseService<Venda, Long, VendaRequestDTO, Vend
                     .orElseThrow(() -> new EntidadeNaoEncontradaException("Cliente não encontrado: " + requestDTO.idCliente()));
         }
 
+        return montarVenda(produto, cliente, requestDTO.pesoVendido(), requestDTO.precoKg(),
+                requestDTO.formaPagamento(), requestDTO.statusPagamento());
+    }
+
+    Venda montarVenda(Produto produto, Cliente cliente, Double pesoVendido, Double precoKg,
+                      String formaPagamento, String statusPagamento) {
         Venda venda = new Venda();
         venda.setProduto(produto);
         venda.setCliente(cliente);
-        venda.setPesoVendido(requestDTO.pesoVendido());
+        venda.setPesoVendido(pesoVendido);
         
-        if (requestDTO.precoKg() != null) {
-            venda.setPrecoKg(requestDTO.precoKg());
+        if (precoKg != null) {
+            venda.setPrecoKg(precoKg);
         } else {
             venda.setPrecoKg(produto.getPrecoKg());
         }
         
-        venda.setFormaPagamento(requestDTO.formaPagamento());
-        venda.setStatusPagamento(requestDTO.statusPagamento());
+        venda.setFormaPagamento(formaPagamento);
+        venda.setStatusPagamento(statusPagamento);
         
-        if ("fiado".equals(requestDTO.formaPagamento()) && "pendente".equals(requestDTO.statusPagamento())) {
+        if ("fiado".equals(formaPagamento) && "pendente".equals(statusPagamento)) {
             venda.setDataVencimento(LocalDateTime.now().plusDays(7));
         }
 
@@ -120,54 +146,154 @@ public class VendaService extends BaseService<Venda, Long, VendaRequestDTO, Vend
         venda.calcularTotal();
     }
 
+    @Override
+    protected List<String> getOrdenacoesDisponiveis() {
+        return List.of(ORDENACAO_ID, "dataVenda");
+    }
+
+    @Override
+    protected String getJoinsPagina() {
+        return "JOIN FETCH e.produto LEFT JOIN FETCH e.cliente LEFT JOIN FETCH e.ticket";
+    }
+
     @Override
     protected Long getIdFromEntity(Venda entity) {
         return entity.getIdVenda();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<VendaResponseDTO> listarTodos() {
+        logger.debug("Listando todas as vendas");
+        return vendaRepository.findAllVendaResponse();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<VendaResponseDTO> buscarPorId(Long id) {
+        logger.debug("Buscando venda por ID: {}", id);
+        return vendaRepository.findVendaResponseById(id);
+    }
+
+    @Override
+    @Transactional
+    public VendaResponseDTO criar(VendaRequestDTO requestDTO) {
+        logger.info("Criando nova venda");
+        Venda venda = vendaRepository.save(toEntity(requestDTO));
+        agregadosVendas.forEach(agregado -> agregado.registrar(venda));
+        publicarAlteracao(venda.getIdVenda());
+        logger.info("Venda criada com ID: {}", venda.getIdVenda());
+        return toResponseDTO(venda);
+    }
+
+    @Transactional
+    public VendaResponseDTO criar(VendaRequestDTO requestDTO, Consumer<VendaResponseDTO> aoGravar) {
+        VendaResponseDTO resposta = criar(requestDTO);
+        aoGravar.accept(resposta);
+        return resposta;
+    }
+
+    @Transactional
+    public List<Venda> gravarEmLote(List<Venda> vendas) {
+        if (vendas.isEmpty()) {
+            return vendas;
+        }
+        logger.info("Gravando lote de {} vendas", vendas.size());
+
+        jdbcTemplate.execute(SQL_INSERIR_VENDA, (PreparedStatementCallback<Void>) ps -> {
+            for (Venda venda : vendas) {
+                ps.setObject(1, venda.getCliente() != null ? venda.getCliente().getIdCliente() : null);
+                ps.setLong(2, venda.getProduto().getIdProduto());
+                ps.setDouble(3, venda.getPesoVendido());
+                ps.setDouble(4, venda.getPrecoKg());
+                ps.setDouble(5, venda.getTotal());
+                ps.setString(6, venda.getFormaPagamento());
+                ps.setString(7, venda.getStatusPagamento());
+                ps.setTimestamp(8, Timestamp.valueOf(venda.getDataVenda()));
+                ps.setTimestamp(9, venda.getDataVencimento() != null ? Timestamp.valueOf(venda.getDataVencimento()) : null);
+                ps.setObject(10, venda.getTicket() != null ? venda.getTicket().getIdTicket() : null);
+                try (ResultSet gerado = ps.executeQuery()) {
+                    gerado.next();
+                    venda.setIdVenda(gerado.getLong(1));
+                }
+            }
+            return null;
+        });
+
+        agregadosVendas.forEach(agregado -> agregado.registrarLote(vendas));
+        eventPublisher.publishEvent(new DadosAlteradosEvent(Venda.class,
+                vendas.stream().map(Venda::getIdVenda).toList()));
+        logger.info("Lote de {} vendas gravado", vendas.size());
+        return vendas;
+    }
+
+    @Override
+    @Transactional
+    public Optional<VendaResponseDTO> atualizar(Long id, VendaRequestDTO requestDTO) {
+        logger.info("Atualizando venda com ID: {}", id);
+        return vendaRepository.findById(id)
+                .map(venda -> {
+                    agregadosVendas.forEach(agregado -> agregado.estornar(venda));
+                    updateEntityFromRequest(venda, requestDTO);
+                    Venda vendaAtualizada = vendaRepository.save(venda);
+                    agregadosVendas.forEach(agregado -> agregado.registrar(vendaAtualizada));
+                    publicarAlteracao(id);
+                    logger.info("Venda atualizada com ID: {}", id);
+                    return toResponseDTO(vendaAtualizada);
+                });
+    }
+
+    @Transactional
+    public Optional<VendaResponseDTO> atualizar(Long id, VendaRequestDTO requestDTO, Consumer<VendaResponseDTO> aoGravar) {
+        Optional<VendaResponseDTO> resposta = atualizar(id, requestDTO);
+        resposta.ifPresent(aoGravar);
+        return resposta;
+    }
+
+    @Override
+    @Transactional
+    public boolean deletar(Long id) {
+        logger.info("Deletando venda com ID: {}", id);
+        Optional<Venda> venda = vendaRepository.findById(id);
+        if (venda.isPresent()) {
+            agregadosVendas.forEach(agregado -> agregado.estornar(venda.get()));
+            vendaRepository.delete(venda.get());
+            publicarAlteracao(id);
+            logger.info("Venda deletada com ID: {}", id);
+            return true;
+        }
+        logger.warn("Tentativa de deletar venda não encontrada com ID: {}", id);
+        return false;
+    }
+
     @Transactional(readOnly = true)
     public List<VendaResponseDTO> buscarPorCliente(Long idCliente) {
         logger.debug("Buscando vendas por cliente ID: {}", idCliente);
-        return vendaRepository.findByClienteIdCliente(idCliente)
-                .stream()
-                .map(this::toResponseDTO)
-                .collect(Collectors.toList());
+        return vendaRepository.findByClienteIdCliente(idCliente);
     }
 
     @Transactional(readOnly = true)
     public List<VendaResponseDTO> buscarPorProduto(Long idProduto) {
         logger.debug("Buscando vendas por produto ID: {}", idProduto);
-        return vendaRepository.findByProdutoIdProduto(idProduto)
-                .stream()
-                .map(this::toResponseDTO)
-                .collect(Collectors.toList());
+        return vendaRepository.findByProdutoIdProduto(idProduto);
     }
 
     @Transactional(readOnly = true)
     public List<VendaResponseDTO> buscarPorPeriodo(LocalDateTime inicio, LocalDateTime fim) {
         logger.debug("Buscando vendas por período: {} - {}", inicio, fim);
-        return vendaRepository.findByDataVendaBetween(inicio, fim)
-                .stream()
-                .map(this::toResponseDTO)
-                .collect(Collectors.toList());
+        return vendaRepository.findByDataVendaBetween(inicio, fim);
     }
 
     @Transactional(readOnly = true)
     public List<VendaResponseDTO> buscarPorStatusPagamento(String statusPagamento) {
         logger.debug("Buscando vendas por status de pagamento: {}", statusPagamento);
-        return vendaRepository.findByStatusPagamento(statusPagamento)
-                .stream()
-                .map(this::toResponseDTO)
-                .collect(Collectors.toList());
+        return vendaRepository.findByStatusPagamento(statusPagamento);
     }
 
     @Transactional(readOnly = true)
     public List<VendaResponseDTO> buscarPorFormaPagamento(String formaPagamento) {
         logger.debug("Buscando vendas por forma de pagamento: {}", formaPagamento);
-        return vendaRepository.findByFormaPagamento(formaPagamento)
-                .stream()
-                .map(this::toResponseDTO)
-                .collect(Collectors.toList());
+        return vendaRepository.findByFormaPagamento(formaPagamento);
     }
 
     @Transactional
@@ -179,6 +305,7 @@ public class VendaService extends BaseService<Venda, Long, VendaRequestDTO, Vend
                         throw new ValidacaoException("Status de pagamento inválido: " + novoStatus);
                     }
                     
+                    contasReceberService.estornar(venda);
                     venda.setStatusPagamento(novoStatus);
                     
                     if ("pago".equals(novoStatus) && "fiado".equals(venda.getFormaPagamento())) {
@@ -186,6 +313,8 @@ public class VendaService extends BaseService<Venda, Long, VendaRequestDTO, Vend
                     }
                     
                     Venda vendaAtualizada = vendaRepository.save(venda);
+                    contasReceberService.registrar(vendaAtualizada);
+                    publicarAlteracao(id);
                     logger.info("Status de pagamento atualizado para venda ID: {}", id);
                     return toResponseDTO(vendaAtualizada);
                 });
@@ -0,0 +1,2 @@
+ALTER TABLE vendas 
+ADD FOREIGN KEY (id_ticket) REFERENCES tickets_venda(id_ticket);
\ No newline at end of file
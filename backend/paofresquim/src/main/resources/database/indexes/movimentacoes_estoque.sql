@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS idx_movimentacoes_estoque_data ON movimentacoes_estoque (data_movimentacao);
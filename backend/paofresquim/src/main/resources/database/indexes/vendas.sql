@@ -0,0 +1,7 @@
+CREATE INDEX IF NOT EXISTS idx_vendas_data_venda ON vendas (data_venda, id_venda);
+CREATE INDEX IF NOT EXISTS idx_vendas_data_venda_produto ON vendas (data_venda, id_produto);
+CREATE INDEX IF NOT EXISTS idx_vendas_cliente ON vendas (id_cliente);
+CREATE INDEX IF NOT EXISTS idx_vendas_produto ON vendas (id_produto);
+CREATE INDEX IF NOT EXISTS idx_vendas_status_vencimento ON vendas (status_pagamento, data_vencimento);
+CREATE INDEX IF NOT EXISTS idx_vendas_forma_pagamento ON vendas (forma_pagamento);
+CREATE INDEX IF NOT EXISTS idx_vendas_ticket ON vendas (id_ticket);
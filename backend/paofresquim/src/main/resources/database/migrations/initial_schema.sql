@@ -1,20 +1,68 @@
+-- Execute a partir de src/main/resources/database; os caminhos abaixo são relativos a essa pasta:
+-- sqlite3 paofresquim.db < migrations/initial_schema.sql
+
 .read schemas/clientes.sql
 .read schemas/produtos.sql
 .read schemas/estoque_ingredientes.sql
+.read schemas/tickets_venda.sql
 .read schemas/vendas.sql
 .read constraints/fk_vendas_clientes.sql
 .read constraints/fk_vendas_produtos.sql
+.read constraints/fk_vendas_tickets.sql
 .read schemas/funcionarios.sql
 .read schemas/ferias_funcionarios.sql
 .read schemas/expediente_funcionarios.sql
 .read constraints/fk_ferias_funcionarios.sql
 .read constraints/fk_expediente_funcionarios.sql
+.read schemas/resumo_vendas_produtos.sql
+.read schemas/resumo_vendas_clientes.sql
+.read schemas/resumo_vendas_hora.sql
+.read schemas/resumo_vendas_dia.sql
+.read schemas/chaves_idempotencia.sql
+.read schemas/saldos_receber_clientes.sql
+.read schemas/receitas_produto.sql
+.read schemas/movimentacoes_estoque.sql
+.read schemas/checkpoints_estoque.sql
+.read schemas/previsoes_reposicao.sql
+.read schemas/recebimentos_compra.sql
+.read schemas/itens_recebimento.sql
+.read schemas/lotes_ingrediente.sql
+.read schemas/baixas_lote.sql
+.read schemas/planos_producao.sql
 
 .mode csv
 .import seeding-csv/clientes.csv clientes
 .import seeding-csv/produtos.csv produtos
 .import seeding-csv/estoque_ingredientes.csv estoque_ingredientes
+.import seeding-csv/receitas_produto.csv receitas_produto
 .import seeding-csv/vendas.csv vendas
 .import seeding-csv/funcionarios.csv funcionarios
 .import seeding-csv/ferias_funcionarios.csv ferias_funcionarios
-.import seeding-csv/expediente_funcionarios.csv expediente_funcionarios
\ No newline at end of file
+.import seeding-csv/expediente_funcionarios.csv expediente_funcionarios
+
+UPDATE vendas SET data_venda = CAST(strftime('%s', data_venda, 'utc') AS INTEGER) * 1000
+WHERE typeof(data_venda) = 'text';
+
+UPDATE vendas SET data_vencimento = CAST(strftime('%s', data_vencimento, 'utc') AS INTEGER) * 1000
+WHERE typeof(data_vencimento) = 'text';
+
+UPDATE estoque_ingredientes SET data_atualizacao = CAST(strftime('%s', data_atualizacao, 'utc') AS INTEGER) * 1000
+WHERE typeof(data_atualizacao) = 'text';
+
+.read indexes/vendas.sql
+.read indexes/movimentacoes_estoque.sql
+
+INSERT INTO resumo_vendas_produtos (id_produto, quantidade_vendida, total_vendas, numero_vendas)
+SELECT id_produto, SUM(peso_vendido), SUM(total), COUNT(*) FROM vendas GROUP BY id_produto;
+INSERT INTO resumo_vendas_clientes (id_cliente, total_compras, numero_compras)
+SELECT id_cliente, SUM(total), COUNT(*) FROM vendas WHERE id_cliente IS NOT NULL GROUP BY id_cliente;
+INSERT INTO resumo_vendas_hora (periodo, id_produto, forma_pagamento, quantidade_vendida, total_vendas, numero_vendas)
+SELECT strftime('%Y-%m-%d %H', CASE typeof(data_venda) WHEN 'integer' THEN datetime(data_venda / 1000, 'unixepoch', 'localtime') ELSE data_venda END), id_produto, COALESCE(forma_pagamento, 'dinheiro'), SUM(peso_vendido), SUM(total), COUNT(*)
+FROM vendas WHERE data_venda IS NOT NULL GROUP BY 1, 2, 3;
+INSERT INTO resumo_vendas_dia (periodo, id_produto, forma_pagamento, quantidade_vendida, total_vendas, numero_vendas)
+SELECT strftime('%Y-%m-%d', CASE typeof(data_venda) WHEN 'integer' THEN datetime(data_venda / 1000, 'unixepoch', 'localtime') ELSE data_venda END), id_produto, COALESCE(forma_pagamento, 'dinheiro'), SUM(peso_vendido), SUM(total), COUNT(*)
+FROM vendas WHERE data_venda IS NOT NULL GROUP BY 1, 2, 3;
+INSERT INTO saldos_receber_clientes (id_cliente, saldo_pendente, vendas_pendentes)
+SELECT id_cliente, SUM(total), COUNT(*) FROM vendas WHERE id_cliente IS NOT NULL AND status_pagamento = 'pendente' GROUP BY id_cliente;
+INSERT INTO movimentacoes_estoque (id_ingrediente, tipo, quantidade, observacao, data_movimentacao)
+SELECT id_ingrediente, 'ajuste', quantidade_estoque, 'Saldo inicial', data_atualizacao FROM estoque_ingredientes;
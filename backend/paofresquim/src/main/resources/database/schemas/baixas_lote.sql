@@ -0,0 +1,12 @@
+CREATE TABLE IF NOT EXISTS baixas_lote (
+    id_baixa INTEGER PRIMARY KEY AUTOINCREMENT,
+    id_movimentacao INTEGER NOT NULL,
+    id_venda INTEGER NOT NULL,
+    id_lote INTEGER NOT NULL,
+    quantidade REAL NOT NULL,
+    
+    FOREIGN KEY (id_movimentacao) REFERENCES movimentacoes_estoque(id_movimentacao),
+    FOREIGN KEY (id_lote) REFERENCES lotes_ingrediente(id_lote)
+);
+
+CREATE INDEX IF NOT EXISTS idx_baixas_lote_venda ON baixas_lote (id_venda);
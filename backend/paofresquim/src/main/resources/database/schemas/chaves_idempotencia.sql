@@ -0,0 +1,7 @@
+CREATE TABLE IF NOT EXISTS chaves_idempotencia (
+    chave VARCHAR(255) PRIMARY KEY,
+    operacao TEXT NOT NULL,
+    hash_requisicao VARCHAR(64) NOT NULL,
+    resposta TEXT NOT NULL,
+    criado_em DATETIME NOT NULL
+);
@@ -0,0 +1,9 @@
+CREATE TABLE IF NOT EXISTS checkpoints_estoque (
+    id_checkpoint INTEGER PRIMARY KEY AUTOINCREMENT,
+    id_ingrediente INTEGER NOT NULL,
+    data_checkpoint DATETIME NOT NULL,
+    quantidade_estoque REAL NOT NULL,
+    id_ultima_movimentacao INTEGER NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_checkpoints_estoque_ingrediente_data ON checkpoints_estoque (id_ingrediente, data_checkpoint);
@@ -0,0 +1,13 @@
+CREATE TABLE IF NOT EXISTS itens_recebimento (
+    id_item INTEGER PRIMARY KEY AUTOINCREMENT,
+    id_recebimento INTEGER NOT NULL,
+    id_ingrediente INTEGER NOT NULL,
+    quantidade REAL NOT NULL CHECK (quantidade > 0),
+    custo_unitario REAL NOT NULL CHECK (custo_unitario >= 0),
+    data_validade DATE,
+    
+    FOREIGN KEY (id_recebimento) REFERENCES recebimentos_compra(id_recebimento),
+    FOREIGN KEY (id_ingrediente) REFERENCES estoque_ingredientes(id_ingrediente)
+);
+
+CREATE INDEX IF NOT EXISTS idx_itens_recebimento_recebimento ON itens_recebimento (id_recebimento);
@@ -0,0 +1,16 @@
+CREATE TABLE IF NOT EXISTS lotes_ingrediente (
+    id_lote INTEGER PRIMARY KEY AUTOINCREMENT,
+    id_ingrediente INTEGER NOT NULL,
+    id_recebimento INTEGER,
+    quantidade_recebida REAL NOT NULL,
+    quantidade_restante REAL NOT NULL,
+    data_validade DATE,
+    data_entrada DATETIME NOT NULL,
+    ativo BOOLEAN NOT NULL DEFAULT 1,
+    
+    FOREIGN KEY (id_ingrediente) REFERENCES estoque_ingredientes(id_ingrediente),
+    FOREIGN KEY (id_recebimento) REFERENCES recebimentos_compra(id_recebimento)
+);
+
+CREATE INDEX IF NOT EXISTS idx_lotes_ingrediente_fifo ON lotes_ingrediente (id_ingrediente, ativo, data_validade, id_lote);
+CREATE INDEX IF NOT EXISTS idx_lotes_ingrediente_validade ON lotes_ingrediente (ativo, data_validade);
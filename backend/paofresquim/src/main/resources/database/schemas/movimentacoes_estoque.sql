@@ -0,0 +1,12 @@
+CREATE TABLE IF NOT EXISTS movimentacoes_estoque (
+    id_movimentacao INTEGER PRIMARY KEY AUTOINCREMENT,
+    id_ingrediente INTEGER NOT NULL,
+    tipo TEXT NOT NULL CHECK (tipo IN ('entrada', 'consumo_venda', 'estorno_venda', 'perda', 'ajuste')),
+    quantidade REAL NOT NULL,
+    id_venda INTEGER,
+    observacao TEXT,
+    data_movimentacao DATETIME NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_movimentacoes_estoque_ingrediente ON movimentacoes_estoque (id_ingrediente, id_movimentacao);
+CREATE INDEX IF NOT EXISTS idx_movimentacoes_estoque_venda ON movimentacoes_estoque (id_venda);
@@ -0,0 +1,14 @@
+CREATE TABLE IF NOT EXISTS planos_producao (
+    data_plano TEXT NOT NULL,
+    id_produto INTEGER NOT NULL,
+    turno TEXT NOT NULL,
+    demanda_prevista REAL NOT NULL,
+    quantidade_planejada REAL NOT NULL,
+    fator_atendimento REAL NOT NULL,
+    id_ingrediente_limitante INTEGER,
+    calculado_em DATETIME NOT NULL,
+    
+    PRIMARY KEY (data_plano, id_produto, turno),
+    FOREIGN KEY (id_produto) REFERENCES produtos(id_produto),
+    FOREIGN KEY (id_ingrediente_limitante) REFERENCES estoque_ingredientes(id_ingrediente)
+);
@@ -0,0 +1,11 @@
+CREATE TABLE IF NOT EXISTS previsoes_reposicao (
+    id_ingrediente INTEGER PRIMARY KEY,
+    estoque_atual REAL NOT NULL,
+    consumo_medio_diario REAL NOT NULL,
+    dias_ate_ruptura REAL,
+    quantidade_sugerida REAL NOT NULL,
+    repor_agora BOOLEAN NOT NULL,
+    calculado_em DATETIME NOT NULL,
+    
+    FOREIGN KEY (id_ingrediente) REFERENCES estoque_ingredientes(id_ingrediente)
+);
@@ -0,0 +1,9 @@
+CREATE TABLE IF NOT EXISTS recebimentos_compra (
+    id_recebimento INTEGER PRIMARY KEY AUTOINCREMENT,
+    fornecedor TEXT NOT NULL,
+    numero_nota TEXT,
+    valor_total REAL NOT NULL,
+    data_recebimento DATETIME NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_recebimentos_compra_nota ON recebimentos_compra (fornecedor, numero_nota);
@@ -0,0 +1,11 @@
+CREATE TABLE IF NOT EXISTS receitas_produto (
+    id_produto INTEGER NOT NULL,
+    id_ingrediente INTEGER NOT NULL,
+    quantidade_por_kg REAL NOT NULL CHECK (quantidade_por_kg > 0),
+    
+    PRIMARY KEY (id_produto, id_ingrediente),
+    FOREIGN KEY (id_produto) REFERENCES produtos(id_produto),
+    FOREIGN KEY (id_ingrediente) REFERENCES estoque_ingredientes(id_ingrediente)
+);
+
+CREATE INDEX IF NOT EXISTS idx_receitas_produto_ingrediente ON receitas_produto (id_ingrediente);
@@ -0,0 +1,9 @@
+CREATE TABLE IF NOT EXISTS resumo_vendas_clientes (
+    id_cliente INTEGER PRIMARY KEY,
+    total_compras REAL NOT NULL DEFAULT 0,
+    numero_compras INTEGER NOT NULL DEFAULT 0,
+    
+    FOREIGN KEY (id_cliente) REFERENCES clientes(id_cliente)
+);
+
+CREATE INDEX IF NOT EXISTS idx_resumo_vendas_clientes_total ON resumo_vendas_clientes (total_compras);
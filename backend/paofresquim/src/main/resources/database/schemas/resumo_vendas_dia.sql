@@ -0,0 +1,11 @@
+CREATE TABLE IF NOT EXISTS resumo_vendas_dia (
+    periodo TEXT NOT NULL,
+    id_produto INTEGER NOT NULL,
+    forma_pagamento TEXT NOT NULL,
+    quantidade_vendida REAL NOT NULL DEFAULT 0,
+    total_vendas REAL NOT NULL DEFAULT 0,
+    numero_vendas INTEGER NOT NULL DEFAULT 0,
+    
+    PRIMARY KEY (periodo, id_produto, forma_pagamento),
+    FOREIGN KEY (id_produto) REFERENCES produtos(id_produto)
+);
@@ -0,0 +1,10 @@
+CREATE TABLE IF NOT EXISTS resumo_vendas_produtos (
+    id_produto INTEGER PRIMARY KEY,
+    quantidade_vendida REAL NOT NULL DEFAULT 0,
+    total_vendas REAL NOT NULL DEFAULT 0,
+    numero_vendas INTEGER NOT NULL DEFAULT 0,
+    
+    FOREIGN KEY (id_produto) REFERENCES produtos(id_produto)
+);
+
+CREATE INDEX IF NOT EXISTS idx_resumo_vendas_produtos_total ON resumo_vendas_produtos (total_vendas);
@@ -0,0 +1,9 @@
+CREATE TABLE IF NOT EXISTS saldos_receber_clientes (
+    id_cliente INTEGER PRIMARY KEY,
+    saldo_pendente REAL NOT NULL DEFAULT 0,
+    vendas_pendentes INTEGER NOT NULL DEFAULT 0,
+    
+    FOREIGN KEY (id_cliente) REFERENCES clientes(id_cliente)
+);
+
+CREATE INDEX IF NOT EXISTS idx_saldos_receber_clientes_saldo ON saldos_receber_clientes (saldo_pendente);
@@ -0,0 +1,9 @@
+CREATE TABLE IF NOT EXISTS tickets_venda (
+    id_ticket INTEGER PRIMARY KEY AUTOINCREMENT,
+    id_cliente INTEGER,
+    forma_pagamento TEXT CHECK(forma_pagamento IN ('dinheiro', 'cartao', 'pix', 'fiado')) DEFAULT 'dinheiro',
+    status_pagamento TEXT CHECK(status_pagamento IN ('pago', 'pendente')) DEFAULT 'pago',
+    data_venda DATETIME DEFAULT CURRENT_TIMESTAMP,
+    
+    FOREIGN KEY (id_cliente) REFERENCES clientes(id_cliente)
+);
@@ -8,5 +8,6 @@ CREATE TABLE IF NOT EXISTS vendas (
     forma_pagamento TEXT CHECK(forma_pagamento IN ('dinheiro', 'cartao', 'pix', 'fiado')) DEFAULT 'dinheiro',
     status_pagamento TEXT CHECK(status_pagamento IN ('pago', 'pendente')) DEFAULT 'pago',
     data_venda DATETIME DEFAULT CURRENT_TIMESTAMP,
-    data_vencimento DATE
-);
\ No newline at end of file
+    data_vencimento DATE,
+    id_ticket INTEGER
+);
@@ -0,0 +1,64 @@
+package com.paofresquim.benchmark;
+
+import com.paofresquim.service.AgregadoVendas;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+
+public final class VendasSinteticas {
+
+    private static final Logger logger = LoggerFactory.getLogger(VendasSinteticas.class);
+
+    private static final int TAMANHO_LOTE = 10_000;
+
+    private VendasSinteticas() {}
+
+    public static void popular(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                               Collection<? extends AgregadoVendas> agregadosVendas, int totalVendas) {
+        Integer existentes = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM vendas", Integer.class);
+        int faltantes = totalVendas - (existentes != null ? existentes : 0);
+        if (faltantes <= 0) {
+            return;
+        }
+
+        logger.info("Gerando {} vendas sintéticas para o benchmark", faltantes);
+        String[] formas = {"dinheiro", "cartao", "pix", "fiado"};
+        Random random = new Random(42);
+        LocalDateTime agora = LocalDateTime.now();
+        TransactionTemplate transacao = new TransactionTemplate(transactionManager);
+
+        for (int inicio = 0; inicio < faltantes; inicio += TAMANHO_LOTE) {
+            int tamanho = Math.min(TAMANHO_LOTE, faltantes - inicio);
+            List<Object[]> lote = new ArrayList<>(tamanho);
+            for (int i = 0; i < tamanho; i++) {
+                double peso = 0.1 + random.nextInt(30) / 10.0;
+                double precoKg = 10.0 + random.nextInt(60);
+                String forma = formas[random.nextInt(formas.length)];
+                lote.add(new Object[] {
+                    random.nextInt(10) == 0 ? null : 1 + random.nextInt(10),
+                    1 + random.nextInt(15),
+                    peso,
+                    precoKg,
+                    peso * precoKg,
+                    forma,
+                    "fiado".equals(forma) && random.nextBoolean() ? "pendente" : "pago",
+                    Timestamp.valueOf(agora.minusMinutes(random.nextInt(365 * 24 * 60)))
+                });
+            }
+            transacao.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                "INSERT INTO vendas (id_cliente, id_produto, peso_vendido, preco_kg, total, " +
+                "forma_pagamento, status_pagamento, data_venda) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", lote));
+        }
+
+        agregadosVendas.forEach(AgregadoVendas::reconstruir);
+    }
+}
@@ -0,0 +1,120 @@
+package com.paofresquim.config;
+
+import com.paofresquim.dto.VendaRequestDTO;
+import com.paofresquim.service.VendaService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:sqlite:target/teste-producao.db")
+@ActiveProfiles("producao")
+class DataSourceConfigTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataSourceConfigTest.class);
+
+    private static final int LEITORES = 4;
+    private static final long DURACAO_LEITURA_MS = 2_000;
+    private static final int GRAVACOES = 20;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private VendaService vendaService;
+
+    @Autowired
+    @Qualifier("dataSourceEscrita")
+    private HikariDataSource dataSourceEscrita;
+
+    @Autowired
+    @Qualifier("dataSourceLeitura")
+    private HikariDataSource dataSourceLeitura;
+
+    @Test
+    void aplicaPragmasDeProducao() {
+        assertEquals("wal", jdbcTemplate.queryForObject("PRAGMA journal_mode", String.class));
+        assertEquals(1, jdbcTemplate.queryForObject("PRAGMA synchronous", Integer.class));
+        assertEquals(5000, jdbcTemplate.queryForObject("PRAGMA busy_timeout", Integer.class));
+        assertEquals(-16384, jdbcTemplate.queryForObject("PRAGMA cache_size", Integer.class));
+    }
+
+    @Test
+    void roteiaTransacoesPeloFlagReadOnly() {
+        TransactionTemplate leitura = new TransactionTemplate(transactionManager);
+        leitura.setReadOnly(true);
+        leitura.executeWithoutResult(status -> {
+            jdbcTemplate.queryForObject("SELECT COUNT(*) FROM vendas", Integer.class);
+            assertEquals(1, dataSourceLeitura.getHikariPoolMXBean().getActiveConnections());
+            assertEquals(0, dataSourceEscrita.getHikariPoolMXBean().getActiveConnections());
+        });
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            jdbcTemplate.queryForObject("SELECT COUNT(*) FROM vendas", Integer.class);
+            assertEquals(0, dataSourceLeitura.getHikariPoolMXBean().getActiveConnections());
+            assertEquals(1, dataSourceEscrita.getHikariPoolMXBean().getActiveConnections());
+        });
+    }
+
+    @Test
+    void leiturasLongasNaoBloqueiamGravacoes() throws Exception {
+        vendaService.criar(new VendaRequestDTO(1L, null, 1.0, null, "pix", "pago"));
+
+        TransactionTemplate leitura = new TransactionTemplate(transactionManager);
+        leitura.setReadOnly(true);
+        CountDownLatch leitoresAtivos = new CountDownLatch(LEITORES);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(LEITORES)) {
+            List<Future<?>> leitores = new ArrayList<>();
+            for (int i = 0; i < LEITORES; i++) {
+                leitores.add(executor.submit(() -> leitura.executeWithoutResult(status -> {
+                    jdbcTemplate.queryForObject("SELECT COUNT(*) FROM vendas", Integer.class);
+                    leitoresAtivos.countDown();
+                    try {
+                        Thread.sleep(DURACAO_LEITURA_MS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                })));
+            }
+            assertTrue(leitoresAtivos.await(10, TimeUnit.SECONDS));
+
+            long maiorLatencia = 0;
+            for (int i = 0; i < GRAVACOES; i++) {
+                long inicio = System.nanoTime();
+                vendaService.criar(new VendaRequestDTO(1 + (long) (i % 15), null, 1.0, null, "pix", "pago"));
+                maiorLatencia = Math.max(maiorLatencia, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio));
+            }
+
+            logger.info("{} gravações com {} leitores abertos - maior latência: {} ms", GRAVACOES, LEITORES, maiorLatencia);
+            assertFalse(leitores.stream().allMatch(Future::isDone), "As leituras terminaram antes das gravações");
+            assertTrue(maiorLatencia < DURACAO_LEITURA_MS / 4,
+                    "Gravação esperou " + maiorLatencia + " ms por leitores abertos");
+            for (Future<?> leitor : leitores) {
+                leitor.get();
+            }
+        }
+    }
+}
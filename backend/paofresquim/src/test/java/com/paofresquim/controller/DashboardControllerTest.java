@@ -0,0 +1,145 @@
+package com.paofresquim.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paofresquim.benchmark.VendasSinteticas;
+import com.paofresquim.dto.SecaoDashboard;
+import com.paofresquim.service.AgregadoVendas;
+import com.paofresquim.service.DashboardCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:sqlite:target/teste-dashboard-controller.db")
+@AutoConfigureMockMvc
+class DashboardControllerTest {
+
+    private static final int VENDAS_SINTETICAS = 2_000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private List<AgregadoVendas> agregadosVendas;
+
+    @Autowired
+    private DashboardCache dashboardCache;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void popularVendas() {
+        Integer existentes = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM vendas", Integer.class);
+        if (existentes < VENDAS_SINTETICAS) {
+            VendasSinteticas.popular(jdbcTemplate, transactionManager, agregadosVendas, existentes + VENDAS_SINTETICAS);
+        }
+        dashboardCache.invalidarTudo();
+    }
+
+    @Test
+    void secoesPedidasSaoAsUnicasCalculadasEDevolvidas() throws Exception {
+        Set<SecaoDashboard> pedidas = EnumSet.of(SecaoDashboard.CLIENTES_TOP, SecaoDashboard.PENDENCIAS);
+
+        JsonNode dashboard = obter("/api/dashboard?sections=clientesTop,pendencias");
+
+        for (SecaoDashboard secao : SecaoDashboard.values()) {
+            if (pedidas.contains(secao)) {
+                assertTrue(dashboard.hasNonNull(secao.getCodigo()), "Seção pedida ausente: " + secao);
+                assertNotNull(dashboardCache.obter(secao), "Seção pedida não calculada: " + secao);
+            } else {
+                assertFalse(dashboard.hasNonNull(secao.getCodigo()), "Seção não pedida devolvida: " + secao);
+                assertNull(dashboardCache.obter(secao), "Seção não pedida calculada: " + secao);
+            }
+        }
+    }
+
+    @Test
+    void secaoDesconhecidaDevolve400() throws Exception {
+        mockMvc.perform(get("/api/dashboard?sections=pendencias,vendasAmanha")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void pendenciasRankeiamSoClientesIdentificadosESeparamVendasSemCliente() throws Exception {
+        JsonNode pendencias = obter("/api/dashboard/pendencias");
+
+        assertEquals(jdbcTemplate.queryForObject(
+                "SELECT SUM(total) FROM vendas WHERE status_pagamento = 'pendente'", Double.class),
+                pendencias.get("totalPendencias").asDouble(), 1e-6);
+        assertEquals(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM vendas WHERE status_pagamento = 'pendente'", Long.class),
+                pendencias.get("vendasPendentes").asLong());
+
+        long vendasSemCliente = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM vendas WHERE status_pagamento = 'pendente' AND id_cliente IS NULL", Long.class);
+        assertTrue(vendasSemCliente > 0);
+        assertEquals(vendasSemCliente, pendencias.get("vendasSemCliente").asLong());
+        assertEquals(jdbcTemplate.queryForObject(
+                "SELECT SUM(total) FROM vendas WHERE status_pagamento = 'pendente' AND id_cliente IS NULL", Double.class),
+                pendencias.get("totalSemCliente").asDouble(), 1e-6);
+
+        assertEquals(jdbcTemplate.queryForList(
+                "SELECT id_cliente FROM vendas WHERE status_pagamento = 'pendente' AND id_cliente IS NOT NULL " +
+                "GROUP BY id_cliente ORDER BY SUM(total) DESC LIMIT 10", Long.class),
+                ids(pendencias.get("clientesInadimplentes"), "idCliente"));
+    }
+
+    @Test
+    void resumoLimitaProdutosEDevedores() throws Exception {
+        JsonNode resumo = obter("/api/dashboard/resumo");
+        JsonNode pendencias = obter("/api/dashboard/pendencias");
+
+        JsonNode produtos = resumo.get("produtosMaisVendidos");
+        assertEquals(3, produtos.size());
+        List<Long> maioresContagens = jdbcTemplate.queryForList(
+                "SELECT COUNT(*) FROM vendas GROUP BY id_produto ORDER BY COUNT(*) DESC LIMIT 3", Long.class);
+        for (int i = 0; i < produtos.size(); i++) {
+            assertEquals(maioresContagens.get(i), produtos.get(i).get("numeroVendas").asLong());
+        }
+
+        JsonNode devedores = resumo.get("pendencias").get("clientesInadimplentes");
+        assertEquals(4, devedores.size());
+        assertEquals(ids(pendencias.get("clientesInadimplentes"), "idCliente").subList(0, 4),
+                ids(devedores, "idCliente"));
+        assertEquals(pendencias.get("totalSemCliente").asDouble(),
+                resumo.get("pendencias").get("totalSemCliente").asDouble(), 1e-9);
+        assertEquals(pendencias.get("vendasSemCliente").asLong(),
+                resumo.get("pendencias").get("vendasSemCliente").asLong());
+    }
+
+    private List<Long> ids(JsonNode itens, String campo) {
+        List<Long> ids = new ArrayList<>();
+        itens.forEach(item -> ids.add(item.get(campo).asLong()));
+        return ids;
+    }
+
+    private JsonNode obter(String endereco) throws Exception {
+        return objectMapper.readTree(mockMvc.perform(get(endereco))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+    }
+}
@@ -0,0 +1,153 @@
+package com.paofresquim.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paofresquim.dto.VendaRequestDTO;
+import com.paofresquim.entity.ChaveIdempotencia;
+import com.paofresquim.service.IdempotenciaService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:sqlite:target/teste-idempotencia-vendas.db")
+@AutoConfigureMockMvc
+class IdempotenciaVendaControllerTest {
+
+    private static final VendaRequestDTO VENDA = new VendaRequestDTO(2L, 1L, 1.5, null, "pix", "pago");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private IdempotenciaService idempotenciaService;
+
+    @Test
+    void mesmaChaveDevolveAMesmaVendaSemGravarDeNovo() throws Exception {
+        String chave = UUID.randomUUID().toString();
+        long ultimaVenda = ultimaVenda();
+
+        long primeira = idVenda(criar(chave, VENDA).andExpect(status().isCreated()));
+        long repetida = idVenda(criar(chave, VENDA).andExpect(status().isCreated()));
+        cache().clear();
+        long aposLimparCache = idVenda(criar(chave, VENDA).andExpect(status().isCreated()));
+
+        assertEquals(primeira, repetida);
+        assertEquals(primeira, aposLimparCache);
+        assertEquals(1, vendasDepoisDe(ultimaVenda));
+        assertEquals(primeira, objectMapper.readTree(jdbcTemplate.queryForObject(
+                "SELECT resposta FROM chaves_idempotencia WHERE chave = ?", String.class, chave)).get("idVenda").asLong());
+    }
+
+    @Test
+    void mesmaChaveComOutraRequisicaoDevolve409() throws Exception {
+        String chave = UUID.randomUUID().toString();
+        long idVenda = idVenda(criar(chave, VENDA).andExpect(status().isCreated()));
+        long ultimaVenda = ultimaVenda();
+
+        criar(chave, new VendaRequestDTO(2L, 1L, 3.0, null, "pix", "pago")).andExpect(status().isConflict());
+        mockMvc.perform(put("/api/vendas/" + idVenda)
+                        .header("Idempotency-Key", chave)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(VENDA)))
+                .andExpect(status().isConflict());
+
+        assertEquals(0, vendasDepoisDe(ultimaVenda));
+        assertEquals(1.5, jdbcTemplate.queryForObject(
+                "SELECT peso_vendido FROM vendas WHERE id_venda = ?", Double.class, idVenda), 1e-9);
+    }
+
+    @Test
+    void retentativasConcorrentesGravamUmaUnicaVenda() throws Exception {
+        String chave = UUID.randomUUID().toString();
+        long ultimaVenda = ultimaVenda();
+        List<Future<Long>> resultados = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(16)) {
+            for (int i = 0; i < 16; i++) {
+                resultados.add(executor.submit(() -> idVenda(criar(chave, VENDA).andExpect(status().isCreated()))));
+            }
+        }
+
+        long idVenda = resultados.get(0).get();
+        for (Future<Long> resultado : resultados) {
+            assertEquals(idVenda, resultado.get());
+        }
+        assertEquals(1, vendasDepoisDe(ultimaVenda));
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM chaves_idempotencia WHERE chave = ?", Integer.class, chave));
+    }
+
+    @Test
+    void limpezaRemoveChavesExpiradasDoBancoEDoCache() throws Exception {
+        String expirada = UUID.randomUUID().toString();
+        String recente = UUID.randomUUID().toString();
+        long idExpirada = idVenda(criar(expirada, VENDA).andExpect(status().isCreated()));
+        criar(recente, VENDA).andExpect(status().isCreated());
+        LocalDateTime vencimento = LocalDateTime.now().minusHours(25);
+        jdbcTemplate.update("UPDATE chaves_idempotencia SET criado_em = ? WHERE chave = ?",
+                Timestamp.valueOf(vencimento), expirada);
+        cache().get(expirada).setCriadoEm(vencimento);
+
+        idempotenciaService.removerExpiradas();
+
+        assertFalse(cache().containsKey(expirada));
+        assertEquals(List.of(recente), jdbcTemplate.queryForList(
+                "SELECT chave FROM chaves_idempotencia WHERE chave IN (?, ?)", String.class, expirada, recente));
+        long novaVenda = idVenda(criar(expirada, new VendaRequestDTO(2L, 1L, 3.0, null, "pix", "pago"))
+                .andExpect(status().isCreated()));
+        assertNotEquals(idExpirada, novaVenda);
+    }
+
+    private ResultActions criar(String chave, VendaRequestDTO venda) throws Exception {
+        return mockMvc.perform(post("/api/vendas")
+                .header("Idempotency-Key", chave)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(venda)));
+    }
+
+    private long idVenda(ResultActions resultado) throws Exception {
+        JsonNode venda = objectMapper.readTree(resultado.andReturn().getResponse().getContentAsString());
+        return venda.get("idVenda").asLong();
+    }
+
+    private long ultimaVenda() {
+        return jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id_venda), 0) FROM vendas", Long.class);
+    }
+
+    private int vendasDepoisDe(long idVenda) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM vendas WHERE id_venda > ?", Integer.class, idVenda);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, ChaveIdempotencia> cache() {
+        return (Map<String, ChaveIdempotencia>) ReflectionTestUtils.getField(idempotenciaService, "cache");
+    }
+}
@@ -0,0 +1,114 @@
+package com.paofresquim.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:sqlite:target/teste-paginacao.db")
+@AutoConfigureMockMvc
+class PaginacaoControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void listagemSemParametrosDevolveTodosOsRegistros() throws Exception {
+        inserirClientes(60);
+
+        JsonNode clientes = obter("/api/clientes");
+
+        assertTrue(clientes.isArray());
+        assertEquals(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM clientes", Integer.class), clientes.size());
+
+        JsonNode vendas = obter("/api/vendas");
+        assertTrue(vendas.isArray());
+        assertEquals(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM vendas", Integer.class), vendas.size());
+    }
+
+    @Test
+    void cursorSemTamanhoDevolvePaginaDeTamanhoPadrao() throws Exception {
+        inserirClientes(70);
+
+        JsonNode primeira = obter("/api/clientes?tamanho=10");
+        JsonNode pagina = obter("/api/clientes?cursor=" + primeira.get("proximoCursor").asText());
+
+        assertEquals(50, pagina.get("tamanho").asInt());
+        assertEquals(50, pagina.get("itens").size());
+        assertTrue(pagina.hasNonNull("proximoCursor"));
+    }
+
+    @Test
+    void cursorPercorreVendasComDatasNulasEEmpatadas() throws Exception {
+        LocalDateTime base = LocalDateTime.of(2002, 5, 20, 8, 0);
+        for (int i = 0; i < 13; i++) {
+            Timestamp data = i % 4 == 0 ? null : Timestamp.valueOf(base.plusHours(i % 3));
+            jdbcTemplate.update("INSERT INTO vendas (id_produto, peso_vendido, preco_kg, total, forma_pagamento, " +
+                    "status_pagamento, data_venda) VALUES (1, 1.0, 10.0, 10.0, 'dinheiro', 'pago', ?)", data);
+        }
+
+        assertEquals(jdbcTemplate.queryForList(
+                "SELECT id_venda FROM vendas ORDER BY data_venda ASC NULLS FIRST, id_venda ASC", Long.class),
+                percorrer("/api/vendas?tamanho=4&ordenacao=dataVenda&direcao=asc"));
+        assertEquals(jdbcTemplate.queryForList(
+                "SELECT id_venda FROM vendas ORDER BY data_venda DESC NULLS LAST, id_venda DESC", Long.class),
+                percorrer("/api/vendas?tamanho=4&ordenacao=dataVenda&direcao=desc"));
+    }
+
+    @Test
+    void parametrosDePaginacaoInvalidosDevolvem400() throws Exception {
+        mockMvc.perform(get("/api/produtos?tamanho=501")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/produtos?tamanho=0")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/produtos?cursor=nao-e-um-cursor")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/produtos?tamanho=10&ordenacao=precoKg")).andExpect(status().isBadRequest());
+    }
+
+    private void inserirClientes(int quantidade) {
+        for (int i = 0; i < quantidade; i++) {
+            jdbcTemplate.update("INSERT INTO clientes (nome, data_cadastro) VALUES (?, ?)",
+                    "Cliente " + UUID.randomUUID(), Timestamp.valueOf(LocalDateTime.now()));
+        }
+    }
+
+    private List<Long> percorrer(String endereco) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        JsonNode pagina = obter(endereco);
+        while (true) {
+            pagina.get("itens").forEach(item -> ids.add(item.get("idVenda").asLong()));
+            if (pagina.get("proximoCursor").isNull()) {
+                return ids;
+            }
+            String cursor = pagina.get("proximoCursor").asText();
+            assertNotNull(cursor);
+            pagina = obter(endereco + "&cursor=" + cursor);
+        }
+    }
+
+    private JsonNode obter(String endereco) throws Exception {
+        return objectMapper.readTree(mockMvc.perform(get(endereco))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+    }
+}
@@ -0,0 +1,115 @@
+package com.paofresquim.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paofresquim.dto.ItemTicketRequestDTO;
+import com.paofresquim.dto.TicketVendaRequestDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:sqlite:target/teste-tickets-venda.db")
+@AutoConfigureMockMvc
+class TicketVendaControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void criaTicketComIdsDeVendaDeCadaItem() throws Exception {
+        TicketVendaRequestDTO requisicao = new TicketVendaRequestDTO(2L, "pix", "pago", List.of(
+                new ItemTicketRequestDTO(3L, 1.25, null),
+                new ItemTicketRequestDTO(1L, 0.5, 20.0),
+                new ItemTicketRequestDTO(3L, 2.0, null)));
+
+        JsonNode criado = objectMapper.readTree(mockMvc.perform(post("/api/vendas/tickets")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requisicao)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString());
+
+        long idTicket = criado.get("idTicket").asLong();
+        JsonNode itens = criado.get("itens");
+        assertEquals(3, itens.size());
+        double total = 0.0;
+        for (int i = 0; i < itens.size(); i++) {
+            JsonNode item = itens.get(i);
+            Map<String, Object> gravada = jdbcTemplate.queryForMap(
+                    "SELECT id_produto, id_cliente, peso_vendido, total, id_ticket FROM vendas WHERE id_venda = ?",
+                    item.get("idVenda").asLong());
+            assertEquals(requisicao.itens().get(i).idProduto(), ((Number) gravada.get("id_produto")).longValue());
+            assertEquals(requisicao.itens().get(i).pesoVendido(), ((Number) gravada.get("peso_vendido")).doubleValue(), 1e-9);
+            assertEquals(2L, ((Number) gravada.get("id_cliente")).longValue());
+            assertEquals(idTicket, ((Number) gravada.get("id_ticket")).longValue());
+            assertEquals(item.get("total").asDouble(), ((Number) gravada.get("total")).doubleValue(), 1e-9);
+            total += item.get("total").asDouble();
+        }
+        assertEquals(10.0, itens.get(1).get("total").asDouble(), 1e-9);
+        assertEquals(total, criado.get("total").asDouble(), 1e-9);
+
+        JsonNode buscado = objectMapper.readTree(mockMvc.perform(get("/api/vendas/tickets/{id}", idTicket))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+        assertEquals(3, buscado.get("itens").size());
+        for (int i = 0; i < itens.size(); i++) {
+            assertEquals(itens.get(i).get("idVenda"), buscado.get("itens").get(i).get("idVenda"));
+            assertEquals(itens.get(i).get("idProduto"), buscado.get("itens").get(i).get("idProduto"));
+            assertEquals(itens.get(i).get("total"), buscado.get("itens").get(i).get("total"));
+        }
+        assertEquals(total, buscado.get("total").asDouble(), 1e-9);
+    }
+
+    @Test
+    void ticketComProdutoInexistenteNaoGravaNada() throws Exception {
+        long tickets = contar("tickets_venda");
+        long vendas = contar("vendas");
+
+        TicketVendaRequestDTO requisicao = new TicketVendaRequestDTO(null, "dinheiro", "pago", List.of(
+                new ItemTicketRequestDTO(1L, 1.0, null),
+                new ItemTicketRequestDTO(999_999L, 1.0, null)));
+        mockMvc.perform(post("/api/vendas/tickets")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requisicao)))
+                .andExpect(status().isNotFound());
+
+        assertEquals(tickets, contar("tickets_venda"));
+        assertEquals(vendas, contar("vendas"));
+    }
+
+    @Test
+    void rejeitaTicketInvalido() throws Exception {
+        mockMvc.perform(post("/api/vendas/tickets")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TicketVendaRequestDTO(null, "cheque", "pago",
+                                List.of(new ItemTicketRequestDTO(1L, 1.0, null))))))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/vendas/tickets")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TicketVendaRequestDTO(null, "pix", "pago", List.of()))))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/vendas/tickets/{id}", 999_999L))
+                .andExpect(status().isNotFound());
+    }
+
+    private long contar(String tabela) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + tabela, Long.class);
+    }
+}
@@ -0,0 +1,104 @@
+package com.paofresquim.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:sqlite:target/teste-indices-vendas.db",
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+        "com.paofresquim.repository.VendaRepositoryIndicesTest$CapturaConsulta"
+})
+class VendaRepositoryIndicesTest {
+
+    private static final Pattern ALIAS_VENDAS = Pattern.compile("\\bvendas\\s+(\\w+)");
+
+    public static class CapturaConsulta implements StatementInspector {
+
+        static volatile String ultimaConsulta;
+
+        @Override
+        public String inspect(String sql) {
+            ultimaConsulta = sql;
+            return sql;
+        }
+    }
+
+    @Autowired
+    private VendaRepository vendaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void findByClienteIdClienteUsaIndice() {
+        assertUsaIndice(() -> vendaRepository.findByClienteIdCliente(1L));
+    }
+
+    @Test
+    void findByProdutoIdProdutoUsaIndice() {
+        assertUsaIndice(() -> vendaRepository.findByProdutoIdProduto(1L));
+    }
+
+    @Test
+    void findByDataVendaBetweenUsaIndice() {
+        LocalDateTime agora = LocalDateTime.now();
+        assertUsaIndice(() -> vendaRepository.findByDataVendaBetween(agora.minusDays(7), agora));
+    }
+
+    @Test
+    void findByStatusPagamentoUsaIndice() {
+        assertUsaIndice(() -> vendaRepository.findByStatusPagamento("pendente"));
+    }
+
+    @Test
+    void findByFormaPagamentoUsaIndice() {
+        assertUsaIndice(() -> vendaRepository.findByFormaPagamento("fiado"));
+    }
+
+    @Test
+    void findByTicketIdTicketUsaIndice() {
+        assertUsaIndice(() -> vendaRepository.findByTicketIdTicket(1L));
+    }
+
+    @Test
+    void somarTotalPorStatusUsaIndice() {
+        assertUsaIndice(() -> vendaRepository.somarTotalPorStatus(List.of("pendente")));
+    }
+
+    private void assertUsaIndice(Runnable finder) {
+        CapturaConsulta.ultimaConsulta = null;
+        finder.run();
+        String sql = CapturaConsulta.ultimaConsulta;
+        assertNotNull(sql, "Nenhuma consulta capturada");
+
+        List<String> plano = jdbcTemplate.queryForList("EXPLAIN QUERY PLAN " + sql).stream()
+                .map(linha -> String.valueOf(linha.get("detail")))
+                .collect(Collectors.toList());
+        String tabelaVendas = aliasVendas(sql);
+
+        assertFalse(plano.stream().anyMatch(detalhe -> detalhe.equals("SCAN " + tabelaVendas)),
+                "Varredura completa de vendas: " + plano);
+        assertTrue(plano.stream().anyMatch(detalhe -> detalhe.contains(tabelaVendas + " USING")
+                        && detalhe.contains("INDEX")),
+                "Nenhum índice de vendas utilizado: " + plano);
+    }
+
+    private String aliasVendas(String sql) {
+        Matcher matcher = ALIAS_VENDAS.matcher(sql);
+        assertTrue(matcher.find(), "Consulta sem tabela vendas: " + sql);
+        return matcher.group(1);
+    }
+}
@@ -0,0 +1,113 @@
+package com.paofresquim.service;
+
+import com.paofresquim.dto.EstoqueIngredienteResponseDTO;
+import com.paofresquim.entity.EstoqueIngrediente;
+import com.paofresquim.event.DadosAlteradosEvent;
+import com.paofresquim.repository.EstoqueIngredienteRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:sqlite:target/teste-alertas-reposicao.db")
+class AlertasReposicaoServiceTest {
+
+    private static final long FARINHA = 1L;
+    private static final double FARINHA_MINIMO = 25.0;
+
+    @Autowired
+    private AlertasReposicaoService alertasReposicaoService;
+
+    @Autowired
+    private MovimentacaoEstoqueService movimentacaoEstoqueService;
+
+    @Autowired
+    private EstoqueIngredienteRepository estoqueIngredienteRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void alteracaoConfirmadaDepoisNaoEDesfeitaPorSituacaoAnterior() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public int getOrder() {
+                        return Ordered.HIGHEST_PRECEDENCE;
+                    }
+
+                    @Override
+                    public void afterCommit() {
+                        try {
+                            executor.submit(() -> movimentacaoEstoqueService.ajustarPara(FARINHA, FARINHA_MINIMO * 2, "Teste de alertas")).get();
+                        } catch (Exception e) {
+                            throw new IllegalStateException(e);
+                        }
+                    }
+                });
+                movimentacaoEstoqueService.ajustarPara(FARINHA, FARINHA_MINIMO / 2, "Teste de alertas");
+            });
+        } finally {
+            executor.shutdown();
+        }
+
+        assertFalse(alertasReposicaoService.listar().stream().anyMatch(alerta -> alerta.idIngrediente() == FARINHA));
+    }
+
+    @Test
+    void atualizacoesConcorrentesTerminamIguaisAoBanco() throws Exception {
+        List<Long> ids = List.of(1L, 2L, 3L);
+        Object escrita = new Object();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> tarefas = new ArrayList<>();
+            for (int i = 0; i < 400; i++) {
+                tarefas.add(executor.submit(() -> {
+                    ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+                    Long idIngrediente = ids.get(aleatorio.nextInt(ids.size()));
+                    synchronized (escrita) {
+                        jdbcTemplate.update("UPDATE estoque_ingredientes SET quantidade_estoque = ? WHERE id_ingrediente = ?",
+                                (double) aleatorio.nextInt(60), idIngrediente);
+                    }
+                    alertasReposicaoService.aoAlterarDados(DadosAlteradosEvent.de(EstoqueIngrediente.class, idIngrediente));
+                }));
+            }
+            for (Future<?> tarefa : tarefas) {
+                tarefa.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(idsAbaixoDoMinimo(estoqueIngredienteRepository.findSituacaoPrecisaRepor()),
+                idsAbaixoDoMinimo(alertasReposicaoService.listar()));
+    }
+
+    private Set<Long> idsAbaixoDoMinimo(List<EstoqueIngredienteResponseDTO> ingredientes) {
+        return ingredientes.stream()
+                .map(EstoqueIngredienteResponseDTO::idIngrediente)
+                .collect(Collectors.toSet());
+    }
+}
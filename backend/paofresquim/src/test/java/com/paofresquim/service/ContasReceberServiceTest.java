@@ -0,0 +1,93 @@
+package com.paofresquim.service;
+
+import com.paofresquim.dto.ClienteRequestDTO;
+import com.paofresquim.dto.VendaRequestDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:sqlite:target/teste-contas-receber.db")
+class ContasReceberServiceTest {
+
+    private static final String[] FORMAS = {"dinheiro", "cartao", "pix", "fiado"};
+    private static final String[] STATUS = {"pago", "pendente"};
+
+    @Autowired
+    private ContasReceberService contasReceberService;
+
+    @Autowired
+    private VendaService vendaService;
+
+    @Autowired
+    private ClienteService clienteService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void saldosIncrementaisCoincidemComReconstrucao() {
+        contasReceberService.reconstruir();
+        Random random = new Random(17);
+        List<Long> clientes = new ArrayList<>(List.of(1L, 2L, 3L, 4L, 5L));
+        List<Long> vendas = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            int operacao = vendas.isEmpty() ? 0 : random.nextInt(10);
+            if (operacao < 5) {
+                vendas.add(vendaService.criar(requisicao(random, clientes)).idVenda());
+            } else if (operacao < 7) {
+                vendaService.atualizar(vendas.get(random.nextInt(vendas.size())), requisicao(random, clientes));
+            } else if (operacao < 9) {
+                vendaService.atualizarStatusPagamento(vendas.get(random.nextInt(vendas.size())), STATUS[random.nextInt(2)]);
+            } else {
+                vendaService.deletar(vendas.remove(random.nextInt(vendas.size())));
+            }
+            if (i % 50 == 0) {
+                clientes.add(clienteService.criar(new ClienteRequestDTO("Cliente " + i, null, null)).idCliente());
+            }
+        }
+
+        List<Map<String, Object>> incrementais = saldos();
+        contasReceberService.reconstruir();
+
+        assertFalse(incrementais.isEmpty());
+        assertEquals(saldos(), incrementais);
+    }
+
+    @Test
+    void saldoSaiDoResumoQuandoClienteQuitaOuEExcluido() {
+        Long quitado = clienteService.criar(new ClienteRequestDTO("Cliente quitado", null, null)).idCliente();
+        Long excluido = clienteService.criar(new ClienteRequestDTO("Cliente excluído", null, null)).idCliente();
+        Long venda = vendaService.criar(new VendaRequestDTO(1L, quitado, 1.0, null, "fiado", "pendente")).idVenda();
+        vendaService.criar(new VendaRequestDTO(1L, excluido, 1.0, null, "fiado", "pendente"));
+        vendaService.criar(new VendaRequestDTO(2L, excluido, 2.0, null, "pix", "pendente"));
+        assertTrue(contasReceberService.obterSaldoCliente(excluido).isPresent());
+
+        vendaService.atualizarStatusPagamento(venda, "pago");
+        clienteService.deletar(excluido);
+
+        assertTrue(contasReceberService.obterSaldoCliente(quitado).isEmpty());
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM saldos_receber_clientes WHERE id_cliente IN (?, ?)", Integer.class, quitado, excluido));
+    }
+
+    private VendaRequestDTO requisicao(Random random, List<Long> clientes) {
+        Long idCliente = random.nextInt(5) == 0 ? null : clientes.get(random.nextInt(clientes.size()));
+        return new VendaRequestDTO(1L + random.nextInt(15), idCliente, 0.1 + random.nextInt(30) / 10.0, null,
+                FORMAS[random.nextInt(FORMAS.length)], STATUS[random.nextInt(STATUS.length)]);
+    }
+
+    private List<Map<String, Object>> saldos() {
+        return jdbcTemplate.queryForList("SELECT id_cliente, ROUND(saldo_pendente, 6) AS saldo, vendas_pendentes " +
+                "FROM saldos_receber_clientes ORDER BY id_cliente");
+    }
+}
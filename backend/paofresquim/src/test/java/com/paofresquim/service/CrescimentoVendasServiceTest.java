@@ -0,0 +1,63 @@
+package com.paofresquim.service;
+
+import com.paofresquim.dto.CrescimentoVendasDTO;
+import com.paofresquim.entity.Venda;
+import com.paofresquim.event.DadosAlteradosEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:sqlite:target/teste-crescimento-vendas.db",
+    "paofresquim.crescimento.dias-comparacao-diaria=3650",
+    "paofresquim.crescimento.meses-comparacao-mensal=1"
+})
+class CrescimentoVendasServiceTest {
+
+    @Autowired
+    private CrescimentoVendasService crescimentoVendasService;
+
+    @Autowired
+    private ResumoVendasPeriodoService resumoVendasPeriodoService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void comparaOMesCorrenteComOMesmoTrechoDoMesAnterior() {
+        CrescimentoVendasDTO antes = crescimentoVendasService.obterCrescimento();
+
+        LocalDateTime agora = LocalDateTime.now();
+        inserirVenda(agora, 300.0);
+        inserirVenda(agora.minusMonths(1), 100.0);
+        resumoVendasPeriodoService.reconstruir();
+        crescimentoVendasService.aoAlterarDados(DadosAlteradosEvent.de(Venda.class));
+
+        CrescimentoVendasDTO depois = crescimentoVendasService.obterCrescimento();
+        double vendasMes = antes.vendasMes() + 300.0;
+        double vendasMesComparacao = antes.vendasMesComparacao() + 100.0;
+        assertEquals(vendasMes, depois.vendasMes(), 1e-9);
+        assertEquals(vendasMesComparacao, depois.vendasMesComparacao(), 1e-9);
+        assertEquals((vendasMes - vendasMesComparacao) / vendasMesComparacao * 100.0, depois.crescimentoMensal(), 1e-9);
+    }
+
+    @Test
+    void semVendasNoPeriodoDeComparacaoOCrescimentoEZero() {
+        CrescimentoVendasDTO crescimento = crescimentoVendasService.obterCrescimento();
+
+        assertEquals(0.0, crescimento.vendasDiaComparacao());
+        assertEquals(0.0, crescimento.crescimentoDiario());
+    }
+
+    private void inserirVenda(LocalDateTime dataVenda, double total) {
+        jdbcTemplate.update("INSERT INTO vendas (id_produto, peso_vendido, preco_kg, total, forma_pagamento, " +
+                "status_pagamento, data_venda) VALUES (1, 1.0, ?, ?, 'dinheiro', 'pago', ?)",
+                total, total, Timestamp.valueOf(dataVenda));
+    }
+}
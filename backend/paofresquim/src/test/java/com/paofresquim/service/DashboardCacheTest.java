@@ -0,0 +1,116 @@
+package com.paofresquim.service;
+
+import com.paofresquim.dto.SecaoDashboard;
+import com.paofresquim.entity.Venda;
+import com.paofresquim.event.DadosAlteradosEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:sqlite:target/teste-dashboard-cache.db",
+    "paofresquim.dashboard.cache.ttl-segundos=1"
+})
+class DashboardCacheTest {
+
+    private static final Set<SecaoDashboard> SECOES_VENDA = EnumSet.of(SecaoDashboard.METRICAS_VENDAS,
+            SecaoDashboard.PRODUTOS_MAIS_VENDIDOS, SecaoDashboard.CLIENTES_TOP, SecaoDashboard.PENDENCIAS);
+
+    @Autowired
+    private DashboardCache dashboardCache;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void limparCache() {
+        dashboardCache.invalidarTudo();
+    }
+
+    @Test
+    void alteracaoEmVendaInvalidaSoAsSecoesMapeadasDepoisDoCommit() {
+        armazenarTodas();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            eventPublisher.publishEvent(DadosAlteradosEvent.de(Venda.class, 1L));
+            for (SecaoDashboard secao : SecaoDashboard.values()) {
+                assertEquals(secao.getCodigo(), dashboardCache.obter(secao), "Invalidado antes do commit: " + secao);
+            }
+        });
+
+        for (SecaoDashboard secao : SecaoDashboard.values()) {
+            if (SECOES_VENDA.contains(secao)) {
+                assertNull(dashboardCache.obter(secao), "Deveria ter sido invalidada: " + secao);
+            } else {
+                assertEquals(secao.getCodigo(), dashboardCache.obter(secao), "Não deveria ter sido invalidada: " + secao);
+            }
+        }
+    }
+
+    @Test
+    void transacaoDesfeitaNaoInvalidaOCache() {
+        armazenarTodas();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            eventPublisher.publishEvent(DadosAlteradosEvent.de(Venda.class, 1L));
+            status.setRollbackOnly();
+        });
+
+        for (SecaoDashboard secao : SecaoDashboard.values()) {
+            assertEquals(secao.getCodigo(), dashboardCache.obter(secao));
+        }
+    }
+
+    @Test
+    void calculoIniciadoAntesDaInvalidacaoNaoEArmazenado() {
+        long versao = dashboardCache.versao(SecaoDashboard.PENDENCIAS);
+        dashboardCache.aoAlterarDados(DadosAlteradosEvent.de(Venda.class, 1L));
+
+        dashboardCache.armazenar(SecaoDashboard.PENDENCIAS, versao, "antigo");
+
+        assertNull(dashboardCache.obter(SecaoDashboard.PENDENCIAS));
+    }
+
+    @Test
+    void entradaExpiraDepoisDoTtl() throws InterruptedException {
+        double hits = contador("hit");
+        double misses = contador("miss");
+
+        dashboardCache.armazenar(SecaoDashboard.METRICAS_FUNCIONARIOS,
+                dashboardCache.versao(SecaoDashboard.METRICAS_FUNCIONARIOS), "funcionarios");
+        assertEquals("funcionarios", dashboardCache.obter(SecaoDashboard.METRICAS_FUNCIONARIOS));
+
+        Thread.sleep(1_100);
+
+        assertNull(dashboardCache.obter(SecaoDashboard.METRICAS_FUNCIONARIOS));
+        assertEquals(hits + 1, contador("hit"), 1e-9);
+        assertEquals(misses + 1, contador("miss"), 1e-9);
+    }
+
+    private void armazenarTodas() {
+        for (SecaoDashboard secao : SecaoDashboard.values()) {
+            dashboardCache.armazenar(secao, dashboardCache.versao(secao), secao.getCodigo());
+        }
+    }
+
+    private double contador(String resultado) {
+        return meterRegistry.counter("paofresquim.dashboard.cache", "resultado", resultado).count();
+    }
+}
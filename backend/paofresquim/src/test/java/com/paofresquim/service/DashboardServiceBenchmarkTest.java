@@ -0,0 +1,87 @@
+package com.paofresquim.service;
+
+import com.paofresquim.benchmark.VendasSinteticas;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:sqlite:target/benchmark-dashboard.db",
+    "paofresquim.dashboard.timeout-secao-ms=120000"
+})
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class DashboardServiceBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardServiceBenchmarkTest.class);
+
+    private static final int TOTAL_VENDAS = Integer.getInteger("benchmark.vendas", 1_000_000);
+    private static final int AQUECIMENTO = 3;
+    private static final int RODADAS = 10;
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private List<AgregadoVendas> agregadosVendas;
+
+    @Autowired
+    private DashboardCache dashboardCache;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void popularVendas() {
+        VendasSinteticas.popular(jdbcTemplate, transactionManager, agregadosVendas, TOTAL_VENDAS);
+    }
+
+    @Test
+    void compararCalculoSequencialComParalelo() {
+        long[] sequencial = medir(() -> {
+            dashboardService.obterMetricasVendas();
+            dashboardService.obterProdutosMaisVendidos();
+            dashboardService.obterClientesTop();
+            dashboardService.obterMetricasFuncionarios();
+            dashboardService.obterAlertasEstoque();
+            dashboardService.obterPendencias();
+        });
+        long[] paralelo = medir(() -> {
+            dashboardCache.invalidarTudo();
+            assertNotNull(dashboardService.obterDashboard());
+        });
+        long[] emCache = medir(() -> assertNotNull(dashboardService.obterDashboard()));
+
+        logger.info("Dashboard com {} vendas - sequencial: mediana {} ms (min {} ms) | paralelo: mediana {} ms (min {} ms) | " +
+                        "em cache: mediana {} ms (min {} ms)",
+                TOTAL_VENDAS, sequencial[RODADAS / 2], sequencial[0], paralelo[RODADAS / 2], paralelo[0],
+                emCache[RODADAS / 2], emCache[0]);
+    }
+
+    private long[] medir(Runnable execucao) {
+        for (int i = 0; i < AQUECIMENTO; i++) {
+            execucao.run();
+        }
+        long[] tempos = new long[RODADAS];
+        for (int i = 0; i < RODADAS; i++) {
+            long inicio = System.nanoTime();
+            execucao.run();
+            tempos[i] = (System.nanoTime() - inicio) / 1_000_000;
+        }
+        Arrays.sort(tempos);
+        return tempos;
+    }
+}
@@ -0,0 +1,77 @@
+package com.paofresquim.service;
+
+import com.paofresquim.dto.DashboardResponseDTO;
+import com.paofresquim.dto.ProdutoMaisVendidoDTO;
+import com.paofresquim.dto.SecaoDashboard;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:sqlite:target/teste-dashboard.db",
+    "paofresquim.dashboard.timeout-secao-ms=200"
+})
+class DashboardServiceTest {
+
+    private static final String CONSULTA_SEM_FIM =
+        "WITH RECURSIVE contador(n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM contador) SELECT COUNT(*) FROM contador";
+
+    @MockitoBean
+    private ResumoVendasService resumoVendasService;
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private DashboardCache dashboardCache;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private HikariDataSource dataSource;
+
+    @Test
+    void secaoQueExcedeOTempoLimiteTemAConsultaInterrompida() throws InterruptedException {
+        when(resumoVendasService.obterProdutosMaisVendidos(anyInt())).thenAnswer(chamada -> {
+            jdbcTemplate.queryForObject(CONSULTA_SEM_FIM, Long.class);
+            return null;
+        });
+
+        long inicio = System.nanoTime();
+        DashboardResponseDTO dashboard = dashboardService.obterDashboard(EnumSet.of(SecaoDashboard.PRODUTOS_MAIS_VENDIDOS));
+        assertTrue(dashboard.produtosMaisVendidos().isEmpty());
+        assertTrue(System.nanoTime() - inicio < 2_000_000_000L, "O dashboard deveria responder após o tempo limite da seção");
+
+        for (int tentativa = 0; tentativa < 50 && dataSource.getHikariPoolMXBean().getActiveConnections() > 0; tentativa++) {
+            Thread.sleep(100);
+        }
+        assertEquals(0, dataSource.getHikariPoolMXBean().getActiveConnections(),
+                "A conexão da seção expirada deveria voltar ao pool");
+    }
+
+    @Test
+    void falhaDeUmaSecaoNaoFicaEmCache() {
+        dashboardCache.invalidarTudo();
+        List<ProdutoMaisVendidoDTO> ranking = List.of(new ProdutoMaisVendidoDTO(1L, "Pão Francês", 10.0, 50.0, 5));
+        when(resumoVendasService.obterProdutosMaisVendidos(anyInt()))
+                .thenThrow(new IllegalStateException("database is locked"))
+                .thenReturn(ranking);
+
+        assertTrue(dashboardService.obterDashboard(EnumSet.of(SecaoDashboard.PRODUTOS_MAIS_VENDIDOS))
+                .produtosMaisVendidos().isEmpty());
+        assertEquals(ranking, dashboardService.obterDashboard(EnumSet.of(SecaoDashboard.PRODUTOS_MAIS_VENDIDOS))
+                .produtosMaisVendidos());
+    }
+}
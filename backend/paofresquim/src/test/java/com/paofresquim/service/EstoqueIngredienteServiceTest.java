@@ -0,0 +1,89 @@
+package com.paofresquim.service;
+
+import com.paofresquim.dto.ContagemEstoqueRequestDTO;
+import com.paofresquim.dto.ContagemEstoqueResponseDTO;
+import com.paofresquim.dto.EstoqueIngredienteRequestDTO;
+import com.paofresquim.dto.EstoqueIngredienteResponseDTO;
+import com.paofresquim.dto.ItemContagemEstoqueDTO;
+import com.paofresquim.dto.ResultadoContagemDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:sqlite:target/teste-estoque-ingredientes.db")
+class EstoqueIngredienteServiceTest {
+
+    private static final long FARINHA = 1L;
+    private static final long ACUCAR = 2L;
+
+    @Autowired
+    private EstoqueIngredienteService estoqueIngredienteService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void contagemEncontraNomesAcentuadosSemDiferenciarMaiusculas() {
+        ContagemEstoqueResponseDTO contagem = contar(
+                new ItemContagemEstoqueDTO(null, "  AÇÚCAR ", 70.0),
+                new ItemContagemEstoqueDTO(null, "farinha de trigo", 140.0),
+                new ItemContagemEstoqueDTO(FARINHA, null, 139.0),
+                new ItemContagemEstoqueDTO(null, "Açucar", 1.0));
+
+        assertEquals(2, contagem.ajustados());
+        assertEquals(2, contagem.rejeitados());
+        assertResultado(contagem.resultados().get(0), ACUCAR, EstoqueIngredienteService.STATUS_CONTAGEM_AJUSTADO);
+        assertResultado(contagem.resultados().get(1), FARINHA, EstoqueIngredienteService.STATUS_CONTAGEM_AJUSTADO);
+        assertResultado(contagem.resultados().get(2), FARINHA, EstoqueIngredienteService.STATUS_CONTAGEM_REJEITADO);
+        assertResultado(contagem.resultados().get(3), null, EstoqueIngredienteService.STATUS_CONTAGEM_REJEITADO);
+        assertEquals(70.0, estoque(ACUCAR), 1e-9);
+        assertEquals(140.0, estoque(FARINHA), 1e-9);
+    }
+
+    @Test
+    void nomesQueDiferemSoEmMaiusculasSaoAmbiguos() {
+        jdbcTemplate.update("INSERT INTO estoque_ingredientes (nome_ingrediente, quantidade_estoque) VALUES ('ÓLEO DE SOJA', 1.0)");
+        jdbcTemplate.update("INSERT INTO estoque_ingredientes (nome_ingrediente, quantidade_estoque) VALUES ('óleo de soja', 2.0)");
+
+        ContagemEstoqueResponseDTO contagem = contar(new ItemContagemEstoqueDTO(null, "Óleo de Soja", 3.0));
+
+        assertEquals(1, contagem.rejeitados());
+        assertEquals("Nome de ingrediente ambíguo: Óleo de Soja", contagem.resultados().get(0).mensagem());
+    }
+
+    @Test
+    void atualizacoesDevolvemAQuantidadeGravadaPeloLivro() {
+        EstoqueIngredienteResponseDTO ajustado = estoqueIngredienteService.atualizarQuantidade(FARINHA, 33.0).orElseThrow();
+        assertEquals(33.0, ajustado.quantidadeEstoque(), 1e-9);
+        assertEquals(33.0, estoque(FARINHA), 1e-9);
+
+        EstoqueIngredienteResponseDTO atualizado = estoqueIngredienteService.atualizar(ACUCAR,
+                new EstoqueIngredienteRequestDTO("Açúcar", 12.5, "kg", 20.0, 4.0)).orElseThrow();
+        assertEquals(12.5, atualizado.quantidadeEstoque(), 1e-9);
+        assertEquals(12.5, estoque(ACUCAR), 1e-9);
+        assertEquals(20.0, atualizado.estoqueMinimo(), 1e-9);
+        assertTrue(atualizado.precisaRepor());
+        assertEquals(jdbcTemplate.queryForObject("SELECT SUM(quantidade) FROM movimentacoes_estoque WHERE id_ingrediente = ?",
+                Double.class, ACUCAR), estoque(ACUCAR), 1e-9);
+    }
+
+    private ContagemEstoqueResponseDTO contar(ItemContagemEstoqueDTO... itens) {
+        return estoqueIngredienteService.registrarContagem(new ContagemEstoqueRequestDTO(null, List.of(itens)));
+    }
+
+    private void assertResultado(ResultadoContagemDTO resultado, Long idIngrediente, String status) {
+        assertEquals(idIngrediente, resultado.idIngrediente(), resultado.toString());
+        assertEquals(status, resultado.status(), resultado.toString());
+    }
+
+    private double estoque(long idIngrediente) {
+        return jdbcTemplate.queryForObject(
+            "SELECT quantidade_estoque FROM estoque_ingredientes WHERE id_ingrediente = ?", Double.class, idIngrediente);
+    }
+}
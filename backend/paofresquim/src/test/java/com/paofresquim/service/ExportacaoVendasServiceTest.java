@@ -0,0 +1,94 @@
+package com.paofresquim.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paofresquim.dto.FiltroVendasDTO;
+import com.paofresquim.dto.FormatoExportacao;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:sqlite:target/teste-exportacao-vendas.db")
+class ExportacaoVendasServiceTest {
+
+    private static final LocalDateTime DATA_VENDA = LocalDateTime.of(2003, 7, 1, 9, 30);
+    private static final LocalDateTime DATA_CSV = LocalDateTime.of(2003, 7, 2, 14, 15);
+
+    @Autowired
+    private ExportacaoVendasService exportacaoVendasService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void csvColocaEntreAspasCamposComSeparadoresAspasEQuebrasDeLinha() throws Exception {
+        String[] nomes = {"Maria", "Silva, João", "Padaria \"Sol\"", "Linha\rdois", "Linha\r\ntrês"};
+        String[] escapados = {"Maria", "\"Silva, João\"", "\"Padaria \"\"Sol\"\"\"", "\"Linha\rdois\"", "\"Linha\r\ntrês\""};
+        String produto = jdbcTemplate.queryForObject("SELECT nome_produto FROM produtos WHERE id_produto = 1", String.class);
+        StringBuilder esperado = new StringBuilder("idVenda,idCliente,nomeCliente,idProduto,nomeProduto,pesoVendido," +
+                "precoKg,total,formaPagamento,statusPagamento,dataVenda,dataVencimento,idTicket\n");
+        for (int i = 0; i < nomes.length; i++) {
+            long idCliente = inserirCliente(nomes[i]);
+            long idVenda = inserirVenda(idCliente, DATA_CSV);
+            esperado.append(idVenda).append(',').append(idCliente).append(',').append(escapados[i])
+                    .append(",1,").append(produto).append(",1.25,10.0,12.5,pix,pago,").append(DATA_CSV).append(",,\n");
+        }
+
+        assertEquals(esperado.toString(), exportar(FormatoExportacao.CSV, new FiltroVendasDTO(DATA_CSV, DATA_CSV, null, null, null, null)));
+    }
+
+    @Test
+    void ndjsonEscreveUmaVendaPorLinhaRespeitandoOFiltro() throws Exception {
+        long idCliente = inserirCliente("Cliente NDJSON");
+        long primeira = inserirVenda(idCliente);
+        long segunda = inserirVenda(idCliente);
+        inserirVenda(inserirCliente("Outro cliente"));
+
+        String[] linhas = exportarPorCliente(FormatoExportacao.NDJSON, idCliente).split("\n");
+
+        assertEquals(2, linhas.length);
+        JsonNode venda = objectMapper.readTree(linhas[0]);
+        assertEquals(primeira, venda.get("idVenda").asLong());
+        assertEquals("Cliente NDJSON", venda.get("nomeCliente").asText());
+        assertEquals(12.5, venda.get("total").asDouble(), 1e-9);
+        assertEquals(segunda, objectMapper.readTree(linhas[1]).get("idVenda").asLong());
+        assertTrue(exportarPorCliente(FormatoExportacao.NDJSON, -1L).isEmpty());
+    }
+
+    private String exportar(FormatoExportacao formato, FiltroVendasDTO filtro) throws Exception {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        exportacaoVendasService.exportar(filtro, formato, saida);
+        return saida.toString(StandardCharsets.UTF_8);
+    }
+
+    private String exportarPorCliente(FormatoExportacao formato, Long idCliente) throws Exception {
+        return exportar(formato, new FiltroVendasDTO(null, null, idCliente, null, null, null));
+    }
+
+    private long inserirCliente(String nome) {
+        return jdbcTemplate.queryForObject("INSERT INTO clientes (nome, data_cadastro) VALUES (?, ?) RETURNING id_cliente",
+                Long.class, nome, Timestamp.valueOf(DATA_VENDA));
+    }
+
+    private long inserirVenda(long idCliente) {
+        return inserirVenda(idCliente, DATA_VENDA);
+    }
+
+    private long inserirVenda(long idCliente, LocalDateTime dataVenda) {
+        return jdbcTemplate.queryForObject("INSERT INTO vendas (id_cliente, id_produto, peso_vendido, preco_kg, total, " +
+                "forma_pagamento, status_pagamento, data_venda) VALUES (?, 1, 1.25, 10.0, 12.5, 'pix', 'pago', ?) RETURNING id_venda",
+                Long.class, idCliente, Timestamp.valueOf(dataVenda));
+    }
+}
@@ -0,0 +1,201 @@
+package com.paofresquim.service;
+
+import com.paofresquim.dto.VendaRequestDTO;
+import com.paofresquim.dto.VendaResponseDTO;
+import com.paofresquim.exception.EntidadeNaoEncontradaException;
+import com.paofresquim.exception.ServicoIndisponivelException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:sqlite:target/teste-fila-vendas.db")
+@AutoConfigureMockMvc
+class FilaGravacaoVendasTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(FilaGravacaoVendasTest.class);
+
+    private static final int CHAMADORES = 32;
+
+    @Autowired
+    private FilaGravacaoVendas filaGravacaoVendas;
+
+    @Autowired
+    private VendaService vendaService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void cadaChamadorRecebeSeuIdOuSeuErro() throws Exception {
+        int vendas = 200;
+        List<Future<VendaResponseDTO>> resultados = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(CHAMADORES)) {
+            for (int i = 0; i < vendas; i++) {
+                long idProduto = i == vendas / 2 ? 999_999L : 1 + i % 15;
+                VendaRequestDTO requisicao = new VendaRequestDTO(idProduto, 1 + (long) (i % 10), 1.0, null, "pix", "pago");
+                resultados.add(executor.submit(() -> filaGravacaoVendas.gravar(requisicao)));
+            }
+        }
+
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < vendas; i++) {
+            if (i == vendas / 2) {
+                Future<VendaResponseDTO> resultado = resultados.get(i);
+                Exception erro = assertThrows(Exception.class, resultado::get);
+                assertInstanceOf(EntidadeNaoEncontradaException.class, erro.getCause());
+                continue;
+            }
+            VendaResponseDTO venda = resultados.get(i).get();
+            assertNotNull(venda.idVenda());
+            assertEquals(1 + i % 15, venda.idProduto());
+            ids.add(venda.idVenda());
+        }
+
+        assertEquals(vendas - 1, ids.size());
+        String marcadores = String.join(",", ids.stream().map(id -> "?").toList());
+        Integer gravadas = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM vendas WHERE id_venda IN (" + marcadores + ")", Integer.class, ids.toArray());
+        assertEquals(vendas - 1, gravadas);
+    }
+
+    @Test
+    void encerrarGravaOuRejeitaCadaPedidoSemDeixarChamadoresPresos() throws Exception {
+        long ultimaVenda = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id_venda), 0) FROM vendas", Long.class);
+        int vendas = 500;
+        List<Future<VendaResponseDTO>> resultados = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(CHAMADORES);
+        try {
+            for (int i = 0; i < vendas; i++) {
+                VendaRequestDTO requisicao = new VendaRequestDTO(1 + (long) (i % 15), null, 1.0, null, "pix", "pago");
+                resultados.add(executor.submit(() -> filaGravacaoVendas.gravar(requisicao)));
+            }
+            Thread.sleep(20);
+            filaGravacaoVendas.encerrar();
+
+            Set<Long> gravadas = new HashSet<>();
+            int rejeitadas = 0;
+            for (Future<VendaResponseDTO> resultado : resultados) {
+                try {
+                    gravadas.add(resultado.get(15, TimeUnit.SECONDS).idVenda());
+                } catch (ExecutionException e) {
+                    assertInstanceOf(ServicoIndisponivelException.class, e.getCause());
+                    rejeitadas++;
+                }
+            }
+            logger.info("Encerramento com {} pedidos: {} gravados, {} rejeitados", vendas, gravadas.size(), rejeitadas);
+            assertEquals(vendas, gravadas.size() + rejeitadas);
+            assertEquals(gravadas, new HashSet<>(jdbcTemplate.queryForList(
+                    "SELECT id_venda FROM vendas WHERE id_venda > ?", Long.class, ultimaVenda)));
+            assertThrows(ServicoIndisponivelException.class, () ->
+                    filaGravacaoVendas.gravar(new VendaRequestDTO(1L, null, 1.0, null, "pix", "pago")));
+            mockMvc.perform(post("/api/vendas")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"idProduto\": 1, \"pesoVendido\": 1.0, \"formaPagamento\": \"pix\", \"statusPagamento\": \"pago\"}"))
+                    .andExpect(status().isServiceUnavailable());
+        } finally {
+            executor.shutdownNow();
+            filaGravacaoVendas.iniciar();
+        }
+        assertTrue(filaGravacaoVendas.gravar(new VendaRequestDTO(1L, null, 1.0, null, "pix", "pago")).idVenda() > ultimaVenda);
+    }
+
+    @Test
+    void tempoLimiteSoRejeitaPedidosQueAindaNaoEntraramEmUmLote() throws Exception {
+        long ultimaVenda = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id_venda), 0) FROM vendas", Long.class);
+        Object timeoutOriginal = ReflectionTestUtils.getField(filaGravacaoVendas, "timeoutMs");
+        ReflectionTestUtils.setField(filaGravacaoVendas, "timeoutMs", 100L);
+        CountDownLatch emGravacao = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<VendaResponseDTO> lento = executor.submit(() -> filaGravacaoVendas.gravar(
+                    new VendaRequestDTO(1L, null, 1.0, null, "pix", "pago"), resposta -> {
+                        emGravacao.countDown();
+                        try {
+                            Thread.sleep(500);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }));
+            assertTrue(emGravacao.await(5, TimeUnit.SECONDS));
+
+            assertThrows(ServicoIndisponivelException.class, () ->
+                    filaGravacaoVendas.gravar(new VendaRequestDTO(2L, null, 1.0, null, "pix", "pago")));
+
+            Long idVenda = lento.get(5, TimeUnit.SECONDS).idVenda();
+            assertEquals(List.of(idVenda), jdbcTemplate.queryForList(
+                    "SELECT id_venda FROM vendas WHERE id_venda > ?", Long.class, ultimaVenda));
+        } finally {
+            executor.shutdownNow();
+            ReflectionTestUtils.setField(filaGravacaoVendas, "timeoutMs", timeoutOriginal);
+        }
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void compararVazaoComGravacaoIndividual() throws Exception {
+        int vendas = Integer.getInteger("benchmark.vendas", 2_000);
+        double individual = medirVazao(vendas, vendaService::criar);
+        double agrupada = medirVazao(vendas, filaGravacaoVendas::gravar);
+
+        logger.info("Gravação concorrente de {} vendas com {} chamadores - individual: {} vendas/s | " +
+                        "group commit: {} vendas/s ({}x)",
+                vendas, CHAMADORES, Math.round(individual), Math.round(agrupada),
+                String.format("%.1f", agrupada / individual));
+    }
+
+    private double medirVazao(int vendas, Function<VendaRequestDTO, VendaResponseDTO> gravacao) throws Exception {
+        AtomicInteger falhas = new AtomicInteger();
+        List<Future<?>> resultados = new ArrayList<>();
+        long inicio = System.nanoTime();
+        try (ExecutorService executor = Executors.newFixedThreadPool(CHAMADORES)) {
+            for (int i = 0; i < vendas; i++) {
+                VendaRequestDTO requisicao = new VendaRequestDTO(1 + (long) (i % 15), 1 + (long) (i % 10), 1.0, null, "pix", "pago");
+                resultados.add(executor.submit(() -> {
+                    try {
+                        gravacao.apply(requisicao);
+                    } catch (RuntimeException e) {
+                        falhas.incrementAndGet();
+                    }
+                }));
+            }
+        }
+        for (Future<?> resultado : resultados) {
+            resultado.get();
+        }
+        double segundos = (System.nanoTime() - inicio) / 1_000_000_000.0;
+        assertEquals(0, falhas.get(), "Gravações falharam; rode com -Dspring.profiles.active=producao para ter busy_timeout");
+        return vendas / segundos;
+    }
+}
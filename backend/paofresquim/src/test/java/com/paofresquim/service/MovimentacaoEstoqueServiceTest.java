@@ -0,0 +1,188 @@
+package com.paofresquim.service;
+
+import com.paofresquim.dto.ItemRecebimentoRequestDTO;
+import com.paofresquim.dto.MovimentacaoEstoqueRequestDTO;
+import com.paofresquim.dto.VendaRequestDTO;
+import com.paofresquim.entity.Venda;
+import com.paofresquim.repository.VendaRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:sqlite:target/teste-movimentacoes-estoque.db")
+class MovimentacaoEstoqueServiceTest {
+
+    private static final long PAO_FRANCES = 1L;
+    private static final long FARINHA = 1L;
+    private static final double FARINHA_POR_KG = 0.62;
+
+    @Autowired
+    private VendaService vendaService;
+
+    @Autowired
+    private MovimentacaoEstoqueService movimentacaoEstoqueService;
+
+    @Autowired
+    private VendaRepository vendaRepository;
+
+    @Autowired
+    private AlertasReposicaoService alertasReposicaoService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void vendasBaixamEEstornamEstoqueComRegistroNoLivro() {
+        double inicial = estoque(FARINHA);
+
+        Long idVenda = vendaService.criar(venda(2.0)).idVenda();
+        assertEquals(inicial - 2.0 * FARINHA_POR_KG, estoque(FARINHA), 1e-9);
+
+        vendaService.atualizar(idVenda, venda(5.0));
+        assertEquals(inicial - 5.0 * FARINHA_POR_KG, estoque(FARINHA), 1e-9);
+
+        vendaService.deletar(idVenda);
+        assertEquals(inicial, estoque(FARINHA), 1e-9);
+        assertEquals(estoque(FARINHA), somaLivro(FARINHA), 1e-9);
+    }
+
+    @Test
+    void vendaQueZeraOEstoqueEstornaExatamenteOQueBaixou() {
+        double inicial = estoque(FARINHA);
+        movimentacaoEstoqueService.ajustarPara(FARINHA, 1.0, "Teste de estoque negativo");
+
+        Long idVenda = vendaService.criar(venda(5.0)).idVenda();
+        assertEquals(1.0 - 5.0 * FARINHA_POR_KG, estoque(FARINHA), 1e-9);
+        assertTrue(emAlerta(FARINHA));
+
+        vendaService.atualizar(idVenda, venda(1.0));
+        assertEquals(1.0 - FARINHA_POR_KG, estoque(FARINHA), 1e-9);
+
+        vendaService.atualizar(idVenda, venda(5.0));
+        vendaService.deletar(idVenda);
+        assertEquals(1.0, estoque(FARINHA), 1e-9);
+        assertEquals(estoque(FARINHA), somaLivro(FARINHA), 1e-9);
+
+        movimentacaoEstoqueService.ajustarPara(FARINHA, inicial, "Teste de estoque negativo");
+        assertFalse(emAlerta(FARINHA));
+    }
+
+    @Test
+    void vendasBaixamLotesPorValidadeEEstornoDevolveAosMesmosLotes() {
+        LocalDate hoje = LocalDate.now();
+        movimentacaoEstoqueService.ajustarPara(FARINHA, 0.0, "Teste de lotes");
+        movimentacaoEstoqueService.registrarEntradas(null, List.of(
+                new ItemRecebimentoRequestDTO(FARINHA, 10.0, 3.0, hoje.plusDays(10)),
+                new ItemRecebimentoRequestDTO(FARINHA, 10.0, 3.0, hoje.plusDays(3)),
+                new ItemRecebimentoRequestDTO(FARINHA, 5.0, 3.0, null)), "Teste de lotes");
+
+        Long primeira = vendaService.criar(venda(20.0)).idVenda();
+        assertEquals(Arrays.asList(null, 7.6, 5.0), restantes(hoje));
+
+        Long segunda = vendaService.criar(venda(10.0)).idVenda();
+        List<Double> aposVendas = restantes(hoje);
+        assertEquals(Arrays.asList(null, 1.4, 5.0), aposVendas);
+
+        vendaService.atualizar(primeira, venda(20.0));
+        assertEquals(aposVendas, restantes(hoje));
+
+        List<Venda> vendas = vendaRepository.findAllById(List.of(primeira, segunda));
+        vendas.forEach(movimentacaoEstoqueService::estornar);
+        assertEquals(List.of(10.0, 10.0, 5.0), restantes(hoje));
+        movimentacaoEstoqueService.registrarLote(vendas);
+        assertEquals(aposVendas, restantes(hoje));
+
+        vendaService.atualizar(primeira, venda(10.0));
+        assertEquals(Arrays.asList(3.8, 3.8, 5.0), restantes(hoje));
+
+        vendaService.deletar(segunda);
+        vendaService.deletar(primeira);
+        assertEquals(List.of(10.0, 10.0, 5.0), restantes(hoje));
+        assertEquals(25.0, estoque(FARINHA), 1e-9);
+    }
+
+    @Test
+    void estornoDepoisDeAjusteParaBaixoNaoDeixaLotesAcimaDoEstoque() {
+        LocalDate hoje = LocalDate.now();
+        double inicial = estoque(FARINHA);
+        movimentacaoEstoqueService.ajustarPara(FARINHA, 0.0, "Teste de lotes");
+        movimentacaoEstoqueService.registrarEntradas(null, List.of(
+                new ItemRecebimentoRequestDTO(FARINHA, 10.0, 3.0, hoje.plusDays(3))), "Teste de lotes");
+
+        Long idVenda = vendaService.criar(venda(10.0)).idVenda();
+        assertEquals(Arrays.asList(3.8, null, null), restantes(hoje));
+
+        movimentacaoEstoqueService.ajustarPara(FARINHA, -1.0, "Contagem abaixo do sistema");
+        assertEquals(Arrays.asList(null, null, null), restantes(hoje));
+
+        vendaService.deletar(idVenda);
+        assertEquals(10 * FARINHA_POR_KG - 1.0, estoque(FARINHA), 1e-9);
+        assertEquals(Arrays.asList(5.2, null, null), restantes(hoje));
+
+        movimentacaoEstoqueService.ajustarPara(FARINHA, inicial, "Teste de lotes");
+    }
+
+    @Test
+    void estoqueEmDataUsaCheckpointMaisCaudaDeMovimentacoes() throws InterruptedException {
+        registrarEntrada(3.0);
+        movimentacaoEstoqueService.registrarCheckpoints();
+        registrarEntrada(1.5);
+        Thread.sleep(5);
+
+        LocalDateTime instante = LocalDateTime.now();
+        double estoqueNoInstante = estoque(FARINHA);
+        Thread.sleep(5);
+
+        vendaService.criar(venda(4.0));
+        movimentacaoEstoqueService.registrarCheckpoints();
+        registrarEntrada(0.5);
+
+        var noInstante = movimentacaoEstoqueService.obterEstoqueEm(FARINHA, instante).orElseThrow();
+        assertEquals(estoqueNoInstante, noInstante.quantidadeEstoque(), 1e-9);
+        assertEquals(1L, noInstante.movimentacoesAplicadas());
+
+        var agora = movimentacaoEstoqueService.obterEstoqueEm(FARINHA, LocalDateTime.now()).orElseThrow();
+        assertEquals(estoque(FARINHA), agora.quantidadeEstoque(), 1e-9);
+    }
+
+    private List<Double> restantes(LocalDate hoje) {
+        Map<LocalDate, Double> porValidade = new HashMap<>();
+        movimentacaoEstoqueService.listarLotes(FARINHA).orElseThrow()
+                .forEach(lote -> porValidade.put(lote.dataValidade(), Math.round(lote.quantidadeRestante() * 1e6) / 1e6));
+        return Arrays.asList(porValidade.get(hoje.plusDays(3)), porValidade.get(hoje.plusDays(10)), porValidade.get(null));
+    }
+
+    private void registrarEntrada(double quantidade) {
+        movimentacaoEstoqueService.registrarManual(FARINHA, new MovimentacaoEstoqueRequestDTO("entrada", quantidade, null));
+    }
+
+    private VendaRequestDTO venda(double peso) {
+        return new VendaRequestDTO(PAO_FRANCES, null, peso, null, "dinheiro", "pago");
+    }
+
+    private boolean emAlerta(long idIngrediente) {
+        return alertasReposicaoService.listar().stream().anyMatch(alerta -> alerta.idIngrediente() == idIngrediente);
+    }
+
+    private double estoque(long idIngrediente) {
+        return jdbcTemplate.queryForObject(
+            "SELECT quantidade_estoque FROM estoque_ingredientes WHERE id_ingrediente = ?", Double.class, idIngrediente);
+    }
+
+    private double somaLivro(long idIngrediente) {
+        return jdbcTemplate.queryForObject(
+            "SELECT SUM(quantidade) FROM movimentacoes_estoque WHERE id_ingrediente = ?", Double.class, idIngrediente);
+    }
+}
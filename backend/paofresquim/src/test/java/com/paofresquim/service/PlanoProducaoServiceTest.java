@@ -0,0 +1,72 @@
+package com.paofresquim.service;
+
+import com.paofresquim.dto.ItemPlanoProducaoDTO;
+import com.paofresquim.dto.TurnoProducaoDTO;
+import com.paofresquim.dto.VendaRequestDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:sqlite:target/teste-plano-producao.db",
+    "paofresquim.producao.semanas-historico=8",
+    "paofresquim.producao.margem-seguranca=0.1"
+})
+class PlanoProducaoServiceTest {
+
+    private static final long PAO_FRANCES = 1L;
+    private static final long FARINHA = 1L;
+    private static final double FARINHA_POR_KG = 0.62;
+
+    @Autowired
+    private PlanoProducaoService planoProducaoService;
+
+    @Autowired
+    private VendaService vendaService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void planoDoDiaUsaEstoqueDoInicioDoDia() {
+        LocalDate hoje = LocalDate.now();
+        for (int semana = 1; semana <= 8; semana++) {
+            jdbcTemplate.update("INSERT INTO resumo_vendas_hora (periodo, id_produto, forma_pagamento, quantidade_vendida, " +
+                    "total_vendas, numero_vendas) VALUES (?, ?, 'teste', 8.0, 0, 1)",
+                    hoje.minusWeeks(semana).atTime(8, 0).format(ResumoVendasPeriodoService.FORMATO_HORA), PAO_FRANCES);
+        }
+        double necessidade = 8.0 * 1.1 * FARINHA_POR_KG;
+        jdbcTemplate.update("UPDATE estoque_ingredientes SET quantidade_estoque = ? WHERE id_ingrediente = ?",
+                necessidade / 2, FARINHA);
+
+        planoProducaoService.planejar(hoje);
+        ItemPlanoProducaoDTO antes = itemManha(hoje);
+        assertEquals(8.0, antes.demandaPrevista(), 1e-9);
+        assertEquals(0.5, antes.fatorAtendimento(), 1e-9);
+        assertEquals(8.0 * 1.1 * 0.5, antes.quantidadePlanejada(), 1e-9);
+        assertEquals(FARINHA, antes.idIngredienteLimitante());
+
+        vendaService.criar(new VendaRequestDTO(PAO_FRANCES, null, 2.0, null, "dinheiro", "pago"));
+        planoProducaoService.planejar(hoje);
+
+        ItemPlanoProducaoDTO depois = itemManha(hoje);
+        assertEquals(antes.fatorAtendimento(), depois.fatorAtendimento(), 1e-9);
+        assertEquals(antes.quantidadePlanejada(), depois.quantidadePlanejada(), 1e-9);
+    }
+
+    private ItemPlanoProducaoDTO itemManha(LocalDate data) {
+        return planoProducaoService.buscarPlano(data).orElseThrow().turnos().stream()
+                .filter(turno -> turno.turno().equals("manha"))
+                .map(TurnoProducaoDTO::itens)
+                .flatMap(List::stream)
+                .filter(item -> item.idProduto() == PAO_FRANCES)
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,69 @@
+package com.paofresquim.service;
+
+import com.paofresquim.dto.PrevisaoReposicaoDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:sqlite:target/teste-previsao-reposicao.db",
+    "paofresquim.reposicao.janela-dias=28"
+})
+class PrevisaoReposicaoServiceTest {
+
+    private static final long PAO_FRANCES = 1L;
+    private static final long FARINHA = 1L;
+    private static final double FARINHA_POR_KG = 0.62;
+
+    @Autowired
+    private PrevisaoReposicaoService previsaoReposicaoService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void consumoUsaSomenteDiasCompletosDaJanelaEIncluiPerdas() {
+        LocalDate hoje = LocalDate.now();
+        double inicial = consumo(FARINHA);
+
+        inserirResumoDia(hoje, 100.0);
+        inserirResumoDia(hoje.minusDays(29), 100.0);
+        inserirPerda(hoje.atTime(0, 30), 50.0);
+        inserirPerda(hoje.minusDays(29).atTime(23, 30), 50.0);
+        assertEquals(inicial, consumo(FARINHA), 1e-9);
+
+        inserirResumoDia(hoje.minusDays(28), 28.0);
+        assertEquals(inicial + FARINHA_POR_KG, consumo(FARINHA), 1e-9);
+
+        inserirResumoDia(hoje.minusDays(1), 14.0);
+        inserirPerda(hoje.minusDays(1).atTime(23, 59, 59), 2.8);
+        assertEquals(inicial + 1.5 * FARINHA_POR_KG + 0.1, consumo(FARINHA), 1e-9);
+    }
+
+    private double consumo(long idIngrediente) {
+        previsaoReposicaoService.recalcular();
+        return previsaoReposicaoService.listar(false).stream()
+                .filter(previsao -> previsao.idIngrediente() == idIngrediente)
+                .findFirst()
+                .map(PrevisaoReposicaoDTO::consumoMedioDiario)
+                .orElseThrow();
+    }
+
+    private void inserirResumoDia(LocalDate dia, double quantidade) {
+        jdbcTemplate.update("INSERT INTO resumo_vendas_dia (periodo, id_produto, forma_pagamento, quantidade_vendida, " +
+                "total_vendas, numero_vendas) VALUES (?, ?, 'teste', ?, 0, 1)",
+                dia.format(ResumoVendasPeriodoService.FORMATO_DIA), PAO_FRANCES, quantidade);
+    }
+
+    private void inserirPerda(LocalDateTime data, double quantidade) {
+        jdbcTemplate.update("INSERT INTO movimentacoes_estoque (id_ingrediente, tipo, quantidade, data_movimentacao) " +
+                "VALUES (?, 'perda', ?, ?)", FARINHA, -quantidade, Timestamp.valueOf(data));
+    }
+}
@@ -0,0 +1,81 @@
+package com.paofresquim.service;
+
+import com.paofresquim.dto.ItemRecebimentoRequestDTO;
+import com.paofresquim.dto.RecebimentoCompraRequestDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:sqlite:target/teste-recebimento-compra.db")
+class RecebimentoCompraServiceTest {
+
+    private static final long FARINHA = 1L;
+
+    @Autowired
+    private RecebimentoCompraService recebimentoCompraService;
+
+    @Autowired
+    private MovimentacaoEstoqueService movimentacaoEstoqueService;
+
+    @Autowired
+    private AlertasReposicaoService alertasReposicaoService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void recebimentoPassaPeloLivroEAtualizaCustoMedioPonderado() {
+        movimentacaoEstoqueService.ajustarPara(FARINHA, 10.0, "Teste de custo médio");
+        jdbcTemplate.update("UPDATE estoque_ingredientes SET custo_medio = 4.0 WHERE id_ingrediente = ?", FARINHA);
+        assertTrue(emAlerta(FARINHA));
+
+        receber(new ItemRecebimentoRequestDTO(FARINHA, 10.0, 6.0, null),
+                new ItemRecebimentoRequestDTO(FARINHA, 20.0, 1.0, null));
+
+        assertEquals(40.0, estoque(FARINHA), 1e-9);
+        assertEquals((10 * 4.0 + 10 * 6.0 + 20 * 1.0) / 40, custoMedio(FARINHA), 1e-9);
+        assertEquals(estoque(FARINHA), somaLivro(FARINHA), 1e-9);
+        assertFalse(emAlerta(FARINHA));
+    }
+
+    @Test
+    void estoqueNegativoNaoPesaNoCustoMedio() {
+        movimentacaoEstoqueService.ajustarPara(FARINHA, -5.0, "Teste de custo médio");
+
+        receber(new ItemRecebimentoRequestDTO(FARINHA, 10.0, 2.0, null));
+
+        assertEquals(5.0, estoque(FARINHA), 1e-9);
+        assertEquals(2.0, custoMedio(FARINHA), 1e-9);
+        assertEquals(estoque(FARINHA), somaLivro(FARINHA), 1e-9);
+    }
+
+    private void receber(ItemRecebimentoRequestDTO... itens) {
+        recebimentoCompraService.registrar(new RecebimentoCompraRequestDTO("Moinho Teste", null, List.of(itens)));
+    }
+
+    private boolean emAlerta(long idIngrediente) {
+        return alertasReposicaoService.listar().stream().anyMatch(alerta -> alerta.idIngrediente() == idIngrediente);
+    }
+
+    private double estoque(long idIngrediente) {
+        return jdbcTemplate.queryForObject(
+            "SELECT quantidade_estoque FROM estoque_ingredientes WHERE id_ingrediente = ?", Double.class, idIngrediente);
+    }
+
+    private double custoMedio(long idIngrediente) {
+        return jdbcTemplate.queryForObject(
+            "SELECT custo_medio FROM estoque_ingredientes WHERE id_ingrediente = ?", Double.class, idIngrediente);
+    }
+
+    private double somaLivro(long idIngrediente) {
+        return jdbcTemplate.queryForObject(
+            "SELECT SUM(quantidade) FROM movimentacoes_estoque WHERE id_ingrediente = ?", Double.class, idIngrediente);
+    }
+}
@@ -0,0 +1,94 @@
+package com.paofresquim.service;
+
+import com.paofresquim.dto.TotaisVendasDTO;
+import com.paofresquim.dto.VendaRequestDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:sqlite:target/teste-resumo-vendas-periodo.db")
+class ResumoVendasPeriodoServiceTest {
+
+    @Autowired
+    private ResumoVendasPeriodoService resumoVendasPeriodoService;
+
+    @Autowired
+    private VendaService vendaService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void totalizarCombinaHorasNasBordasComDiasCompletos() {
+        inserirVenda("2001-03-10T00:00:00", 1);
+        inserirVenda("2001-03-10T09:59:59.999", 2);
+        inserirVenda("2001-03-10T10:00:00", 4);
+        inserirVenda("2001-03-10T10:45:00", 8);
+        inserirVenda("2001-03-10T23:59:59", 16);
+        inserirVenda("2001-03-11T00:00:00", 32);
+        inserirVenda("2001-03-11T13:15:00", 64);
+        inserirVenda("2001-03-12T23:30:00", 128);
+        inserirVenda("2001-03-13T00:00:00", 256);
+        inserirVenda("2001-03-14T05:00:00", 512);
+        resumoVendasPeriodoService.reconstruir();
+
+        assertTotal(12, 2, "2001-03-10T10:30:00", "2001-03-10T11:00:00");
+        assertTotal(0, 0, "2001-03-10T10:00:00", "2001-03-10T10:00:00");
+        assertTotal(31, 5, "2001-03-10T00:00:00", "2001-03-11T00:00:00");
+        assertTotal(48, 2, "2001-03-10T23:00:00", "2001-03-11T01:00:00");
+        assertTotal(508, 7, "2001-03-10T10:00:00", "2001-03-13T00:30:00");
+        assertTotal(510, 8, "2001-03-10T09:59:59", "2001-03-14T00:00:00");
+        assertTotal(1023, 10, "2001-03-01T00:00:00", "2001-04-01T00:00:00");
+        assertTotal(0, 0, "2001-03-12T00:00:00", "2001-03-10T00:00:00");
+
+        TotaisVendasDTO dias = resumoVendasPeriodoService.totalizarDias(LocalDate.of(2001, 3, 10), LocalDate.of(2001, 3, 12));
+        assertEquals(127.0, dias.totalVendas(), 1e-9);
+        assertEquals(7L, dias.numeroVendas());
+        assertEquals(127.0 / 7, dias.ticketMedio(), 1e-9);
+    }
+
+    @Test
+    void registroIncrementalCoincideComReconstrucao() {
+        Long primeira = vendaService.criar(new VendaRequestDTO(1L, 1L, 1.5, null, "pix", "pago")).idVenda();
+        Long segunda = vendaService.criar(new VendaRequestDTO(2L, null, 0.7, null, "dinheiro", "pago")).idVenda();
+        vendaService.criar(new VendaRequestDTO(2L, 3L, 2.0, null, "cartao", "pago"));
+        vendaService.atualizar(primeira, new VendaRequestDTO(3L, 1L, 2.5, null, "dinheiro", "pago"));
+        vendaService.deletar(segunda);
+
+        List<Map<String, Object>> horasIncrementais = resumo("resumo_vendas_hora");
+        List<Map<String, Object>> diasIncrementais = resumo("resumo_vendas_dia");
+        resumoVendasPeriodoService.reconstruir();
+
+        assertFalse(horasIncrementais.isEmpty());
+        assertEquals(resumo("resumo_vendas_hora"), horasIncrementais);
+        assertEquals(resumo("resumo_vendas_dia"), diasIncrementais);
+    }
+
+    private void assertTotal(double total, long numero, String inicio, String fim) {
+        TotaisVendasDTO totais = resumoVendasPeriodoService.totalizar(LocalDateTime.parse(inicio), LocalDateTime.parse(fim));
+        assertEquals(total, totais.totalVendas(), 1e-9, inicio + " - " + fim);
+        assertEquals(numero, totais.numeroVendas(), inicio + " - " + fim);
+    }
+
+    private void inserirVenda(String dataVenda, double total) {
+        jdbcTemplate.update("INSERT INTO vendas (id_produto, peso_vendido, preco_kg, total, forma_pagamento, " +
+                "status_pagamento, data_venda) VALUES (1, 1.0, ?, ?, 'dinheiro', 'pago', ?)",
+                total, total, Timestamp.valueOf(LocalDateTime.parse(dataVenda)));
+    }
+
+    private List<Map<String, Object>> resumo(String tabela) {
+        return jdbcTemplate.queryForList("SELECT periodo, id_produto, forma_pagamento, ROUND(quantidade_vendida, 6) AS quantidade, " +
+                "ROUND(total_vendas, 6) AS total, numero_vendas FROM " + tabela + " WHERE numero_vendas <> 0 " +
+                "ORDER BY periodo, id_produto, forma_pagamento");
+    }
+}
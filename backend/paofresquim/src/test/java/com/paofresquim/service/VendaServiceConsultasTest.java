@@ -0,0 +1,163 @@
+package com.paofresquim.service;
+
+import com.paofresquim.dto.VendaRequestDTO;
+import com.paofresquim.dto.VendaResponseDTO;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:sqlite:target/teste-consultas-vendas.db",
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+        "com.paofresquim.service.VendaServiceConsultasTest$ContadorConsultas"
+})
+class VendaServiceConsultasTest {
+
+    public static class ContadorConsultas implements StatementInspector {
+
+        static final AtomicInteger CONSULTAS = new AtomicInteger();
+
+        @Override
+        public String inspect(String sql) {
+            CONSULTAS.incrementAndGet();
+            return sql;
+        }
+    }
+
+    @Autowired
+    private VendaService vendaService;
+
+    @Autowired
+    private List<AgregadoVendas> agregadosVendas;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void quantidadeDeConsultasNaoCresceComNumeroDeVendas() {
+        VendaCriada primeira = inserirVendasComNovosProdutosEClientes(5);
+        List<Integer> antes = contarConsultasDasListagens(primeira);
+
+        VendaCriada ultima = inserirVendasComNovosProdutosEClientes(50);
+        List<Integer> depois = contarConsultasDasListagens(ultima);
+
+        assertEquals(antes, depois);
+        assertTrue(antes.stream().allMatch(consultas -> consultas == 1), "Consultas por listagem: " + antes);
+    }
+
+    @Test
+    void listagensPorProdutoEClienteDevolvemAsVendasDoFiltro() {
+        VendaCriada criada = inserirVendasComNovosProdutosEClientes(3);
+
+        List<VendaResponseDTO> porProduto = vendaService.buscarPorProduto(criada.idProduto());
+        assertEquals(1, porProduto.size());
+        assertVenda(criada, porProduto.get(0));
+
+        List<VendaResponseDTO> porCliente = vendaService.buscarPorCliente(criada.idCliente());
+        assertEquals(1, porCliente.size());
+        assertVenda(criada, porCliente.get(0));
+
+        assertTrue(vendaService.buscarPorStatusPagamento("pendente").stream()
+                .anyMatch(venda -> venda.idVenda().equals(criada.idVenda())));
+    }
+
+    @Test
+    void agregadosIncrementaisIgualamReconstrucaoAposCriarAtualizarEExcluir() {
+        agregadosVendas.forEach(AgregadoVendas::reconstruir);
+
+        Long fiado = vendaService.criar(new VendaRequestDTO(2L, 3L, 1.5, null, "fiado", "pendente")).idVenda();
+        Long pix = vendaService.criar(new VendaRequestDTO(4L, 3L, 0.8, 12.0, "pix", "pago")).idVenda();
+        Long semCliente = vendaService.criar(new VendaRequestDTO(2L, null, 2.0, null, "dinheiro", "pago")).idVenda();
+        Long excluida = vendaService.criar(new VendaRequestDTO(5L, 6L, 1.0, null, "fiado", "pendente")).idVenda();
+
+        vendaService.atualizar(fiado, new VendaRequestDTO(2L, 3L, 1.5, null, "fiado", "pago"));
+        vendaService.atualizar(pix, new VendaRequestDTO(6L, 7L, 1.2, 12.0, "fiado", "pendente"));
+        vendaService.atualizar(semCliente, new VendaRequestDTO(2L, 8L, 2.5, null, "cartao", "pago"));
+        vendaService.deletar(excluida);
+
+        Map<String, List<Map<String, Object>>> incrementais = lerAgregados();
+        agregadosVendas.forEach(AgregadoVendas::reconstruir);
+        assertEquals(lerAgregados(), incrementais);
+    }
+
+    private record VendaCriada(Long idVenda, Long idProduto, Long idCliente, String nomeProduto, String nomeCliente) {}
+
+    private void assertVenda(VendaCriada esperada, VendaResponseDTO venda) {
+        assertEquals(esperada.idVenda(), venda.idVenda());
+        assertEquals(esperada.idProduto(), venda.idProduto());
+        assertEquals(esperada.nomeProduto(), venda.nomeProduto());
+        assertEquals(esperada.idCliente(), venda.idCliente());
+        assertEquals(esperada.nomeCliente(), venda.nomeCliente());
+        assertEquals(10.0, venda.total(), 1e-9);
+        assertEquals("pendente", venda.statusPagamento());
+    }
+
+    private Map<String, List<Map<String, Object>>> lerAgregados() {
+        Map<String, List<Map<String, Object>>> agregados = new LinkedHashMap<>();
+        Map<String, String> contagens = Map.of(
+            "resumo_vendas_produtos", "numero_vendas",
+            "resumo_vendas_clientes", "numero_compras",
+            "resumo_vendas_hora", "numero_vendas",
+            "resumo_vendas_dia", "numero_vendas",
+            "saldos_receber_clientes", "vendas_pendentes");
+        for (Map.Entry<String, String> tabela : contagens.entrySet()) {
+            List<Map<String, Object>> linhas = jdbcTemplate.queryForList("SELECT * FROM " + tabela.getKey() +
+                    " WHERE " + tabela.getValue() + " <> 0 ORDER BY 1, 2, 3");
+            linhas.forEach(linha -> linha.replaceAll((coluna, valor) ->
+                    valor instanceof Double numero ? Math.round(numero * 1e6) / 1e6 : valor));
+            agregados.put(tabela.getKey(), linhas);
+        }
+        return agregados;
+    }
+
+    private List<Integer> contarConsultasDasListagens(VendaCriada venda) {
+        LocalDateTime agora = LocalDateTime.now();
+        return List.of(
+            contar(vendaService::listarTodos),
+            contar(() -> vendaService.buscarPorPeriodo(agora.minusYears(5), agora.plusDays(1))),
+            contar(() -> vendaService.buscarPorStatusPagamento("pendente")),
+            contar(() -> vendaService.buscarPorFormaPagamento("fiado")),
+            contar(() -> vendaService.buscarPorProduto(venda.idProduto())),
+            contar(() -> vendaService.buscarPorCliente(venda.idCliente()))
+        );
+    }
+
+    private int contar(Supplier<?> listagem) {
+        ContadorConsultas.CONSULTAS.set(0);
+        listagem.get();
+        return ContadorConsultas.CONSULTAS.get();
+    }
+
+    private VendaCriada inserirVendasComNovosProdutosEClientes(int quantidade) {
+        VendaCriada ultima = null;
+        for (int i = 0; i < quantidade; i++) {
+            String nomeProduto = "Produto teste " + UUID.randomUUID();
+            String nomeCliente = "Cliente teste " + UUID.randomUUID();
+            Long idProduto = jdbcTemplate.queryForObject(
+                    "INSERT INTO produtos (nome_produto, preco_kg) VALUES (?, 10.0) RETURNING id_produto",
+                    Long.class, nomeProduto);
+            Long idCliente = jdbcTemplate.queryForObject(
+                    "INSERT INTO clientes (nome) VALUES (?) RETURNING id_cliente", Long.class, nomeCliente);
+            Long idVenda = jdbcTemplate.queryForObject("INSERT INTO vendas (id_cliente, id_produto, peso_vendido, " +
+                    "preco_kg, total, forma_pagamento, status_pagamento, data_venda) " +
+                    "VALUES (?, ?, 1.0, 10.0, 10.0, 'fiado', 'pendente', ?) RETURNING id_venda",
+                    Long.class, idCliente, idProduto, Timestamp.valueOf(LocalDateTime.now()));
+            ultima = new VendaCriada(idVenda, idProduto, idCliente, nomeProduto, nomeCliente);
+        }
+        return ultima;
+    }
+}
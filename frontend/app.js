@@ -1,4 +1,6 @@
 const API_BASE_URL = 'http://localhost:8080/api';
+const TAMANHO_PAGINA = 500;
+const TAMANHO_PAGINA_VENDAS = 100;
 let currentSection = 'dashboard';
 
 document.addEventListener('DOMContentLoaded', function() {
@@ -75,13 +77,13 @@ async function apiRequest(endpoint, options = {}) {
 
     try {
         const config = {
+            ...options,
             method: options.method || 'GET',
             headers: {
                 'Content-Type': 'application/json',
                 ...options.headers
             },
-            signal: controller.signal,
-            ...options
+            signal: controller.signal
         };
 
         if (config.body && typeof config.body === 'object') {
@@ -131,110 +133,32 @@ function mostrarSucesso(mensagem) {
 
 async function carregarDashboard() {
     try {
-        const [vendas, clientes, estoque] = await Promise.all([
-            apiRequest('/vendas'),
-            apiRequest('/clientes'),
-            apiRequest('/estoque-ingredientes')
-        ]);
-
-        const vendasHoje = calcularVendasHoje(vendas);
-        const vendasMes = calcularVendasMes(vendas);
-        
-        document.getElementById('vendas-hoje').textContent = `R$ ${vendasHoje.toFixed(2)}`;
-        document.getElementById('vendas-mes').textContent = `R$ ${vendasMes.toFixed(2)}`;
-        document.getElementById('total-clientes').textContent = clientes ? clientes.length : 0;
-        
-        const alertasEstoque = estoque ? estoque.filter(e => 
-            e.precisaRepor || (e.quantidadeEstoque <= e.estoqueMinimo)
-        ).length : 0;
-        document.getElementById('alertas-estoque').textContent = alertasEstoque;
-
-        await carregarProdutosMaisVendidos(vendas);
-        await carregarTopClientesInadimplentes(vendas);
-
-    } catch (error) {
-        mostrarErro('Erro ao carregar dashboard: ' + error.message);
-    }
-}
-
-function calcularVendasHoje(vendas) {
-    if (!vendas || vendas.length === 0) return 0;
-
-    const hoje = new Date();
-    hoje.setHours(0, 0, 0, 0);
-    
-    const vendasHoje = vendas.filter(venda => {
-        const dataVenda = normalizarData(venda.dataVenda);
-        if (!dataVenda) return false;
-        dataVenda.setHours(0, 0, 0, 0);
-        return dataVenda.getTime() === hoje.getTime();
-    });
-
-    return vendasHoje.reduce((total, venda) => total + (venda.total || 0), 0);
-}
-
-function calcularVendasMes(vendas) {
-    if (!vendas || vendas.length === 0) return 0;
+        const resumo = await apiRequest('/dashboard/resumo');
+        if (!resumo) return;
 
-    const hoje = new Date();
-    const mesAtual = hoje.getMonth();
-    const anoAtual = hoje.getFullYear();
-    
-    const vendasMes = vendas.filter(venda => {
-        const dataVenda = normalizarData(venda.dataVenda);
-        if (!dataVenda) return false;
-        return dataVenda.getMonth() === mesAtual && dataVenda.getFullYear() === anoAtual;
-    });
+        document.getElementById('vendas-hoje').textContent = `R$ ${(resumo.vendasHoje || 0).toFixed(2)}`;
+        document.getElementById('vendas-mes').textContent = `R$ ${(resumo.vendasMes || 0).toFixed(2)}`;
+        document.getElementById('total-clientes').textContent = resumo.totalClientes || 0;
+        document.getElementById('alertas-estoque').textContent = resumo.alertasEstoque || 0;
 
-    return vendasMes.reduce((total, venda) => total + (venda.total || 0), 0);
-}
+        carregarProdutosMaisVendidos(resumo.produtosMaisVendidos);
+        carregarTopClientesInadimplentes(resumo.pendencias);
 
-function normalizarData(dataString) {
-    if (!dataString) return null;
-    
-    try {
-        let data = new Date(dataString);
-        if (!isNaN(data.getTime())) return data;
-        
-        data = new Date(dataString.replace(' ', 'T'));
-        if (!isNaN(data.getTime())) return data;
-        
-        if (dataString.includes('/')) {
-            const partes = dataString.split(' ')[0].split('/');
-            if (partes.length === 3) {
-                data = new Date(partes[2], partes[1] - 1, partes[0]);
-                if (!isNaN(data.getTime())) return data;
-            }
-        }
-        
-        return null;
     } catch (error) {
-        return null;
+        mostrarErro('Erro ao carregar dashboard: ' + error.message);
     }
 }
 
-async function carregarProdutosMaisVendidos(vendas) {
+function carregarProdutosMaisVendidos(produtos) {
     const produtosContainer = document.getElementById('produtos-mais-vendidos');
     
     try {
-        if (vendas && vendas.length > 0) {
-            const produtosVendidos = {};
-            
-            vendas.forEach(venda => {
-                const produtoNome = venda.nomeProduto || 'Produto não informado';
-                if (!produtosVendidos[produtoNome]) {
-                    produtosVendidos[produtoNome] = 0;
-                }
-                produtosVendidos[produtoNome] += 1;
-            });
-            
-            const produtosOrdenados = Object.entries(produtosVendidos)
-                .sort(([,a], [,b]) => b - a)
-                .slice(0, 3);
+        if (produtos && produtos.length > 0) {
+            const produtosOrdenados = produtos.slice(0, 3);
             
             const produtosHtml = `
                 <div class="top-tier-list">
-                    ${produtosOrdenados.map(([nome, quantidade], index) => {
+                    ${produtosOrdenados.map((produto, index) => {
                         const tierClass = `tier-${index + 1}`;
                         const tierIcon = getTierIcon(index + 1);
                         
@@ -245,7 +169,7 @@ async function carregarProdutosMaisVendidos(vendas) {
                                     <span class="tier-number">${index + 1}</span>
                                 </div>
                                 <div class="tier-product">
-                                    <span class="product-name">${nome}</span>
+                                    <span class="product-name">${produto.nomeProduto || 'Produto não informado'}</span>
                                 </div>
                             </div>
                         `;
@@ -261,34 +185,20 @@ async function carregarProdutosMaisVendidos(vendas) {
     }
 }
 
-async function carregarTopClientesInadimplentes(vendas) {
+function carregarTopClientesInadimplentes(pendencias) {
     const clientesContainer = document.getElementById('top-clientes-inadimplentes');
     
     try {
-        if (vendas && vendas.length > 0) {
-            const vendasPendentes = vendas.filter(v => v.statusPagamento === 'pendente' || v.statusPagamento === 'fiado');
-            const totalPendencias = vendasPendentes.reduce((total, v) => total + (v.total || 0), 0);
+        if (pendencias && pendencias.vendasPendentes > 0) {
+            const totalPendencias = pendencias.totalPendencias || 0;
             
-            const clientesInadimplentesMap = {};
-            vendasPendentes.forEach(venda => {
-                const clienteId = venda.idCliente;
-                const clienteNome = venda.nomeCliente || 'Cliente não identificado';
-                
-                if (!clientesInadimplentesMap[clienteId]) {
-                    clientesInadimplentesMap[clienteId] = {
-                        nome: clienteNome,
-                        total: 0,
-                        quantidade: 0
-                    };
-                }
-                
-                clientesInadimplentesMap[clienteId].total += venda.total || 0;
-                clientesInadimplentesMap[clienteId].quantidade += 1;
-            });
-            
-            const clientesInadimplentes = Object.values(clientesInadimplentesMap)
-                .sort((a, b) => b.total - a.total)
-                .slice(0, 4);
+            const clientesInadimplentes = (pendencias.clientesInadimplentes || [])
+                .slice(0, 4)
+                .map(cliente => ({
+                    nome: cliente.nomeCliente || 'Cliente não identificado',
+                    total: cliente.totalPendente || 0,
+                    quantidade: cliente.vendasPendentes || 0
+                }));
             
             const clientesHtml = `
                 <div class="inadimplencia-stats">
@@ -298,8 +208,14 @@ async function carregarTopClientesInadimplentes(vendas) {
                     </div>
                     <div class="stat-item">
                         <span class="stat-label">Vendas Pendentes:</span>
-                        <span class="stat-value">${vendasPendentes.length}</span>
+                        <span class="stat-value">${pendencias.vendasPendentes}</span>
+                    </div>
+                    ${pendencias.vendasSemCliente > 0 ? `
+                    <div class="stat-item">
+                        <span class="stat-label">Sem Cliente Identificado:</span>
+                        <span class="stat-value inadimplente">R$ ${(pendencias.totalSemCliente || 0).toFixed(2)} (${pendencias.vendasSemCliente})</span>
                     </div>
+                    ` : ''}
                 </div>
                 <div class="clientes-inadimplentes">
                     ${clientesInadimplentes.map(cliente => `
@@ -336,8 +252,26 @@ async function carregarTopClientesInadimplentes(vendas) {
     }
 }
 
+async function listarTodasPaginas(endpoint) {
+    const itens = [];
+    let cursor = null;
+    do {
+        const parametros = new URLSearchParams({ tamanho: TAMANHO_PAGINA });
+        if (cursor) {
+            parametros.set('cursor', cursor);
+        }
+        const pagina = await apiRequest(`${endpoint}?${parametros}`);
+        if (!pagina) {
+            return null;
+        }
+        itens.push(...pagina.itens);
+        cursor = pagina.proximoCursor;
+    } while (cursor);
+    return itens;
+}
+
 async function carregarClientes() {
-    const clientes = await apiRequest('/clientes');
+    const clientes = await listarTodasPaginas('/clientes');
     const tbody = document.getElementById('clientes-body');
     
     if (!clientes) {
@@ -432,7 +366,7 @@ async function deletarCliente(id) {
 }
 
 async function carregarProdutos() {
-    const produtos = await apiRequest('/produtos');
+    const produtos = await listarTodasPaginas('/produtos');
     const tbody = document.getElementById('produtos-body');
     
     if (!produtos) {
@@ -521,7 +455,7 @@ async function deletarProduto(id) {
 }
 
 async function carregarEstoque() {
-    const estoque = await apiRequest('/estoque-ingredientes');
+    const estoque = await listarTodasPaginas('/estoque-ingredientes');
     const tbody = document.getElementById('estoque-body');
     
     if (!estoque) {
@@ -642,7 +576,8 @@ async function deletarIngrediente(id) {
 }
 
 async function carregarVendas() {
-    const vendas = await apiRequest('/vendas');
+    const pagina = await apiRequest(`/vendas?tamanho=${TAMANHO_PAGINA_VENDAS}&ordenacao=dataVenda&direcao=desc`);
+    const vendas = pagina && pagina.itens;
     const tbody = document.getElementById('vendas-body');
     
     if (!vendas) {
@@ -673,7 +608,10 @@ async function carregarVendas() {
     `).join('');
 }
 
+let chaveIdempotenciaVenda = null;
+
 function abrirModalVenda(venda = null) {
+    chaveIdempotenciaVenda = crypto.randomUUID();
     const titulo = venda ? 'Editar Venda' : 'Nova Venda';
     const form = `
         <div class="form-group">
@@ -732,7 +670,7 @@ function abrirModalVenda(venda = null) {
 }
 
 async function carregarClientesParaVenda() {
-    const clientes = await apiRequest('/clientes');
+    const clientes = await listarTodasPaginas('/clientes');
     const select = document.getElementById('venda-cliente');
     if (clientes) {
         select.innerHTML = '<option value="">Selecione um cliente</option>' + 
@@ -743,7 +681,7 @@ async function carregarClientesParaVenda() {
 }
 
 async function carregarProdutosParaVenda() {
-    const produtos = await apiRequest('/produtos');
+    const produtos = await listarTodasPaginas('/produtos');
     const select = document.getElementById('venda-produto');
     if (produtos) {
         select.innerHTML = '<option value="">Selecione um produto</option>' + 
@@ -788,7 +726,11 @@ async function salvarVenda(id = null) {
     const endpoint = id ? `/vendas/${id}` : '/vendas';
     const method = id ? 'PUT' : 'POST';
 
-    const resultado = await apiRequest(endpoint, { method, body: dados });
+    const resultado = await apiRequest(endpoint, {
+        method,
+        body: dados,
+        headers: { 'Idempotency-Key': chaveIdempotenciaVenda }
+    });
 
     if (resultado) {
         mostrarSucesso(id ? 'Venda atualizada com sucesso!' : 'Venda criada com sucesso!');
@@ -817,7 +759,7 @@ async function cancelarVenda(id) {
 }
 
 async function carregarFuncionarios() {
-    const funcionarios = await apiRequest('/funcionarios');
+    const funcionarios = await listarTodasPaginas('/funcionarios');
     const tbody = document.getElementById('funcionarios-body');
     
     if (!funcionarios) {